@@ -0,0 +1,42 @@
+package io.github.badpop.celeritas.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of the benchmarks jar. It accepts the same arguments as the JMH command line, see {@code java -jar benchmarks.jar -h},
+ * and always runs the benchmarks with the GC profiler so that the allocation rate per operation ({@code gc.alloc.rate.norm})
+ * is reported next to the timings.
+ */
+public final class BenchmarksRunner {
+
+  private static final String GC_PROFILER = "gc";
+
+  private BenchmarksRunner() {
+  }
+
+  public static void main(String[] args) throws Exception {
+    final var commandLineOptions = new CommandLineOptions(args);
+
+    if (commandLineOptions.shouldHelp()
+      || commandLineOptions.shouldList()
+      || commandLineOptions.shouldListWithParams()
+      || commandLineOptions.shouldListProfilers()
+      || commandLineOptions.shouldListResultFormats()) {
+      Main.main(args);
+      return;
+    }
+
+    final var options = new OptionsBuilder().parent(commandLineOptions);
+    final var hasGcProfiler = commandLineOptions.getProfilers().stream()
+      .anyMatch(profiler -> GC_PROFILER.equals(profiler.getKlass()) || GCProfiler.class.getName().equals(profiler.getKlass()));
+    if (!hasGcProfiler) {
+      options.addProfiler(GCProfiler.class);
+    }
+
+    new Runner(options.build()).run();
+  }
+}
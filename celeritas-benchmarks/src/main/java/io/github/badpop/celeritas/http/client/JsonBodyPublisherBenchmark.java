@@ -0,0 +1,54 @@
+package io.github.badpop.celeritas.http.client;
+
+import io.github.badpop.celeritas.http.client.Payloads.Order;
+import io.github.badpop.celeritas.http.client.exception.JsonBodyPublisherCreationException;
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.net.http.HttpRequest.BodyPublisher;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the creation of a JSON {@link BodyPublisher} by the http client, across payload sizes.
+ * The publisher is not subscribed to: the body is serialized and encoded when the publisher is created.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonBodyPublisherBenchmark {
+
+  @Param({"10", "1000"})
+  private int orderLines;
+
+  private CeleritasHttpClient client;
+  private Order order;
+
+  @Setup
+  public void setUp() {
+    client = new CeleritasHttpClientImpl();
+    order = Payloads.order(orderLines);
+  }
+
+  @Benchmark
+  public BodyPublisher createJsonBodyPublisher() throws JsonBodyPublisherCreationException {
+    return client.createJsonBodyPublisher(order);
+  }
+
+  @Benchmark
+  public Try<BodyPublisher> tryToCreateJsonBodyPublisher() {
+    return client.tryToCreateJsonBodyPublisher(order);
+  }
+}
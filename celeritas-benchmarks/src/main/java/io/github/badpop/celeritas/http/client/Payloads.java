@@ -0,0 +1,34 @@
+package io.github.badpop.celeritas.http.client;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Generates the JSON payloads used by the http client benchmarks.
+ */
+public final class Payloads {
+
+  private Payloads() {
+  }
+
+  /**
+   * Generates an order made of the given number of lines
+   *
+   * @param lines the number of lines of the order
+   * @return the generated order
+   */
+  public static Order order(int lines) {
+    return new Order(
+      "order-" + lines,
+      "customer@celeritas.io",
+      IntStream.range(0, lines)
+        .mapToObj(i -> new OrderLine("product-" + i, "A product description with some text " + i, i % 10 + 1, i * 1.5))
+        .toList());
+  }
+
+  public record Order(String id, String customer, List<OrderLine> lines) {
+  }
+
+  public record OrderLine(String product, String description, int quantity, double price) {
+  }
+}
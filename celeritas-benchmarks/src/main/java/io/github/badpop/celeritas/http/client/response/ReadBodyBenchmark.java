@@ -0,0 +1,88 @@
+package io.github.badpop.celeritas.http.client.response;
+
+import io.github.badpop.celeritas.http.client.CeleritasHttpClient;
+import io.github.badpop.celeritas.http.client.CeleritasHttpClientImpl;
+import io.github.badpop.celeritas.http.client.Payloads;
+import io.github.badpop.celeritas.http.client.Payloads.Order;
+import io.github.badpop.celeritas.http.client.exception.ReadBodyException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Measures {@link CeleritasHttpResponseImpl#readBody(Class)} for each body type it supports, across payload sizes.
+ *
+ * <p> The body is the same JSON document for every body type, only its container changes.
+ * {@link java.io.InputStream} and {@link java.util.stream.Stream} bodies can only be read once, so each invocation wraps a new one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReadBodyBenchmark {
+
+  @Param({"STRING", "BYTE_ARRAY", "INPUT_STREAM", "PATH", "LINES"})
+  private String bodyType;
+
+  @Param({"10", "1000"})
+  private int orderLines;
+
+  private CeleritasHttpClient client;
+  private Path file;
+  private Supplier<Object> body;
+
+  @Setup
+  public void setUp() throws IOException {
+    client = new CeleritasHttpClientImpl();
+
+    final var order = Payloads.order(orderLines);
+    final var json = client.getObjectMapper().writeValueAsString(order);
+    final var bytes = json.getBytes(StandardCharsets.UTF_8);
+    final var lines = List.of(client.getObjectMapper().writerWithDefaultPrettyPrinter().writeValueAsString(order).split("\n"));
+    file = Files.createTempFile("celeritas-read-body", ".json");
+    Files.write(file, bytes);
+
+    body = switch (bodyType) {
+      case "STRING" -> () -> json;
+      case "BYTE_ARRAY" -> () -> bytes;
+      case "INPUT_STREAM" -> () -> new ByteArrayInputStream(bytes);
+      case "PATH" -> () -> file;
+      case "LINES" -> lines::stream;
+      default -> throw new IllegalArgumentException("Unknown body type " + bodyType);
+    };
+  }
+
+  @TearDown
+  public void tearDown() throws IOException {
+    Files.deleteIfExists(file);
+  }
+
+  @Benchmark
+  public Order readBody() throws ReadBodyException {
+    return CeleritasHttpResponseImpl.builder()
+      .usedClient(client)
+      .originalResponse(new StubHttpResponse<>(body.get()))
+      .build()
+      .readBody(Order.class);
+  }
+}
@@ -0,0 +1,66 @@
+package io.github.badpop.celeritas.http.client.response;
+
+import javax.net.ssl.SSLSession;
+import java.net.URI;
+import java.net.http.HttpClient.Version;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * An in-memory 200 response holding the given body.
+ *
+ * @param <T> the response body type
+ */
+final class StubHttpResponse<T> implements HttpResponse<T> {
+
+  private static final URI URI = java.net.URI.create("http://localhost/benchmark");
+
+  private final T body;
+
+  StubHttpResponse(T body) {
+    this.body = body;
+  }
+
+  @Override
+  public int statusCode() {
+    return 200;
+  }
+
+  @Override
+  public HttpRequest request() {
+    return HttpRequest.newBuilder(URI).build();
+  }
+
+  @Override
+  public Optional<HttpResponse<T>> previousResponse() {
+    return Optional.empty();
+  }
+
+  @Override
+  public HttpHeaders headers() {
+    return HttpHeaders.of(Map.of(), (name, value) -> true);
+  }
+
+  @Override
+  public T body() {
+    return body;
+  }
+
+  @Override
+  public Optional<SSLSession> sslSession() {
+    return Optional.empty();
+  }
+
+  @Override
+  public URI uri() {
+    return URI;
+  }
+
+  @Override
+  public Version version() {
+    return Version.HTTP_1_1;
+  }
+}
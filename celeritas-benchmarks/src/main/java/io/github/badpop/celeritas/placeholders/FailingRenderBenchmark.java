@@ -0,0 +1,72 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.control.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures renderings failing because a placeholder has no parameter: falling back without exception,
+ * returning a failed Try with and without stack trace, and catching the exception thrown by the strict format method.
+ *
+ * <p> The template contains 8 placeholders, the parameter of the last one is missing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailingRenderBenchmark {
+
+  private static final int PLACEHOLDERS = 8;
+
+  private DefaultPlaceholderFormatter formatter;
+  private DefaultFunctionalPlaceholderFormatter functionalFormatter;
+  private DefaultFunctionalPlaceholderFormatter stacklessFunctionalFormatter;
+  private String template;
+  private Map<String, Object> parameters;
+
+  @Setup
+  public void setUp() {
+    formatter = new DefaultPlaceholderFormatter();
+    functionalFormatter = new DefaultFunctionalPlaceholderFormatter();
+    stacklessFunctionalFormatter = DefaultPlaceholderFormatter.builder().stacklessExceptions(true).buildFunctional();
+    template = Templates.template(256, PLACEHOLDERS);
+    parameters = Templates.parameters(PLACEHOLDERS - 1, PLACEHOLDERS - 1);
+  }
+
+  @Benchmark
+  public String formatOrElse() {
+    return formatter.formatOrElse(template, parameters, () -> "fallback");
+  }
+
+  @Benchmark
+  public Try<String> tryToFormat() {
+    return functionalFormatter.tryToFormat(template, parameters);
+  }
+
+  @Benchmark
+  public Try<String> tryToFormatStackless() {
+    return stacklessFunctionalFormatter.tryToFormat(template, parameters);
+  }
+
+  @Benchmark
+  public String catchFormatException() {
+    try {
+      return formatter.format(template, parameters);
+    } catch (RuntimeException e) {
+      return "fallback";
+    }
+  }
+}
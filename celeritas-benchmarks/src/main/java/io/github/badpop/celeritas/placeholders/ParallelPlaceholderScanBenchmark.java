@@ -0,0 +1,73 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.collection.Seq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the sequential scan of very large templates with the parallel one, on pools of different sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelPlaceholderScanBenchmark {
+
+  @Param({"1048576", "16777216"})
+  private int templateLength;
+
+  @Param({"1", "4"})
+  private int parallelism;
+
+  private PlaceholderConfiguration configuration;
+  private ForkJoinPool pool;
+  private String template;
+
+  @Setup
+  public void setUp() {
+    configuration = PlaceholderConfiguration.newDefault();
+    pool = new ForkJoinPool(parallelism);
+    template = Templates.template(templateLength, templateLength / 256);
+  }
+
+  @TearDown
+  public void tearDown() {
+    pool.shutdown();
+  }
+
+  @Benchmark
+  public int countPlaceholders() {
+    return Formatter.countPlaceholders(configuration, template);
+  }
+
+  @Benchmark
+  public int countPlaceholdersInParallel() {
+    return ParallelPlaceholderScanner.countPlaceholders(configuration, template, pool);
+  }
+
+  @Benchmark
+  public Seq<String> getPlaceholders() {
+    return Formatter.getPlaceholders(configuration, template);
+  }
+
+  @Benchmark
+  public List<String> getPlaceholdersInParallel() {
+    return ParallelPlaceholderScanner.getPlaceholders(configuration, template, pool);
+  }
+}
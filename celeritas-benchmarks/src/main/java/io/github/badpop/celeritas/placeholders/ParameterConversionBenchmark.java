@@ -0,0 +1,63 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.collection.HashMap;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of copying the caller's parameters into a Vavr {@link HashMap} with {@link HashMap#ofAll(Map)},
+ * alone and as part of a rendering, against resolving the placeholders directly from the caller's map.
+ *
+ * <p> The template always contains 8 placeholders, the parameters map also contains unused entries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParameterConversionBenchmark {
+
+  private static final int PLACEHOLDERS = 8;
+
+  @Param({"8", "64", "512"})
+  private int parametersSize;
+
+  private PlaceholderConfiguration configuration;
+  private String template;
+  private Map<String, Object> parameters;
+
+  @Setup
+  public void setUp() {
+    configuration = PlaceholderConfiguration.newDefault();
+    template = Templates.template(256, PLACEHOLDERS);
+    parameters = Templates.parameters(PLACEHOLDERS, parametersSize);
+  }
+
+  @Benchmark
+  public HashMap<String, Object> copyToVavrMap() {
+    return HashMap.ofAll(parameters);
+  }
+
+  @Benchmark
+  public String formatWithVavrCopy() {
+    return Formatter.format(configuration, template, HashMap.ofAll(parameters));
+  }
+
+  @Benchmark
+  public String formatWithJavaMap() {
+    return Formatter.formatWith(configuration, template, ParameterResolver.of(parameters));
+  }
+}
@@ -0,0 +1,103 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the rendering of a template through the public formatter, in strict and ignoring mode,
+ * across template sizes and placeholder counts.
+ *
+ * <p> The ignoring benchmarks only receive half of the parameters, so half of the placeholders are left untouched.
+ * The UTF-8 benchmarks compare encoding the formatted string with rendering the template directly into a reused buffer.
+ * The cache miss benchmark formats twice as many distinct string formats as the default {@link TemplateCache} keeps, one after the other,
+ * so nearly all of them are compiled again and inserted into the full cache, evicting another one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderFormatBenchmark {
+
+  @Param({"64", "1024", "16384"})
+  private int templateLength;
+
+  @Param({"1", "8", "64"})
+  private int placeholderCount;
+
+  private PlaceholderFormatter formatter;
+  private String template;
+  private CompiledTemplate compiledTemplate;
+  private Map<String, Object> parameters;
+  private Map<String, Object> halfParameters;
+  private ByteBuffer utf8Buffer;
+  private String[] missingTemplates;
+  private int nextMissingTemplate;
+
+  @Setup
+  public void setUp() {
+    formatter = PlaceholderFormatter.newFormatter();
+    template = Templates.template(templateLength, placeholderCount);
+    compiledTemplate = formatter.compile(template);
+    parameters = Templates.parameters(placeholderCount, placeholderCount);
+    halfParameters = Templates.parameters(placeholderCount / 2, placeholderCount / 2);
+    utf8Buffer = ByteBuffer.allocateDirect(compiledTemplate.format(parameters).length() * 3);
+    missingTemplates = new String[TemplateCache.DEFAULT_MAXIMUM_SIZE * 2];
+    for (int i = 0; i < missingTemplates.length; i++) {
+      missingTemplates[i] = i + template;
+    }
+  }
+
+  @Benchmark
+  public String format() {
+    return formatter.format(template, parameters);
+  }
+
+  @Benchmark
+  public String formatMissingFromCache() {
+    final var strFormat = missingTemplates[nextMissingTemplate];
+    nextMissingTemplate = (nextMissingTemplate + 1) % missingTemplates.length;
+    return formatter.format(strFormat, parameters);
+  }
+
+  @Benchmark
+  public String formatIgnoringUnknownPlaceholders() {
+    return formatter.formatIgnoringUnknownPlaceholders(template, halfParameters);
+  }
+
+  @Benchmark
+  public String formatCompiled() {
+    return compiledTemplate.format(parameters);
+  }
+
+  @Benchmark
+  public String formatCompiledIgnoringUnknownPlaceholders() {
+    return compiledTemplate.formatIgnoringUnknownPlaceholders(halfParameters);
+  }
+
+  @Benchmark
+  public byte[] formatCompiledAndEncodeToUtf8() {
+    return compiledTemplate.format(parameters).getBytes(StandardCharsets.UTF_8);
+  }
+
+  @Benchmark
+  public int formatCompiledToUtf8Buffer() {
+    utf8Buffer.clear();
+    return compiledTemplate.formatToUtf8(utf8Buffer, parameters);
+  }
+}
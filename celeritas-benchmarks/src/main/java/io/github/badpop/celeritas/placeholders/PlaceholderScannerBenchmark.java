@@ -0,0 +1,58 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.collection.Seq;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the regex-free scanner used for plain prefix/suffix configurations with the regular expression used for custom ones.
+ * Both configurations below describe exactly the same placeholders.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PlaceholderScannerBenchmark {
+
+  @Param({"SCANNER", "REGEX"})
+  private String matcher;
+
+  @Param({"SHORT", "LARGE"})
+  private String templateSize;
+
+  private PlaceholderConfiguration configuration;
+  private String template;
+
+  @Setup
+  public void setUp() {
+    configuration = "SCANNER".equals(matcher)
+      ? PlaceholderConfiguration.newDefault()
+      : new PlaceholderConfiguration("[$][{]([\\w\\d_-]+)[}]", "${", "}");
+    template = "SHORT".equals(templateSize)
+      ? Templates.template(64, 2)
+      : Templates.template(8 * 1024, 64);
+  }
+
+  @Benchmark
+  public int countPlaceholders() {
+    return Formatter.countPlaceholders(configuration, template);
+  }
+
+  @Benchmark
+  public Seq<String> getPlaceholders() {
+    return Formatter.getPlaceholders(configuration, template);
+  }
+}
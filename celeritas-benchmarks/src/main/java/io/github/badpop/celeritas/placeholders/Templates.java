@@ -0,0 +1,47 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Generates the templates and parameters used by the placeholders benchmarks.
+ */
+final class Templates {
+
+  private Templates() {
+  }
+
+  /**
+   * Generates a template of approximately the given length, with placeholders evenly spread along literal text.
+   * Placeholders are named "key0", "key1"... and the literal text contains "$", "{" and "%" characters to exercise the scanners.
+   *
+   * @param length       the approximate length of the template
+   * @param placeholders the number of placeholders in the template
+   * @return the generated template
+   */
+  static String template(int length, int placeholders) {
+    final var literalLength = Math.max(1, (length - placeholders * 8) / (placeholders + 1));
+    final var literal = "Lorem ipsum $ dolor {sit} amet 100% ".repeat(literalLength / 36 + 1).substring(0, literalLength);
+
+    final var builder = new StringBuilder(length);
+    for (int i = 0; i < placeholders; i++) {
+      builder.append(literal).append("${key").append(i).append('}');
+    }
+    return builder.append(literal).toString();
+  }
+
+  /**
+   * Generates the parameters matching a template generated by {@link #template(int, int)}, plus unused ones.
+   *
+   * @param placeholders the number of placeholders of the template
+   * @param size         the total number of parameters
+   * @return the generated parameters
+   */
+  static Map<String, Object> parameters(int placeholders, int size) {
+    final var parameters = new HashMap<String, Object>();
+    for (int i = 0; i < Math.max(placeholders, size); i++) {
+      parameters.put("key" + i, "value" + i);
+    }
+    return parameters;
+  }
+}
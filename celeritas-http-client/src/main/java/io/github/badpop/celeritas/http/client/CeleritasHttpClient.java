@@ -1,7 +1,10 @@
 package io.github.badpop.celeritas.http.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.github.badpop.celeritas.http.client.response.CeleritasHttpResponse;
+import io.vavr.collection.Iterator;
 import io.vavr.concurrent.Future;
 import io.vavr.control.Try;
 import lombok.NonNull;
@@ -9,8 +12,11 @@ import lombok.NonNull;
 import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpResponse.BodyHandler;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 /**
  * CeleritasHttpClient is an http client built on top of the native {@link HttpClient} introduced in Java 11.
@@ -69,6 +75,145 @@ public interface CeleritasHttpClient extends HttpRequestBodyPublisherProvider, H
    */
   ObjectMapper getObjectMapper();
 
+  /**
+   * Returns the {@link ObjectReader} the client reads the JSON values of the given type with.
+   *
+   * <p>By default, a new reader is created by the underlying {@link ObjectMapper} on each call. The default client creates it the first time
+   * the type is used, then reuses it for all the responses, which saves resolving the type and its deserializer on each call.
+   *
+   * @param type the class of the values to read
+   * @return the reader of the given class
+   * @throws NullPointerException if the given class is null
+   */
+  default ObjectReader getObjectReader(@NonNull Class<?> type) {
+    return getObjectMapper().readerFor(type);
+  }
+
+  /**
+   * Performs the same operation as {@link #getObjectReader(Class)} for a generic type.
+   * The default client shares the same reader between the type references of the same generic type.
+   *
+   * @param type the type reference of the values to read
+   * @return the reader of the given type
+   * @throws NullPointerException if the given type reference is null
+   */
+  default ObjectReader getObjectReader(@NonNull TypeReference<?> type) {
+    return getObjectMapper().readerFor(type);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonBodyHandler(Class)}, the body being deserialized by the reader of {@link #getObjectReader(Class)}
+   */
+  @Override
+  default <U> BodyHandler<U> createJsonBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofJson(getObjectReader(type));
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonBodyHandler(TypeReference)}, the body being deserialized by the reader of
+   * {@link #getObjectReader(TypeReference)}
+   */
+  @Override
+  default <U> BodyHandler<U> createJsonBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofJson(getObjectReader(type));
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonArrayStreamBodyHandler(Class)}, the elements being deserialized by the reader of
+   * {@link #getObjectReader(Class)}
+   */
+  @Override
+  default <U> BodyHandler<Stream<U>> createJsonArrayStreamBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueStream(getObjectReader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonArrayStreamBodyHandler(TypeReference)}, the elements being deserialized by the reader of
+   * {@link #getObjectReader(TypeReference)}
+   */
+  @Override
+  default <U> BodyHandler<Stream<U>> createJsonArrayStreamBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueStream(getObjectReader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonArrayIteratorBodyHandler(Class)}, the elements being deserialized by the reader of
+   * {@link #getObjectReader(Class)}. The returned iterator must be fully consumed to release the connection.
+   */
+  @Override
+  default <U> BodyHandler<Iterator<U>> createJsonArrayIteratorBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueIterator(getObjectReader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createJsonArrayIteratorBodyHandler(TypeReference)}, the elements being deserialized by the reader of
+   * {@link #getObjectReader(TypeReference)}. The returned iterator must be fully consumed to release the connection.
+   */
+  @Override
+  default <U> BodyHandler<Iterator<U>> createJsonArrayIteratorBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueIterator(getObjectReader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createNdjsonStreamBodyHandler(Class)}, the values being deserialized by the reader of
+   * {@link #getObjectReader(Class)}
+   */
+  @Override
+  default <U> BodyHandler<Stream<U>> createNdjsonStreamBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueStream(getObjectReader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createNdjsonStreamBodyHandler(TypeReference)}, the values being deserialized by the reader of
+   * {@link #getObjectReader(TypeReference)}
+   */
+  @Override
+  default <U> BodyHandler<Stream<U>> createNdjsonStreamBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueStream(getObjectReader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createNdjsonIteratorBodyHandler(Class)}, the values being deserialized by the reader of
+   * {@link #getObjectReader(Class)}. The returned iterator must be fully consumed to release the connection.
+   */
+  @Override
+  default <U> BodyHandler<Iterator<U>> createNdjsonIteratorBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueIterator(getObjectReader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * See {@link HttpResponseBodyHandlerProvider#createNdjsonIteratorBodyHandler(TypeReference)}, the values being deserialized by the reader of
+   * {@link #getObjectReader(TypeReference)}. The returned iterator must be fully consumed to release the connection.
+   */
+  @Override
+  default <U> BodyHandler<Iterator<U>> createNdjsonIteratorBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueIterator(getObjectReader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * See {@link HttpRequestBodyPublisherProvider#createNdjsonBodyPublisher(Stream)}, the objects being serialized by {@link #getObjectMapper()}
+   */
+  @Override
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Stream<U> items) {
+    return NdjsonBodyPublisher.of(NdjsonBodyPublisher.lineWriter(getObjectMapper()), items);
+  }
+
+  /**
+   * See {@link HttpRequestBodyPublisherProvider#createNdjsonBodyPublisher(java.util.Iterator)}, the objects being serialized by {@link #getObjectMapper()}
+   */
+  @Override
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull java.util.Iterator<U> items) {
+    return NdjsonBodyPublisher.of(NdjsonBodyPublisher.lineWriter(getObjectMapper()), items);
+  }
+
+  /**
+   * See {@link HttpRequestBodyPublisherProvider#createNdjsonBodyPublisher(Flow.Publisher)}, the objects being serialized by {@link #getObjectMapper()}
+   */
+  @Override
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Flow.Publisher<U> items) {
+    return NdjsonBodyPublisher.of(NdjsonBodyPublisher.lineWriter(getObjectMapper()), items);
+  }
+
   /**
    * Sends the given request using this client, blocking if necessary to get the response.
    * The returned {@link CeleritasHttpResponse}{@code <T>} contains the response status, headers, and body ( as handled by given response body handler ).
@@ -1,6 +1,8 @@
 package io.github.badpop.celeritas.http.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import io.github.badpop.celeritas.http.client.exception.JsonBodyPublisherCreationException;
 import io.github.badpop.celeritas.http.client.response.CeleritasHttpResponse;
@@ -14,10 +16,11 @@ import java.io.IOException;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
-import java.net.http.HttpRequest.BodyPublishers;
 import java.net.http.HttpResponse;
 import java.net.http.HttpResponse.BodyHandler;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import static io.vavr.API.Failure;
 import static io.vavr.API.Try;
@@ -35,6 +38,11 @@ public class CeleritasHttpClientImpl implements CeleritasHttpClient {
   @With
   ObjectMapper objectMapper;
 
+  @Getter(value = AccessLevel.PRIVATE, lazy = true)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  JsonCodecCache codecs = new JsonCodecCache(objectMapper);
+
   public CeleritasHttpClientImpl() {
     this.httpClient = defaultHttpClient();
     this.objectMapper = defaultObjectMapper();
@@ -80,6 +88,16 @@ public class CeleritasHttpClientImpl implements CeleritasHttpClient {
     return executeAsyncFutureAndWrapResponse(request, responseBodyHandler);
   }
 
+  @Override
+  public ObjectReader getObjectReader(@NonNull Class<?> type) {
+    return getCodecs().reader(type);
+  }
+
+  @Override
+  public ObjectReader getObjectReader(@NonNull TypeReference<?> type) {
+    return getCodecs().reader(type.getType());
+  }
+
   @Override
   public <U> BodyPublisher createJsonBodyPublisher(@NonNull U body) throws JsonBodyPublisherCreationException {
     return tryToCreateJsonBodyPublisher(body)
@@ -90,14 +108,29 @@ public class CeleritasHttpClientImpl implements CeleritasHttpClient {
 
   @Override
   public <U> Try<BodyPublisher> tryToCreateJsonBodyPublisher(U body) {
-    if (objectMapper.canSerialize(body.getClass())) {
-      return Try(() -> objectMapper.writeValueAsString(body))
-        .mapTry(BodyPublishers::ofString);
+    val writer = getCodecs().writer(body.getClass());
+    if (writer.isDefined()) {
+      return Try(() -> JsonBodyPublisher.of(writer.get(), body));
     }
 
     return Failure(new JsonBodyPublisherCreationException("Unable to create body publisher, unsupported body type"));
   }
 
+  @Override
+  public <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Stream<U> items) {
+    return NdjsonBodyPublisher.of(getCodecs().lineWriter(), items);
+  }
+
+  @Override
+  public <U> BodyPublisher createNdjsonBodyPublisher(@NonNull java.util.Iterator<U> items) {
+    return NdjsonBodyPublisher.of(getCodecs().lineWriter(), items);
+  }
+
+  @Override
+  public <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Flow.Publisher<U> items) {
+    return NdjsonBodyPublisher.of(getCodecs().lineWriter(), items);
+  }
+
   private HttpClient defaultHttpClient() {
     return HttpClient.newHttpClient();
   }
@@ -11,7 +11,10 @@ import java.net.http.HttpRequest;
 import java.net.http.HttpRequest.BodyPublisher;
 import java.net.http.HttpRequest.BodyPublishers;
 import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 /**
  * Utility interface to build BodyPublishers from the Celeritas http client
@@ -22,6 +25,9 @@ public interface HttpRequestBodyPublisherProvider {
    * Method to create a {@link BodyPublisher} containing the given object serialized into JSON.
    * The returned BodyPublisher can then be inserted into an {@link HttpRequest}.
    *
+   * <p>The object is serialized directly into UTF-8 bytes, without an intermediate String, and large bodies are published chunk by chunk
+   * as the client requests them. The content length of the returned BodyPublisher is always known.
+   *
    * @param body the object you want to serialize into JSON. Must be of a serializable type. For more information take a look at {@link ObjectMapper#canSerialize}
    * @param <U>  a JSON serializable type
    * @return a new BodyPublisher containing the given object serialized into JSON
@@ -38,6 +44,50 @@ public interface HttpRequestBodyPublisherProvider {
    */
   <U> Try<BodyPublisher> tryToCreateJsonBodyPublisher(U body);
 
+  /**
+   * Method to create a {@link BodyPublisher} containing the objects of the given stream serialized into newline-delimited JSON (NDJSON), one line per object.
+   *
+   * <p>The objects are serialized while the body is sent, as the client requests it, so the whole body is never held in memory.
+   * The content length of the returned BodyPublisher is unknown. As the stream is consumed while the body is sent, the BodyPublisher can only be sent once.
+   * The stream is closed once it is fully consumed or once sending the body fails. Serialization failures fail the sending of the request.
+   *
+   * <p>By default, the objects are serialized by an {@link ObjectMapper} configured like the one of a default Celeritas client.
+   * The {@link CeleritasHttpClient} serializes them with its own ObjectMapper.
+   *
+   * @param items the objects you want to serialize into NDJSON. Must be of serializable types
+   * @param <U>   a JSON serializable type
+   * @return a new BodyPublisher containing the given objects serialized into NDJSON
+   * @throws NullPointerException if the given stream is null
+   */
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Stream<U> items) {
+    return NdjsonBodyPublisher.of(JsonCodecCache.getDefault().lineWriter(), items);
+  }
+
+  /**
+   * Performs the same operation as {@link #createNdjsonBodyPublisher(Stream)} for the objects of an iterator
+   *
+   * @param items the objects you want to serialize into NDJSON. Must be of serializable types
+   * @param <U>   a JSON serializable type
+   * @return a new BodyPublisher containing the given objects serialized into NDJSON
+   * @throws NullPointerException if the given iterator is null
+   */
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Iterator<U> items) {
+    return NdjsonBodyPublisher.of(JsonCodecCache.getDefault().lineWriter(), items);
+  }
+
+  /**
+   * Performs the same operation as {@link #createNdjsonBodyPublisher(Stream)} for the objects published by a {@link Flow.Publisher}.
+   * Each object is sent as soon as it is published, and the objects are requested from the publisher only when the client requests more of the body.
+   *
+   * @param items the publisher of the objects you want to serialize into NDJSON. Must be of serializable types
+   * @param <U>   a JSON serializable type
+   * @return a new BodyPublisher containing the published objects serialized into NDJSON
+   * @throws NullPointerException if the given publisher is null
+   */
+  default <U> BodyPublisher createNdjsonBodyPublisher(@NonNull Flow.Publisher<U> items) {
+    return NdjsonBodyPublisher.of(JsonCodecCache.getDefault().lineWriter(), items);
+  }
+
   /**
    * See {@link BodyPublishers#noBody}
    */
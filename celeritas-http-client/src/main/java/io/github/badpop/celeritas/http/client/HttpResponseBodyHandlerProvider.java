@@ -1,5 +1,8 @@
 package io.github.badpop.celeritas.http.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.vavr.collection.Iterator;
 import lombok.NonNull;
 
 import java.net.http.HttpResponse.BodyHandler;
@@ -65,4 +68,155 @@ public interface HttpResponseBodyHandlerProvider {
   default BodyHandler<Stream<String>> createLinesBodyHandler() {
     return BodyHandlers.ofLines();
   }
+
+  /**
+   * Method to create a {@link BodyHandler} deserializing the JSON body of the response into an object of the given class.
+   *
+   * <p>The body is parsed while it is received, each chunk being released as soon as it is parsed, without copying the whole body
+   * into a String or a byte array first. The parsed tokens are kept until the last byte of the body arrives, when the object is deserialized,
+   * so the memory used is still proportional to the size of the body. Numbers are deserialized as the object mapper would deserialize them,
+   * according to its {@link com.fasterxml.jackson.databind.DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS} configuration.
+   *
+   * <p>By default, the body is deserialized by an {@link ObjectMapper} configured like the one of a default Celeritas client.
+   * The {@link CeleritasHttpClient} deserializes it with its own ObjectMapper.
+   *
+   * @param type the class of the object to deserialize. For more information take a look at {@link ObjectMapper#readValue}
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler deserializing the JSON body, completed exceptionally if the body is not a valid JSON of the given type
+   * @throws NullPointerException if the given class is null
+   */
+  default <U> BodyHandler<U> createJsonBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofJson(JsonCodecCache.getDefault().reader(type));
+  }
+
+  /**
+   * Performs the same operation as {@link #createJsonBodyHandler(Class)} for a generic type, such as a {@code List<MyObject>}
+   *
+   * @param type the type reference of the object to deserialize
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler deserializing the JSON body, completed exceptionally if the body is not a valid JSON of the given type
+   * @throws NullPointerException if the given type reference is null
+   */
+  default <U> BodyHandler<U> createJsonBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofJson(JsonCodecCache.getDefault().reader(type.getType()));
+  }
+
+  /**
+   * Method to create a {@link BodyHandler} deserializing the elements of a JSON array body one by one, as the returned stream is consumed.
+   *
+   * <p>The stream is returned as soon as the response headers are received. The body is then read as the elements are consumed and only a bounded
+   * amount of it is buffered: the server is not read faster than the stream is consumed, so huge arrays are processed in constant memory.
+   * The stream is lazy and blocks while waiting for the next part of the body, reading failures are thrown as {@link java.io.UncheckedIOException}.
+   * Close the stream if it is not fully consumed, to release the connection.
+   *
+   * <p>By default, the elements are deserialized by an {@link ObjectMapper} configured like the one of a default Celeritas client.
+   * The {@link CeleritasHttpClient} deserializes them with its own ObjectMapper.
+   *
+   * @param type the class of the elements of the array
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy stream of the elements of the JSON array
+   * @throws NullPointerException if the given class is null
+   */
+  default <U> BodyHandler<Stream<U>> createJsonArrayStreamBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueStream(JsonCodecCache.getDefault().reader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * Performs the same operation as {@link #createJsonArrayStreamBodyHandler(Class)} for elements of a generic type
+   *
+   * @param type the type reference of the elements of the array
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy stream of the elements of the JSON array
+   * @throws NullPointerException if the given type reference is null
+   */
+  default <U> BodyHandler<Stream<U>> createJsonArrayStreamBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueStream(JsonCodecCache.getDefault().reader(type.getType()), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * Performs the same operation as {@link #createJsonArrayStreamBodyHandler(Class)} but returns a lazy Vavr {@link Iterator}.
+   *
+   * <p><b>The returned iterator can't be closed: it must be fully consumed.</b> The connection is only released once the iterator is fully consumed
+   * or once reading fails. An iterator abandoned before the end of the array keeps the connection open until the server closes it,
+   * so use {@link #createJsonArrayStreamBodyHandler(Class)} and close the stream when the elements may not all be consumed.
+   *
+   * @param type the class of the elements of the array
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy iterator over the elements of the JSON array
+   * @throws NullPointerException if the given class is null
+   */
+  default <U> BodyHandler<Iterator<U>> createJsonArrayIteratorBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueIterator(JsonCodecCache.getDefault().reader(type), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * Performs the same operation as {@link #createJsonArrayIteratorBodyHandler(Class)} for elements of a generic type
+   *
+   * @param type the type reference of the elements of the array
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy iterator over the elements of the JSON array
+   * @throws NullPointerException if the given type reference is null
+   */
+  default <U> BodyHandler<Iterator<U>> createJsonArrayIteratorBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueIterator(JsonCodecCache.getDefault().reader(type.getType()), JsonValueIterator::ofArray);
+  }
+
+  /**
+   * Method to create a {@link BodyHandler} deserializing a newline-delimited JSON (NDJSON) body one line at a time, as the returned stream is consumed.
+   *
+   * <p>Each line of the body is a JSON value, deserialized into an object of the given class. Like {@link #createJsonArrayStreamBodyHandler(Class)},
+   * the stream is returned as soon as the response headers are received and the body is read with bounded buffering as the stream is consumed,
+   * so a line is available as soon as it is received. Close the stream if it is not fully consumed, to release the connection.
+   *
+   * <p>By default, the values are deserialized by an {@link ObjectMapper} configured like the one of a default Celeritas client.
+   * The {@link CeleritasHttpClient} deserializes them with its own ObjectMapper.
+   *
+   * @param type the class of the values of the lines
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy stream of the values of the lines
+   * @throws NullPointerException if the given class is null
+   */
+  default <U> BodyHandler<Stream<U>> createNdjsonStreamBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueStream(JsonCodecCache.getDefault().reader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * Performs the same operation as {@link #createNdjsonStreamBodyHandler(Class)} for values of a generic type
+   *
+   * @param type the type reference of the values of the lines
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy stream of the values of the lines
+   * @throws NullPointerException if the given type reference is null
+   */
+  default <U> BodyHandler<Stream<U>> createNdjsonStreamBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueStream(JsonCodecCache.getDefault().reader(type.getType()), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * Performs the same operation as {@link #createNdjsonStreamBodyHandler(Class)} but returns a lazy Vavr {@link Iterator}.
+   *
+   * <p><b>The returned iterator can't be closed: it must be fully consumed.</b> The connection is only released once the iterator is fully consumed
+   * or once reading fails. An iterator abandoned before the last line keeps the connection open until the server closes it,
+   * so use {@link #createNdjsonStreamBodyHandler(Class)} and close the stream when the values may not all be consumed.
+   *
+   * @param type the class of the values of the lines
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy iterator over the values of the lines
+   * @throws NullPointerException if the given class is null
+   */
+  default <U> BodyHandler<Iterator<U>> createNdjsonIteratorBodyHandler(@NonNull Class<U> type) {
+    return JsonBodyHandlers.ofValueIterator(JsonCodecCache.getDefault().reader(type), JsonValueIterator::ofLines);
+  }
+
+  /**
+   * Performs the same operation as {@link #createNdjsonIteratorBodyHandler(Class)} for values of a generic type
+   *
+   * @param type the type reference of the values of the lines
+   * @param <U>  a JSON deserializable type
+   * @return a new BodyHandler returning a lazy iterator over the values of the lines
+   * @throws NullPointerException if the given type reference is null
+   */
+  default <U> BodyHandler<Iterator<U>> createNdjsonIteratorBodyHandler(@NonNull TypeReference<U> type) {
+    return JsonBodyHandlers.ofValueIterator(JsonCodecCache.getDefault().reader(type.getType()), JsonValueIterator::ofLines);
+  }
 }
@@ -0,0 +1,59 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import io.vavr.collection.Iterator;
+
+import java.io.InputStream;
+import java.net.http.HttpResponse.BodyHandler;
+import java.net.http.HttpResponse.BodySubscribers;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The JSON {@link BodyHandler}s of the providers, built from the reader of the deserialized type.
+ *
+ * <p> The default methods of {@link HttpResponseBodyHandlerProvider} read with the readers of {@link JsonCodecCache#getDefault()},
+ * the {@link CeleritasHttpClient} overrides them to read with its own ObjectMapper.
+ */
+final class JsonBodyHandlers {
+
+  private JsonBodyHandlers() {
+  }
+
+  /**
+   * @param reader the reader of the body
+   * @param <U>    the type of the body
+   * @return a handler deserializing the JSON body while it is received
+   */
+  static <U> BodyHandler<U> ofJson(ObjectReader reader) {
+    return responseInfo -> new JsonBodySubscriber<>(reader);
+  }
+
+  /**
+   * @param reader the reader of the values
+   * @param values the iterator over the values of the body, such as {@link JsonValueIterator#ofArray}
+   * @param <U>    the type of the values
+   * @return a handler returning a lazy stream of the values, closing the body when it is closed
+   */
+  static <U> BodyHandler<Stream<U>> ofValueStream(ObjectReader reader, BiFunction<ObjectReader, InputStream, JsonValueIterator<U>> values) {
+    return ofValues(reader, values, JsonValueIterator::toStream);
+  }
+
+  /**
+   * @param reader the reader of the values
+   * @param values the iterator over the values of the body, such as {@link JsonValueIterator#ofArray}
+   * @param <U>    the type of the values
+   * @return a handler returning a lazy iterator over the values, closing the body only once it is fully consumed or once reading fails
+   */
+  static <U> BodyHandler<Iterator<U>> ofValueIterator(ObjectReader reader, BiFunction<ObjectReader, InputStream, JsonValueIterator<U>> values) {
+    return ofValues(reader, values, Iterator::ofAll);
+  }
+
+  private static <U, R> BodyHandler<R> ofValues(
+    ObjectReader reader, BiFunction<ObjectReader, InputStream, JsonValueIterator<U>> values, Function<JsonValueIterator<U>, R> finisher) {
+    return responseInfo -> BodySubscribers.mapping(
+      BodySubscribers.ofInputStream(),
+      input -> finisher.apply(values.apply(reader, input)));
+  }
+}
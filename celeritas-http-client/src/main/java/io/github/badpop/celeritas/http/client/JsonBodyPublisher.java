@@ -0,0 +1,211 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A {@link BodyPublisher} of a JSON body, serialized by the Jackson generator straight into UTF-8 chunks.
+ *
+ * <p> Serializing the body with {@link ObjectMapper#writeValueAsString(Object)} materializes it as a UTF-16 string,
+ * which is then encoded again into UTF-8 bytes by {@link BodyPublishers#ofString(String)}. Here the generator writes UTF-8 bytes into chunks
+ * allocated as the body grows: the body only takes about its own size in memory, plus the free space of its last chunk.
+ *
+ * <p> The first chunk is reused by the serializing thread from one body to the next. Bodies fitting in it are copied out
+ * and published by {@link BodyPublishers#ofByteArray(byte[])}, so small bodies only allocate their own bytes.
+ * Larger bodies are published chunk by chunk, one chunk for each item requested by the subscriber, so the client pulls the body at its own pace.
+ * Like the JDK publishers, a JsonBodyPublisher can be subscribed again, to resend the body on a redirect for example.
+ *
+ * <p> Only the first chunk is pooled, on purpose. The following chunks are the body itself: they are handed to the http client
+ * and must stay untouched as long as the request can be sent again, by a redirect or by {@code HttpResponseSendBack#retry()},
+ * and nothing tells a publisher when that is no longer possible. Returning them to a pool would let a later body overwrite a request
+ * still being sent, so they are left to the garbage collector, which reclaims them cheaply as they are only allocated for large bodies.
+ */
+final class JsonBodyPublisher implements BodyPublisher {
+
+  static final int FIRST_CHUNK_SIZE = 1 << 13;
+  static final int MAXIMUM_CHUNK_SIZE = 1 << 20;
+
+  private static final ThreadLocal<byte[]> FIRST_CHUNKS = new ThreadLocal<>();
+
+  private final List<ByteBuffer> chunks;
+  private final long contentLength;
+
+  private JsonBodyPublisher(List<ByteBuffer> chunks, long contentLength) {
+    this.chunks = chunks;
+    this.contentLength = contentLength;
+  }
+
+  /**
+   * Serialize the given body into a new publisher
+   *
+   * @param writer the writer serializing the body
+   * @param body   the body to serialize
+   * @return a publisher of the JSON body, with a known content length
+   * @throws IOException if the body could not be serialized
+   */
+  static BodyPublisher of(ObjectWriter writer, Object body) throws IOException {
+    var firstChunk = FIRST_CHUNKS.get();
+    if (firstChunk == null) {
+      firstChunk = new byte[FIRST_CHUNK_SIZE];
+    } else {
+      // a body serialized while serializing this one gets its own first chunk
+      FIRST_CHUNKS.remove();
+    }
+
+    try {
+      final var output = new ChunkedOutputStream(firstChunk);
+      writer.writeValue(output, body);
+
+      if (output.chunks.size() == 1) {
+        return BodyPublishers.ofByteArray(Arrays.copyOf(firstChunk, output.position));
+      }
+
+      return new JsonBodyPublisher(output.toBuffers(), output.size);
+    } finally {
+      FIRST_CHUNKS.set(firstChunk);
+    }
+  }
+
+  @Override
+  public long contentLength() {
+    return contentLength;
+  }
+
+  @Override
+  public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+    subscriber.onSubscribe(new ChunkSubscription(subscriber, chunks));
+  }
+
+  /**
+   * The subscription delivering the chunks of the body, as many as requested by the subscriber.
+   * Deliveries are serialized by a work-in-progress counter, so requests made from {@code onNext} don't recurse.
+   */
+  private static final class ChunkSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private final List<ByteBuffer> chunks;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private volatile boolean done;
+    private int next;
+
+    private ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, List<ByteBuffer> chunks) {
+      this.subscriber = subscriber;
+      this.chunks = chunks;
+    }
+
+    @Override
+    public void request(long n) {
+      if (done) {
+        return;
+      }
+
+      if (n <= 0) {
+        done = true;
+        subscriber.onError(new IllegalArgumentException("The number of requested chunks must be positive, got " + n));
+        return;
+      }
+
+      demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      done = true;
+    }
+
+    private void drain() {
+      if (workInProgress.getAndIncrement() != 0) {
+        return;
+      }
+
+      do {
+        while (!done && next < chunks.size() && demand.get() > 0) {
+          demand.decrementAndGet();
+          subscriber.onNext(chunks.get(next++).duplicate());
+        }
+
+        if (!done && next == chunks.size()) {
+          done = true;
+          subscriber.onComplete();
+        }
+      } while (workInProgress.decrementAndGet() != 0);
+    }
+  }
+
+  /**
+   * An output stream writing into chunks doubling in size up to {@link #MAXIMUM_CHUNK_SIZE}.
+   * The reused first chunk is copied once it is full, the bytes written in the following chunks are never copied.
+   */
+  private static final class ChunkedOutputStream extends OutputStream {
+
+    private final List<byte[]> chunks = new ArrayList<>();
+    private byte[] current;
+    private int position;
+    private long size;
+
+    private ChunkedOutputStream(byte[] firstChunk) {
+      current = firstChunk;
+      chunks.add(firstChunk);
+    }
+
+    @Override
+    public void write(int b) {
+      if (position == current.length) {
+        nextChunk();
+      }
+
+      current[position++] = (byte) b;
+      size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      while (length > 0) {
+        if (position == current.length) {
+          nextChunk();
+        }
+
+        final var written = Math.min(length, current.length - position);
+        System.arraycopy(bytes, offset, current, position, written);
+        position += written;
+        offset += written;
+        length -= written;
+        size += written;
+      }
+    }
+
+    private void nextChunk() {
+      if (chunks.size() == 1) {
+        chunks.set(0, current.clone());
+      }
+
+      current = new byte[Math.min(current.length * 2, MAXIMUM_CHUNK_SIZE)];
+      chunks.add(current);
+      position = 0;
+    }
+
+    private List<ByteBuffer> toBuffers() {
+      final var buffers = new ArrayList<ByteBuffer>(chunks.size());
+      for (int i = 0; i < chunks.size(); i++) {
+        final var chunk = chunks.get(i);
+        final var length = i == chunks.size() - 1 ? position : chunk.length;
+        buffers.add(ByteBuffer.wrap(chunk, 0, length).asReadOnlyBuffer());
+      }
+      return List.copyOf(buffers);
+    }
+  }
+}
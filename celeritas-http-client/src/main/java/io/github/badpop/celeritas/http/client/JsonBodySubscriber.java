@@ -0,0 +1,141 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+import java.net.http.HttpResponse.BodySubscriber;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+/**
+ * A {@link BodySubscriber} deserializing a JSON body while it is received.
+ *
+ * <p> Each chunk of the body is fed to a Jackson non-blocking parser as soon as it arrives and then released, so the body is never copied
+ * into a String or a byte array. As Jackson binds objects from a blocking parser only, the parsed tokens are recorded in a {@link TokenBuffer},
+ * which the object is bound from when the last chunk arrives. The body is requested one chunk at a time.
+ * The tokens of the whole body are held until then, so the peak memory is still proportional to the size of the body, like when reading a String.
+ *
+ * <p> Floating-point numbers are recorded as {@link java.math.BigDecimal}, so that BigDecimal targets keep their exact value and scale.
+ * Unless the reader enables {@link DeserializationFeature#USE_BIG_DECIMAL_FOR_FLOATS}, they are then exposed as doubles to untyped targets,
+ * such as the values of a {@code Map<String, Object>}, which receive the same numbers as when the body is read by the object mapper.
+ *
+ * @param <U> the type of the deserialized body
+ */
+final class JsonBodySubscriber<U> implements BodySubscriber<U> {
+
+  private final ObjectReader reader;
+  private final CompletableFuture<U> body = new CompletableFuture<>();
+
+  private Flow.Subscription subscription;
+  private JsonParser parser;
+  private TokenBuffer tokens;
+
+  JsonBodySubscriber(ObjectReader reader) {
+    this.reader = reader;
+  }
+
+  @Override
+  public CompletionStage<U> getBody() {
+    return body;
+  }
+
+  @Override
+  public void onSubscribe(Flow.Subscription subscription) {
+    if (this.subscription != null) {
+      subscription.cancel();
+      return;
+    }
+
+    this.subscription = subscription;
+    try {
+      parser = reader.getFactory().createNonBlockingByteBufferParser();
+      // floats would otherwise be copied as doubles, losing the exact value of BigDecimal targets
+      tokens = new TokenBuffer(parser).forceUseOfBigDecimal(true);
+    } catch (IOException e) {
+      fail(e);
+      return;
+    }
+
+    subscription.request(1);
+  }
+
+  @Override
+  public void onNext(List<ByteBuffer> items) {
+    if (body.isDone()) {
+      return;
+    }
+
+    try {
+      for (final var item : items) {
+        ((ByteBufferFeeder) parser.getNonBlockingInputFeeder()).feedInput(item);
+        readAvailableTokens();
+      }
+    } catch (IOException e) {
+      fail(e);
+      return;
+    }
+
+    subscription.request(1);
+  }
+
+  @Override
+  public void onError(Throwable throwable) {
+    body.completeExceptionally(throwable);
+  }
+
+  @Override
+  public void onComplete() {
+    if (body.isDone()) {
+      return;
+    }
+
+    try {
+      parser.getNonBlockingInputFeeder().endOfInput();
+      readAvailableTokens();
+      body.complete(reader.readValue(bufferedParser()));
+    } catch (IOException | RuntimeException e) {
+      body.completeExceptionally(e);
+    }
+  }
+
+  private void readAvailableTokens() throws IOException {
+    JsonToken token;
+    while ((token = parser.nextToken()) != JsonToken.NOT_AVAILABLE && token != null) {
+      tokens.copyCurrentEvent(parser);
+    }
+  }
+
+  private JsonParser bufferedParser() {
+    final var bufferedParser = tokens.asParser(reader);
+    if (reader.isEnabled(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS)) {
+      return bufferedParser;
+    }
+
+    return new JsonParserDelegate(bufferedParser) {
+
+      @Override
+      public NumberType getNumberType() throws IOException {
+        return hasToken(JsonToken.VALUE_NUMBER_FLOAT) ? NumberType.DOUBLE : super.getNumberType();
+      }
+
+      @Override
+      public Number getNumberValue() throws IOException {
+        return hasToken(JsonToken.VALUE_NUMBER_FLOAT) ? getDoubleValue() : super.getNumberValue();
+      }
+    };
+  }
+
+  private void fail(IOException e) {
+    subscription.cancel();
+    body.completeExceptionally(e);
+  }
+}
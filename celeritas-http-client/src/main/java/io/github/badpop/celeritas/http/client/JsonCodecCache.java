@@ -0,0 +1,82 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.vavr.control.Option;
+import io.vavr.jackson.datatype.VavrModule;
+
+import java.lang.reflect.Type;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The readers and writers of a client, built once per type by its {@link ObjectMapper} and then shared by all the requests and responses.
+ *
+ * <p> Reading or writing through the ObjectMapper resolves the type and looks its root deserializer or serializer up on each call.
+ * An {@link ObjectReader} or {@link ObjectWriter} created for a given type resolves them once, and is immutable and thread-safe.
+ * The readers are keyed by {@link Type}, so type references created at each call for the same generic type share the same reader.
+ * As the types used by an application are a fixed set, the caches are not bounded.
+ *
+ * <p> Like the readers and writers themselves, the cache reflects the configuration of the ObjectMapper when a type is first used:
+ * the ObjectMapper must be fully configured before the client is used.
+ */
+final class JsonCodecCache {
+
+  private static final JsonCodecCache DEFAULT = new JsonCodecCache(new ObjectMapper().registerModules(new VavrModule(), new JavaTimeModule()));
+
+  private final ObjectMapper objectMapper;
+  private final ConcurrentMap<Type, ObjectReader> readers = new ConcurrentHashMap<>();
+  private final ConcurrentMap<Class<?>, Option<ObjectWriter>> writers = new ConcurrentHashMap<>();
+  private volatile ObjectWriter lineWriter;
+
+  JsonCodecCache(ObjectMapper objectMapper) {
+    this.objectMapper = objectMapper;
+  }
+
+  /**
+   * @return the codecs of an ObjectMapper configured like the one of a default client, used by the default methods of the providers
+   */
+  static JsonCodecCache getDefault() {
+    return DEFAULT;
+  }
+
+  /**
+   * @param type the type of the values to read
+   * @return the reader of the given type
+   */
+  ObjectReader reader(Type type) {
+    // looked up before computing, so that hits don't allocate the capturing lambda
+    final var reader = readers.get(type);
+    return reader != null
+      ? reader
+      : readers.computeIfAbsent(type, key -> objectMapper.readerFor(objectMapper.constructType(key)));
+  }
+
+  /**
+   * @param type the class of the values to write
+   * @return the writer of the given class, or none if the ObjectMapper can't serialize it
+   */
+  Option<ObjectWriter> writer(Class<?> type) {
+    final var writer = writers.get(type);
+    return writer != null
+      ? writer
+      : writers.computeIfAbsent(type, key -> objectMapper.canSerialize(key)
+        ? Option.some(objectMapper.writerFor(key))
+        : Option.none());
+  }
+
+  /**
+   * @return the writer of the NDJSON lines, writing values of any type
+   */
+  ObjectWriter lineWriter() {
+    var writer = lineWriter;
+    if (writer == null) {
+      // racing threads build equivalent writers, any of them can be kept
+      writer = NdjsonBodyPublisher.lineWriter(objectMapper);
+      lineWriter = writer;
+    }
+    return writer;
+  }
+}
@@ -0,0 +1,142 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * An iterator over JSON values deserialized one by one from an input stream: the elements of a top-level JSON array,
+ * or the root-level values of a newline-delimited JSON (NDJSON) body.
+ *
+ * <p> Only the element being deserialized is held in memory, the input is read as the elements are consumed.
+ * Nothing is read until the first call to {@link #hasNext()} or {@link #next()}, so the iterator can be created on a thread that must not block.
+ * The input is closed once the array is fully consumed, when reading fails or when the iterator is closed.
+ * Reading failures are thrown as {@link UncheckedIOException}, like the lines of a {@link java.io.BufferedReader}.
+ *
+ * @param <U> the type of the values
+ */
+final class JsonValueIterator<U> implements Iterator<U>, Closeable {
+
+  private final ObjectReader reader;
+  private final InputStream input;
+  private final boolean array;
+
+  private JsonParser parser;
+  private boolean advanced;
+  private boolean closed;
+
+  private JsonValueIterator(ObjectReader reader, InputStream input, boolean array) {
+    this.reader = reader;
+    this.input = input;
+    this.array = array;
+  }
+
+  /**
+   * @param reader the reader of the elements
+   * @param input  the input containing a top-level JSON array
+   * @return an iterator over the elements of the array
+   */
+  static <U> JsonValueIterator<U> ofArray(ObjectReader reader, InputStream input) {
+    return new JsonValueIterator<>(reader, input, true);
+  }
+
+  /**
+   * @param reader the reader of the values
+   * @param input  the input containing JSON values separated by new lines
+   * @return an iterator over the values, one per line
+   */
+  static <U> JsonValueIterator<U> ofLines(ObjectReader reader, InputStream input) {
+    return new JsonValueIterator<>(reader, input, false);
+  }
+
+  /**
+   * @return a sequential stream of the values, closing this iterator when it is closed
+   */
+  Stream<U> toStream() {
+    return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED), false)
+      .onClose(this::close);
+  }
+
+  @Override
+  public boolean hasNext() {
+    if (closed) {
+      return false;
+    }
+
+    if (!advanced) {
+      advance();
+    }
+    return !closed;
+  }
+
+  @Override
+  public U next() {
+    if (!hasNext()) {
+      throw new NoSuchElementException("No more JSON values in the body");
+    }
+
+    advanced = false;
+    try {
+      return reader.readValue(parser);
+    } catch (IOException e) {
+      throw failure(e);
+    }
+  }
+
+  @Override
+  public void close() {
+    if (closed) {
+      return;
+    }
+
+    closed = true;
+    try {
+      if (parser != null) {
+        parser.close();
+      }
+      input.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private void advance() {
+    try {
+      if (parser == null) {
+        parser = reader.createParser(input);
+        if (array && parser.nextToken() != JsonToken.START_ARRAY) {
+          throw new JsonParseException(parser, "Expected the body to be a JSON array but found " + parser.currentToken());
+        }
+      }
+
+      advanced = true;
+      final var token = parser.nextToken();
+      if (array ? token == JsonToken.END_ARRAY : token == null) {
+        close();
+      }
+    } catch (IOException e) {
+      throw failure(e);
+    }
+  }
+
+  private UncheckedIOException failure(IOException e) {
+    try {
+      close();
+    } catch (UncheckedIOException closing) {
+      e.addSuppressed(closing.getCause());
+    }
+    return new UncheckedIOException(e);
+  }
+}
@@ -0,0 +1,417 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.nio.ByteBuffer;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+/**
+ * Publishers of a newline-delimited JSON (NDJSON) body, serializing a sequence of objects as one JSON line per object.
+ *
+ * <p> All the lines of a body are written by a single Jackson generator, through an {@link ObjectWriter} shared by all the bodies, into UTF-8 bytes.
+ * The objects are serialized as the client requests the body and the content length is unknown, so the body is sent with chunked encoding.
+ * Objects pulled from a {@link Stream} or an {@link Iterator} are gathered into chunks of about {@link #BATCH_SIZE} bytes,
+ * while each object pushed by a {@link Flow.Publisher} is sent in its own chunk, as soon as it is published, and requested only when the client
+ * requests more of the body.
+ *
+ * <p> The sequence of objects is consumed while the body is published, so the body can only be published once,
+ * a request with an NDJSON body can't be resent on a redirect.
+ */
+final class NdjsonBodyPublisher {
+
+  static final int BATCH_SIZE = 1 << 13;
+
+  private NdjsonBodyPublisher() {
+  }
+
+  /**
+   * @param writer the writer serializing the objects, created by {@link #lineWriter(ObjectMapper)}
+   * @param items  the objects to serialize, closed once the body is published or cancelled
+   * @return a publisher of the NDJSON body
+   */
+  static BodyPublisher of(ObjectWriter writer, Stream<?> items) {
+    return BodyPublishers.fromPublisher(new IteratorPublisher(writer, items.iterator(), items::close));
+  }
+
+  /**
+   * @param writer the writer serializing the objects, created by {@link #lineWriter(ObjectMapper)}
+   * @param items  the objects to serialize
+   * @return a publisher of the NDJSON body
+   */
+  static BodyPublisher of(ObjectWriter writer, Iterator<?> items) {
+    return BodyPublishers.fromPublisher(new IteratorPublisher(writer, items, () -> {
+    }));
+  }
+
+  /**
+   * @param writer the writer serializing the objects, created by {@link #lineWriter(ObjectMapper)}
+   * @param items  the publisher of the objects to serialize
+   * @return a publisher of the NDJSON body
+   */
+  static BodyPublisher of(ObjectWriter writer, Flow.Publisher<?> items) {
+    return BodyPublishers.fromPublisher(new MappingPublisher(writer, items));
+  }
+
+  /**
+   * @param objectMapper the mapper serializing the objects
+   * @return a writer serializing each object on a single line, to share between the NDJSON bodies
+   */
+  static ObjectWriter lineWriter(ObjectMapper objectMapper) {
+    // the lines are terminated explicitly, instead of being separated by the generator
+    return objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT).withRootValueSeparator("");
+  }
+
+  private static <T> boolean subscribeOnce(AtomicBoolean subscribed, Flow.Subscriber<? super T> subscriber) {
+    if (subscribed.compareAndSet(false, true)) {
+      return true;
+    }
+
+    subscriber.onSubscribe(new Flow.Subscription() {
+      @Override
+      public void request(long n) {
+      }
+
+      @Override
+      public void cancel() {
+      }
+    });
+    subscriber.onError(new IllegalStateException("An NDJSON body can only be published once"));
+    return false;
+  }
+
+  /**
+   * Pulls the objects from an iterator, as many as needed to fill the chunks requested by the subscriber.
+   */
+  private static final class IteratorPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final ObjectWriter writer;
+    private final Iterator<?> items;
+    private final Runnable onClose;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private IteratorPublisher(ObjectWriter writer, Iterator<?> items, Runnable onClose) {
+      this.writer = writer;
+      this.items = items;
+      this.onClose = onClose;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      if (subscribeOnce(subscribed, subscriber)) {
+        subscriber.onSubscribe(new IteratorSubscription(subscriber, writer, items, onClose));
+      }
+    }
+  }
+
+  /**
+   * The subscription serializing the objects of an iterator. Requests and cancellation are serialized with the deliveries
+   * by a work-in-progress counter, so the lines are always written and released by one thread at a time.
+   */
+  private static final class IteratorSubscription implements Flow.Subscription {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private final ObjectWriter writer;
+    private final Iterator<?> items;
+    private final Runnable onClose;
+    private final AtomicLong demand = new AtomicLong();
+    private final AtomicInteger workInProgress = new AtomicInteger();
+    private volatile boolean cancelled;
+    private volatile IllegalArgumentException invalidRequest;
+    private LineOutput lines;
+    private boolean done;
+
+    private IteratorSubscription(Flow.Subscriber<? super ByteBuffer> subscriber, ObjectWriter writer, Iterator<?> items, Runnable onClose) {
+      this.subscriber = subscriber;
+      this.writer = writer;
+      this.items = items;
+      this.onClose = onClose;
+    }
+
+    @Override
+    public void request(long n) {
+      if (n <= 0) {
+        invalidRequest = new IllegalArgumentException("The number of requested chunks must be positive, got " + n);
+      } else {
+        demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+      }
+      drain();
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      drain();
+    }
+
+    private void drain() {
+      if (workInProgress.getAndIncrement() != 0) {
+        return;
+      }
+
+      do {
+        if (!done && invalidRequest != null) {
+          release();
+          subscriber.onError(invalidRequest);
+        }
+
+        while (!done && !cancelled && demand.get() > 0) {
+          emit();
+        }
+
+        if (!done && cancelled) {
+          release();
+        }
+      } while (workInProgress.decrementAndGet() != 0);
+    }
+
+    private void emit() {
+      try {
+        if (lines == null) {
+          lines = new LineOutput(writer);
+        }
+
+        while (lines.size() < BATCH_SIZE && items.hasNext()) {
+          lines.write(items.next());
+        }
+
+        if (lines.size() > 0) {
+          demand.decrementAndGet();
+          subscriber.onNext(lines.take());
+        }
+
+        if (!items.hasNext()) {
+          release();
+          subscriber.onComplete();
+        }
+      } catch (IOException | RuntimeException e) {
+        release();
+        subscriber.onError(e);
+      }
+    }
+
+    private void release() {
+      done = true;
+      try {
+        if (lines != null) {
+          lines.close();
+        }
+      } catch (IOException ignored) {
+        // the lines are written in memory, closing them can't fail
+      } finally {
+        onClose.run();
+      }
+    }
+  }
+
+  /**
+   * Serializes each object pushed by an upstream publisher into its own chunk. The demand of the subscriber is forwarded as is to the upstream publisher.
+   */
+  private static final class MappingPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final ObjectWriter writer;
+    private final Flow.Publisher<?> items;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    private MappingPublisher(ObjectWriter writer, Flow.Publisher<?> items) {
+      this.writer = writer;
+      this.items = items;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+      if (subscribeOnce(subscribed, subscriber)) {
+        items.subscribe(new MappingSubscriber(subscriber, writer));
+      }
+    }
+  }
+
+  /**
+   * The subscriber serializing the objects of the upstream publisher. The subscription given to the subscriber of the body cancels the upstream publisher
+   * and releases the generator, which is locked while a line is written, as the cancellation may come from another thread.
+   */
+  private static final class MappingSubscriber implements Flow.Subscriber<Object> {
+
+    private final Flow.Subscriber<? super ByteBuffer> subscriber;
+    private final ObjectWriter writer;
+    private Flow.Subscription upstream;
+    private LineOutput lines;
+    private boolean done;
+
+    private MappingSubscriber(Flow.Subscriber<? super ByteBuffer> subscriber, ObjectWriter writer) {
+      this.subscriber = subscriber;
+      this.writer = writer;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      upstream = subscription;
+      subscriber.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+          upstream.request(n);
+        }
+
+        @Override
+        public void cancel() {
+          upstream.cancel();
+          release();
+        }
+      });
+    }
+
+    @Override
+    public void onNext(Object item) {
+      final ByteBuffer line;
+      try {
+        line = writeLine(item);
+      } catch (IOException | RuntimeException e) {
+        upstream.cancel();
+        onError(e);
+        return;
+      }
+
+      if (line != null) {
+        subscriber.onNext(line);
+      }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      if (release()) {
+        subscriber.onError(throwable);
+      }
+    }
+
+    @Override
+    public void onComplete() {
+      if (release()) {
+        subscriber.onComplete();
+      }
+    }
+
+    private synchronized ByteBuffer writeLine(Object item) throws IOException {
+      if (done) {
+        return null;
+      }
+
+      if (lines == null) {
+        lines = new LineOutput(writer);
+      }
+      lines.write(item);
+      return lines.take();
+    }
+
+    /**
+     * @return true if the generator was released by this call, false if the body was already completed or cancelled
+     */
+    private synchronized boolean release() {
+      if (done) {
+        return false;
+      }
+
+      done = true;
+      try {
+        if (lines != null) {
+          lines.close();
+        }
+      } catch (IOException ignored) {
+        // the lines are written in memory, closing them can't fail
+      }
+      return true;
+    }
+  }
+
+  /**
+   * The in-memory output of the generator writing the lines, taken out chunk by chunk.
+   */
+  private static final class LineOutput {
+
+    private final ObjectWriter writer;
+    private final ChunkOutput output = new ChunkOutput();
+    private final JsonGenerator generator;
+
+    private LineOutput(ObjectWriter writer) throws IOException {
+      this.writer = writer;
+      this.generator = writer.createGenerator(output);
+    }
+
+    private void write(Object item) throws IOException {
+      writer.writeValue(generator, item);
+      generator.writeRaw('\n');
+    }
+
+    private int size() {
+      return output.size() + generator.getOutputBuffered();
+    }
+
+    private ByteBuffer take() throws IOException {
+      generator.flush();
+      return output.take();
+    }
+
+    private void close() throws IOException {
+      generator.close();
+    }
+  }
+
+  /**
+   * An output stream writing into arrays of {@link #BATCH_SIZE} bytes, which are handed off to the client without being copied.
+   * Each chunk taken is a view of the bytes written since the previous one, and the next lines are written after it in the same array,
+   * so small lines share an array instead of allocating one each. Once an array is full, only the bytes not taken yet are moved to the next one.
+   */
+  private static final class ChunkOutput extends OutputStream {
+
+    private byte[] chunk = new byte[BATCH_SIZE];
+    private int start;
+    private int position;
+
+    @Override
+    public void write(int b) {
+      ensureCapacity(1);
+      chunk[position++] = (byte) b;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+      ensureCapacity(length);
+      System.arraycopy(bytes, offset, chunk, position, length);
+      position += length;
+    }
+
+    private int size() {
+      return position - start;
+    }
+
+    private ByteBuffer take() {
+      final var taken = ByteBuffer.wrap(chunk, start, position - start).slice();
+      start = position;
+      return taken;
+    }
+
+    private void ensureCapacity(int length) {
+      if (chunk.length - position >= length) {
+        return;
+      }
+
+      // the bytes already taken belong to the client, the previous array is left to it
+      final var pending = position - start;
+      final var next = new byte[Math.max(BATCH_SIZE, pending + length)];
+      System.arraycopy(chunk, start, next, 0, pending);
+      chunk = next;
+      start = 0;
+      position = pending;
+    }
+  }
+}
@@ -251,29 +251,20 @@ public class CeleritasHttpResponseImpl<T> implements CeleritasHttpResponse<T> {
       throw new ReadBodyException("The current response body is null");
     }
 
-    val objectMapper = usedClient.getObjectMapper();
+    val reader = clazz != null
+      ? usedClient.getObjectReader(clazz)
+      : usedClient.getObjectReader(tr);
 
     if (body() instanceof String sBody) {
-      return clazz != null
-        ? objectMapper.readValue(sBody, clazz)
-        : objectMapper.readValue(sBody, tr);
+      return reader.readValue(sBody);
     } else if (body() instanceof Path pathBody) {
-      val file = pathBody.toFile();
-      return clazz != null
-        ? objectMapper.readValue(file, clazz)
-        : objectMapper.readValue(file, tr);
+      return reader.readValue(pathBody.toFile());
     } else if (body() instanceof InputStream isBody) {
-      return clazz != null
-        ? objectMapper.readValue(isBody, clazz)
-        : objectMapper.readValue(isBody, tr);
+      return reader.readValue(isBody);
     } else if (body() instanceof byte[] baBody) {
-      return clazz != null
-        ? objectMapper.readValue(baBody, clazz)
-        : objectMapper.readValue(baBody, tr);
+      return reader.readValue(baBody);
     } else if (body() instanceof Stream streamBody) {
-      return clazz != null
-        ? objectMapper.readValue(((Stream<String>) streamBody).collect(Collectors.joining()), clazz)
-        : objectMapper.readValue(((Stream<String>) streamBody).collect(Collectors.joining()), tr);
+      return reader.readValue(((Stream<String>) streamBody).collect(Collectors.joining()));
     }
 
     throw new UnsupportedBodyTypeException("The current response body type is not supported");
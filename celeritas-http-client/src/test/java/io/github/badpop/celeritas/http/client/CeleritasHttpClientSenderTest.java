@@ -1,16 +1,20 @@
 package io.github.badpop.celeritas.http.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import io.github.badpop.celeritas.http.client.extension.MockServerExtension;
 import lombok.val;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockserver.integration.ClientAndServer;
 import org.mockserver.model.HttpError;
+import org.mockserver.verify.VerificationTimes;
 
 import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.util.Map;
+import java.util.stream.Stream;
 
 import static java.lang.Boolean.TRUE;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -44,6 +48,76 @@ class CeleritasHttpClientSenderTest {
     mockServer.verify(mockRequest);
   }
 
+  @Test
+  void should_send_request_and_deserialize_json_body(String host, Integer port, ClientAndServer mockServer) throws InterruptedException, IOException {
+    val path = "/path";
+    val request = HttpRequest.newBuilder()
+      .GET()
+      .uri(URI.create(String.format("%s:%s%s", host, port, path)))
+      .build();
+    val bodyHandler = client.createJsonBodyHandler(new TypeReference<Map<String, Integer>>() {});
+
+    val mockRequest = request().withMethod("GET").withPath(path);
+    mockServer
+      .when(mockRequest)
+      .respond(
+        response().withStatusCode(200).withBody("{\"value\":1234}"));
+
+    val actual = client.send(request, bodyHandler);
+
+    assertThat(actual.statusCode()).isEqualTo(200);
+    assertThat(actual.body()).isEqualTo(Map.of("value", 1234));
+    mockServer.verify(mockRequest);
+  }
+
+  @Test
+  void should_send_request_and_stream_json_array_body(String host, Integer port, ClientAndServer mockServer) throws InterruptedException, IOException {
+    val path = "/path";
+    val request = HttpRequest.newBuilder()
+      .GET()
+      .uri(URI.create(String.format("%s:%s%s", host, port, path)))
+      .build();
+
+    val mockRequest = request().withMethod("GET").withPath(path);
+    mockServer
+      .when(mockRequest)
+      .respond(
+        response().withStatusCode(200).withBody("[{\"value\":1},{\"value\":2}]"));
+
+    val streamResponse = client.send(request, client.createJsonArrayStreamBodyHandler(new TypeReference<Map<String, Integer>>() {}));
+    try (val stream = streamResponse.body()) {
+      assertThat(stream).containsExactly(Map.of("value", 1), Map.of("value", 2));
+    }
+
+    val iteratorResponse = client.send(request, client.createJsonArrayIteratorBodyHandler(Map.class));
+    assertThat(iteratorResponse.body().toList()).containsExactly(Map.of("value", 1), Map.of("value", 2));
+
+    mockServer.verify(mockRequest, VerificationTimes.exactly(2));
+  }
+
+  @Test
+  void should_send_and_receive_ndjson_body(String host, Integer port, ClientAndServer mockServer) throws InterruptedException, IOException {
+    val path = "/path";
+    val body = client.createNdjsonBodyPublisher(Stream.of(Map.of("value", 1), Map.of("value", 2)));
+    val request = HttpRequest.newBuilder()
+      .POST(body)
+      .uri(URI.create(String.format("%s:%s%s", host, port, path)))
+      .build();
+
+    val mockRequest = request().withMethod("POST").withPath(path).withBody("{\"value\":1}\n{\"value\":2}\n");
+    mockServer
+      .when(mockRequest)
+      .respond(
+        response().withStatusCode(200).withBody("{\"value\":3}\n{\"value\":4}\n"));
+
+    val response = client.send(request, client.createNdjsonStreamBodyHandler(new TypeReference<Map<String, Integer>>() {}));
+    try (val stream = response.body()) {
+      assertThat(stream).containsExactly(Map.of("value", 3), Map.of("value", 4));
+    }
+
+    mockServer.verify(mockRequest);
+  }
+
   @Test
   void should_fail_to_send_request(String host, Integer port, ClientAndServer mockServer) {
     val path = "/path";
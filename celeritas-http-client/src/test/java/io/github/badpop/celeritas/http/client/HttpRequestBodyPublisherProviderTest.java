@@ -1,7 +1,7 @@
 package io.github.badpop.celeritas.http.client;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.exc.InvalidFormatException;
 import io.github.badpop.celeritas.http.client.exception.JsonBodyPublisherCreationException;
 import lombok.val;
@@ -13,8 +13,16 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
@@ -32,29 +40,53 @@ class HttpRequestBodyPublisherProviderTest {
   @Mock
   private ObjectMapper objectMapper;
 
+  @Mock
+  private ObjectWriter objectWriter;
+
   @Nested
   class CreateJsonBodyPublisher {
 
     @Test
-    void should_create() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_create() throws IOException {
       val body = new Object();
       val json = "{\"property\": 1234}";
 
       when(objectMapper.canSerialize(body.getClass())).thenReturn(true);
-      when(objectMapper.writeValueAsString(body)).thenReturn(json);
+      when(objectMapper.writerFor(body.getClass())).thenReturn(objectWriter);
+      doAnswer(invocation -> {
+        invocation.<OutputStream>getArgument(0).write(json.getBytes(StandardCharsets.UTF_8));
+        return null;
+      }).when(objectWriter).writeValue(any(OutputStream.class), eq(body));
 
       val actual = bodyPublisherProvider.createJsonBodyPublisher(body);
 
       assertThat(actual.contentLength()).isEqualTo(json.length());
 
       verify(objectMapper).canSerialize(body.getClass());
-      verify(objectMapper).writeValueAsString(body);
-      verifyNoMoreInteractions(objectMapper);
+      verify(objectMapper).writerFor(body.getClass());
+      verify(objectWriter).writeValue(any(OutputStream.class), eq(body));
+      verifyNoMoreInteractions(objectMapper, objectWriter);
       verifyNoInteractions(httpClient);
     }
 
     @Test
-    void should_not_create_if_not_serializable() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_look_writer_up_once_per_class() throws IOException {
+      val body = new Object();
+
+      when(objectMapper.canSerialize(body.getClass())).thenReturn(true);
+      when(objectMapper.writerFor(body.getClass())).thenReturn(objectWriter);
+
+      bodyPublisherProvider.createJsonBodyPublisher(body);
+      bodyPublisherProvider.createJsonBodyPublisher(new Object());
+
+      verify(objectMapper).canSerialize(body.getClass());
+      verify(objectMapper).writerFor(body.getClass());
+      verify(objectWriter, times(2)).writeValue(any(OutputStream.class), any(Object.class));
+      verifyNoMoreInteractions(objectMapper, objectWriter);
+    }
+
+    @Test
+    void should_not_create_if_not_serializable() throws IOException {
       val body = new Object();
 
       when(objectMapper.canSerialize(body.getClass())).thenReturn(false);
@@ -68,19 +100,21 @@ class HttpRequestBodyPublisherProviderTest {
     }
 
     @Test
-    void should_not_create_on_serialization_error() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_not_create_on_serialization_error() throws IOException {
       val body = new Object();
       val ex = new InvalidFormatException(null, "error", null, null);
 
       when(objectMapper.canSerialize(body.getClass())).thenReturn(true);
-      when(objectMapper.writeValueAsString(body)).thenThrow(ex);
+      when(objectMapper.writerFor(body.getClass())).thenReturn(objectWriter);
+      doThrow(ex).when(objectWriter).writeValue(any(OutputStream.class), eq(body));
 
       assertThatExceptionOfType(JsonBodyPublisherCreationException.class)
         .isThrownBy(() -> bodyPublisherProvider.createJsonBodyPublisher(body));
 
       verify(objectMapper).canSerialize(body.getClass());
-      verify(objectMapper).writeValueAsString(body);
-      verifyNoMoreInteractions(objectMapper);
+      verify(objectMapper).writerFor(body.getClass());
+      verify(objectWriter).writeValue(any(OutputStream.class), eq(body));
+      verifyNoMoreInteractions(objectMapper, objectWriter);
       verifyNoInteractions(httpClient);
     }
 
@@ -96,12 +130,16 @@ class HttpRequestBodyPublisherProviderTest {
   class TryToCreateJsonBodyPublisher {
 
     @Test
-    void should_create() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_create() throws IOException {
       val body = new Object();
       val json = "{\"property\": 1234}";
 
       when(objectMapper.canSerialize(body.getClass())).thenReturn(true);
-      when(objectMapper.writeValueAsString(body)).thenReturn(json);
+      when(objectMapper.writerFor(body.getClass())).thenReturn(objectWriter);
+      doAnswer(invocation -> {
+        invocation.<OutputStream>getArgument(0).write(json.getBytes(StandardCharsets.UTF_8));
+        return null;
+      }).when(objectWriter).writeValue(any(OutputStream.class), eq(body));
 
       val actual = bodyPublisherProvider.tryToCreateJsonBodyPublisher(body);
 
@@ -109,13 +147,14 @@ class HttpRequestBodyPublisherProviderTest {
       assertThat(actual.get().contentLength()).isEqualTo(json.length());
 
       verify(objectMapper).canSerialize(body.getClass());
-      verify(objectMapper).writeValueAsString(body);
-      verifyNoMoreInteractions(objectMapper);
+      verify(objectMapper).writerFor(body.getClass());
+      verify(objectWriter).writeValue(any(OutputStream.class), eq(body));
+      verifyNoMoreInteractions(objectMapper, objectWriter);
       verifyNoInteractions(httpClient);
     }
 
     @Test
-    void should_not_create_if_not_serializable() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_not_create_if_not_serializable() throws IOException {
       val body = new Object();
       val json = "{\"property\": 1234}";
 
@@ -132,20 +171,22 @@ class HttpRequestBodyPublisherProviderTest {
     }
 
     @Test
-    void should_not_create_on_serialization_error() throws JsonProcessingException, JsonBodyPublisherCreationException {
+    void should_not_create_on_serialization_error() throws IOException {
       val body = new Object();
       val ex = new InvalidFormatException(null, "error", null, null);
 
       when(objectMapper.canSerialize(body.getClass())).thenReturn(true);
-      when(objectMapper.writeValueAsString(body)).thenThrow(ex);
+      when(objectMapper.writerFor(body.getClass())).thenReturn(objectWriter);
+      doThrow(ex).when(objectWriter).writeValue(any(OutputStream.class), eq(body));
 
       val actual = bodyPublisherProvider.tryToCreateJsonBodyPublisher(body);
 
       VavrAssertions.assertThat(actual).failBecauseOf(InvalidFormatException.class);
 
       verify(objectMapper).canSerialize(body.getClass());
-      verify(objectMapper).writeValueAsString(body);
-      verifyNoMoreInteractions(objectMapper);
+      verify(objectMapper).writerFor(body.getClass());
+      verify(objectWriter).writeValue(any(OutputStream.class), eq(body));
+      verifyNoMoreInteractions(objectMapper, objectWriter);
       verifyNoInteractions(httpClient);
     }
   }
@@ -156,6 +197,37 @@ class HttpRequestBodyPublisherProviderTest {
     assertThat(actual).isNotNull();
   }
 
+  @Test
+  void should_create_ndjson_publisher_by_default() {
+    val provider = mock(HttpRequestBodyPublisherProvider.class, CALLS_REAL_METHODS);
+    val body = new ByteArrayOutputStream();
+
+    provider.createNdjsonBodyPublisher(Stream.of(io.vavr.collection.List.of(1, 2), io.vavr.collection.List.of(3)))
+      .subscribe(new Flow.Subscriber<>() {
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+          subscription.request(Long.MAX_VALUE);
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+          val bytes = new byte[item.remaining()];
+          item.get(bytes);
+          body.writeBytes(bytes);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+        }
+
+        @Override
+        public void onComplete() {
+        }
+      });
+
+    assertThat(body.toString(StandardCharsets.UTF_8)).isEqualTo("[1,2]\n[3]\n");
+  }
+
   @Test
   void should_not_create_publisher_on_null_body() {
     assertThatExceptionOfType(NullPointerException.class)
@@ -166,5 +238,11 @@ class HttpRequestBodyPublisherProviderTest {
       .isThrownBy(() -> bodyPublisherProvider.createByteArrayBodyPublisher(null));
     assertThatExceptionOfType(NullPointerException.class)
       .isThrownBy(() -> bodyPublisherProvider.createFileBodyPublisher(null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyPublisherProvider.createNdjsonBodyPublisher((Stream<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyPublisherProvider.createNdjsonBodyPublisher((Iterator<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyPublisherProvider.createNdjsonBodyPublisher((Flow.Publisher<?>) null));
   }
 }
@@ -1,5 +1,6 @@
 package io.github.badpop.celeritas.http.client;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.val;
 import org.junit.jupiter.api.Test;
@@ -10,9 +11,15 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.net.http.HttpClient;
 import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.Flow;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(MockitoExtension.class)
 class HttpResponseBodyHandlerProviderTest {
@@ -70,4 +77,110 @@ class HttpResponseBodyHandlerProviderTest {
       .usingRecursiveComparison()
       .isEqualTo(BodyHandlers.ofLines());
   }
+
+  @Test
+  void should_create_json_handler_by_default() {
+    val provider = mock(HttpResponseBodyHandlerProvider.class, CALLS_REAL_METHODS);
+
+    val subscriber = provider.createJsonBodyHandler(new TypeReference<io.vavr.collection.List<Integer>>() {}).apply(null);
+    subscriber.onSubscribe(new NoopSubscription());
+    subscriber.onNext(List.of(ByteBuffer.wrap("[1, 2]".getBytes(StandardCharsets.UTF_8))));
+    subscriber.onComplete();
+
+    assertThat(subscriber.getBody().toCompletableFuture().join()).containsExactly(1, 2);
+  }
+
+  @Test
+  void should_release_connection_only_once_iterator_is_fully_consumed() {
+    val provider = mock(HttpResponseBodyHandlerProvider.class, CALLS_REAL_METHODS);
+    val subscription = new RecordingSubscription();
+
+    val subscriber = provider.createJsonArrayIteratorBodyHandler(Integer.class).apply(null);
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(List.of(ByteBuffer.wrap("[1, 2, 3]".getBytes(StandardCharsets.UTF_8))));
+    val elements = subscriber.getBody().toCompletableFuture().join();
+
+    // an iterator abandoned before the end of the array can't be closed, the connection stays open
+    assertThat(elements.next()).isEqualTo(1);
+    assertThat(subscription.cancelled).isFalse();
+
+    assertThat(elements.toList()).containsExactly(2, 3);
+    assertThat(subscription.cancelled).isTrue();
+  }
+
+  @Test
+  void should_release_connection_when_stream_is_closed_before_the_end() {
+    val provider = mock(HttpResponseBodyHandlerProvider.class, CALLS_REAL_METHODS);
+    val subscription = new RecordingSubscription();
+
+    val subscriber = provider.createJsonArrayStreamBodyHandler(Integer.class).apply(null);
+    subscriber.onSubscribe(subscription);
+    subscriber.onNext(List.of(ByteBuffer.wrap("[1, 2, 3]".getBytes(StandardCharsets.UTF_8))));
+
+    try (val elements = subscriber.getBody().toCompletableFuture().join()) {
+      assertThat(elements.findFirst()).contains(1);
+    }
+    assertThat(subscription.cancelled).isTrue();
+  }
+
+  @Test
+  void should_not_create_json_handler_with_null_class() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonBodyHandler((Class<?>) null));
+  }
+
+  @Test
+  void should_not_create_json_handler_with_null_type_reference() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonBodyHandler((TypeReference<?>) null));
+  }
+
+  @Test
+  void should_not_create_json_array_handlers_with_null_type() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonArrayStreamBodyHandler((Class<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonArrayStreamBodyHandler((TypeReference<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonArrayIteratorBodyHandler((Class<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createJsonArrayIteratorBodyHandler((TypeReference<?>) null));
+  }
+
+  @Test
+  void should_not_create_ndjson_handlers_with_null_type() {
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createNdjsonStreamBodyHandler((Class<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createNdjsonStreamBodyHandler((TypeReference<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createNdjsonIteratorBodyHandler((Class<?>) null));
+    assertThatExceptionOfType(NullPointerException.class)
+      .isThrownBy(() -> bodyHandlerProvider.createNdjsonIteratorBodyHandler((TypeReference<?>) null));
+  }
+
+  private static class NoopSubscription implements Flow.Subscription {
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+    }
+  }
+
+  private static class RecordingSubscription implements Flow.Subscription {
+
+    boolean cancelled;
+
+    @Override
+    public void request(long n) {
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
 }
@@ -0,0 +1,128 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.badpop.celeritas.http.client.util.Value;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JsonBodyPublisherTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void should_publish_small_body_at_once() throws IOException {
+    val body = new Value(1234);
+
+    val publisher = JsonBodyPublisher.of(objectMapper.writer(), body);
+
+    assertThat(publisher).isNotInstanceOf(JsonBodyPublisher.class);
+    assertThat(publisher.contentLength()).isEqualTo(objectMapper.writeValueAsBytes(body).length);
+    assertThat(readAll(publisher)).isEqualTo(objectMapper.writeValueAsBytes(body));
+  }
+
+  @Test
+  void should_publish_large_body_by_chunks() throws IOException {
+    val body = largeBody();
+    val expected = objectMapper.writeValueAsBytes(body);
+
+    val publisher = JsonBodyPublisher.of(objectMapper.writer(), body);
+
+    assertThat(publisher).isInstanceOf(JsonBodyPublisher.class);
+    assertThat(publisher.contentLength()).isEqualTo(expected.length);
+    assertThat(readAll(publisher)).isEqualTo(expected);
+    assertThat(readAll(publisher)).as("resubscription").isEqualTo(expected);
+  }
+
+  @Test
+  void should_only_publish_requested_chunks() throws IOException {
+    val publisher = JsonBodyPublisher.of(objectMapper.writer(), largeBody());
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.chunks).hasSize(2);
+    assertThat(subscriber.chunks.get(0).remaining()).isEqualTo(JsonBodyPublisher.FIRST_CHUNK_SIZE);
+    assertThat(subscriber.chunks.get(1).remaining()).isEqualTo(JsonBodyPublisher.FIRST_CHUNK_SIZE * 2);
+
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+    assertThat(subscriber.chunks).hasSize(2);
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  void should_fail_on_non_positive_request() throws IOException {
+    val publisher = JsonBodyPublisher.of(objectMapper.writer(), largeBody());
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(subscriber.chunks).isEmpty();
+  }
+
+  private static List<Value> largeBody() {
+    return IntStream.range(0, 100_000).mapToObj(Value::new).toList();
+  }
+
+  private static byte[] readAll(BodyPublisher publisher) {
+    val output = new ByteArrayOutputStream();
+    val subscriber = new RecordingSubscriber() {
+      @Override
+      public void onNext(ByteBuffer item) {
+        super.onNext(item);
+        subscription.request(1);
+      }
+    };
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.completed).isTrue();
+    subscriber.chunks.forEach(chunk -> {
+      val bytes = new byte[chunk.remaining()];
+      chunk.get(bytes);
+      output.writeBytes(bytes);
+    });
+    return output.toByteArray();
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    Flow.Subscription subscription;
+    final List<ByteBuffer> chunks = new ArrayList<>();
+    boolean completed;
+    Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+      chunks.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+  }
+}
@@ -0,0 +1,179 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Flow;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class JsonBodySubscriberTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void should_deserialize_body_split_into_chunks() {
+    val subscriber = subscriber(Item.class);
+    val subscription = new RecordingSubscription();
+    subscriber.onSubscribe(subscription);
+
+    subscriber.onNext(List.of(buffer("{\"val"), buffer("ue\":")));
+    subscriber.onNext(List.of(buffer(" 12"), buffer("34}")));
+    subscriber.onComplete();
+
+    assertThat(subscriber.getBody().toCompletableFuture().join()).isEqualTo(new Item(1234));
+    assertThat(subscription.requested).isEqualTo(3);
+    assertThat(subscription.cancelled).isFalse();
+  }
+
+  @Test
+  void should_deserialize_character_split_between_chunks() {
+    val subscriber = subscriber(new TypeReference<Map<String, String>>() {});
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    val bytes = "{\"name\":\"é\"}".getBytes(StandardCharsets.UTF_8);
+    subscriber.onNext(List.of(ByteBuffer.wrap(bytes, 0, 10), ByteBuffer.wrap(bytes, 10, bytes.length - 10)));
+    subscriber.onComplete();
+
+    assertThat(subscriber.getBody().toCompletableFuture().join()).containsExactly(Map.entry("name", "é"));
+  }
+
+  @Test
+  void should_deserialize_generic_type() {
+    val subscriber = subscriber(new TypeReference<List<Item>>() {});
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    subscriber.onNext(List.of(buffer("[{\"value\":1},"), buffer("{\"value\":2}]")));
+    subscriber.onComplete();
+
+    assertThat(subscriber.getBody().toCompletableFuture().join()).containsExactly(new Item(1), new Item(2));
+  }
+
+  @Test
+  void should_keep_exact_decimals() {
+    val subscriber = subscriber(new TypeReference<List<BigDecimal>>() {});
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    subscriber.onNext(List.of(buffer("[0.12345678901234567890123, 10.50]")));
+    subscriber.onComplete();
+
+    assertThat(subscriber.getBody().toCompletableFuture().join())
+      .containsExactly(new BigDecimal("0.12345678901234567890123"), new BigDecimal("10.50"));
+  }
+
+  @Test
+  void should_read_untyped_floats_as_the_object_mapper() {
+    val json = "{\"decimal\":0.12345678901234567890123, \"integer\":12}";
+    val doubles = subscriber(new TypeReference<Map<String, Object>>() {});
+    val decimals = new JsonBodySubscriber<Map<String, Object>>(objectMapper.readerFor(new TypeReference<Map<String, Object>>() {})
+      .with(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS));
+    doubles.onSubscribe(new RecordingSubscription());
+    decimals.onSubscribe(new RecordingSubscription());
+
+    doubles.onNext(List.of(buffer(json)));
+    decimals.onNext(List.of(buffer(json)));
+    doubles.onComplete();
+    decimals.onComplete();
+
+    assertThat(doubles.getBody().toCompletableFuture().join())
+      .containsExactly(Map.entry("decimal", 0.12345678901234567890123), Map.entry("integer", 12));
+    assertThat(decimals.getBody().toCompletableFuture().join())
+      .containsExactly(Map.entry("decimal", new BigDecimal("0.12345678901234567890123")), Map.entry("integer", 12));
+  }
+
+  @Test
+  void should_fail_and_cancel_on_malformed_body() {
+    val subscriber = subscriber(Item.class);
+    val subscription = new RecordingSubscription();
+    subscriber.onSubscribe(subscription);
+
+    subscriber.onNext(List.of(buffer("{\"value\":]")));
+    subscriber.onNext(List.of(buffer("}")));
+
+    assertThat(subscription.cancelled).isTrue();
+    assertThat(subscription.requested).isEqualTo(1);
+    assertThatExceptionOfType(CompletionException.class)
+      .isThrownBy(() -> subscriber.getBody().toCompletableFuture().join())
+      .withCauseInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  void should_fail_on_truncated_body() {
+    val subscriber = subscriber(Item.class);
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    subscriber.onNext(List.of(buffer("{\"value\":12")));
+    subscriber.onComplete();
+
+    assertThatExceptionOfType(CompletionException.class)
+      .isThrownBy(() -> subscriber.getBody().toCompletableFuture().join())
+      .withCauseInstanceOf(JsonProcessingException.class);
+  }
+
+  @Test
+  void should_fail_on_error() {
+    val subscriber = subscriber(Item.class);
+    val error = new IllegalStateException("connection lost");
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    subscriber.onError(error);
+
+    assertThatExceptionOfType(CompletionException.class)
+      .isThrownBy(() -> subscriber.getBody().toCompletableFuture().join())
+      .withCause(error);
+  }
+
+  @Test
+  void should_cancel_second_subscription() {
+    val subscriber = subscriber(Item.class);
+    val second = new RecordingSubscription();
+    subscriber.onSubscribe(new RecordingSubscription());
+
+    subscriber.onSubscribe(second);
+
+    assertThat(second.cancelled).isTrue();
+    assertThat(second.requested).isZero();
+  }
+
+  private record Item(int value) {
+  }
+
+  private <U> JsonBodySubscriber<U> subscriber(Class<U> type) {
+    return new JsonBodySubscriber<>(objectMapper.readerFor(type));
+  }
+
+  private <U> JsonBodySubscriber<U> subscriber(TypeReference<U> type) {
+    return new JsonBodySubscriber<>(objectMapper.readerFor(type));
+  }
+
+  private static ByteBuffer buffer(String content) {
+    return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+  }
+
+  private static class RecordingSubscription implements Flow.Subscription {
+
+    long requested;
+    boolean cancelled;
+
+    @Override
+    public void request(long n) {
+      requested += n;
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+    }
+  }
+}
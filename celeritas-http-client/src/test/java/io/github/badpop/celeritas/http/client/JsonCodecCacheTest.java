@@ -0,0 +1,61 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.badpop.celeritas.http.client.util.Value;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class JsonCodecCacheTest {
+
+  private final ObjectMapper objectMapper = spy(new ObjectMapper());
+  private final JsonCodecCache codecs = new JsonCodecCache(objectMapper);
+
+  @Test
+  void should_reuse_reader_of_class() {
+    val reader = codecs.reader(Value.class);
+
+    assertThat(codecs.reader(Value.class)).isSameAs(reader);
+    assertThat(reader.getValueType()).isEqualTo(objectMapper.constructType(Value.class));
+  }
+
+  @Test
+  void should_share_reader_between_type_references_of_same_type() {
+    val reader = codecs.reader(new TypeReference<List<Value>>() {}.getType());
+
+    assertThat(codecs.reader(new TypeReference<List<Value>>() {}.getType())).isSameAs(reader);
+    assertThat(codecs.reader(new TypeReference<List<String>>() {}.getType())).isNotSameAs(reader);
+  }
+
+  @Test
+  void should_look_serializability_up_once_per_class() {
+    val writer = codecs.writer(Value.class);
+
+    assertThat(writer).isNotEmpty();
+    assertThat(codecs.writer(Value.class)).isSameAs(writer);
+    assertThat(codecs.writer(Object.class)).isEmpty();
+    assertThat(codecs.writer(Object.class)).isEmpty();
+    verify(objectMapper).canSerialize(Value.class);
+    verify(objectMapper).canSerialize(Object.class);
+  }
+
+  @Test
+  void should_reuse_line_writer() {
+    assertThat(codecs.lineWriter()).isSameAs(codecs.lineWriter());
+  }
+
+  @Test
+  void should_create_new_cache_for_new_object_mapper() {
+    val client = new CeleritasHttpClientImpl(objectMapper);
+    val reader = client.getObjectReader(new TypeReference<Map<String, Value>>() {});
+
+    assertThat(client.getObjectReader(new TypeReference<Map<String, Value>>() {})).isSameAs(reader);
+    assertThat(client.withObjectMapper(new ObjectMapper()).getObjectReader(new TypeReference<Map<String, Value>>() {})).isNotSameAs(reader);
+  }
+}
@@ -0,0 +1,171 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class JsonValueIteratorTest {
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Test
+  void should_iterate_over_array_elements() {
+    val input = new TrackingInputStream("[{\"value\":1}, {\"value\":2}, null]");
+    val iterator = iterator(input);
+
+    assertThat(iterator).toIterable().containsExactly(new Item(1), new Item(2), null);
+    assertThat(iterator.hasNext()).isFalse();
+    assertThat(input.closed).isTrue();
+  }
+
+  @Test
+  void should_iterate_over_empty_array() {
+    val input = new TrackingInputStream("[]");
+
+    assertThat(iterator(input).hasNext()).isFalse();
+    assertThat(input.closed).isTrue();
+  }
+
+  @Test
+  void should_not_read_before_first_element_is_requested() {
+    val input = new TrackingInputStream("[{\"value\":1}]");
+
+    val stream = iterator(input).toStream();
+
+    assertThat(input.read).isZero();
+    assertThat(stream).containsExactly(new Item(1));
+  }
+
+  @Test
+  void should_read_large_array_progressively() {
+    val body = IntStream.range(0, 100_000)
+      .mapToObj(i -> "{\"value\":" + i + "}")
+      .collect(Collectors.joining(",", "[", "]"));
+    val input = new TrackingInputStream(body);
+    val iterator = iterator(input);
+
+    assertThat(iterator.next()).isEqualTo(new Item(0));
+    assertThat(input.read).isLessThan(body.length() / 10);
+    assertThat(iterator.toStream().count()).isEqualTo(99_999);
+  }
+
+  @Test
+  void should_close_input_when_stream_is_closed() {
+    val input = new TrackingInputStream("[{\"value\":1}, {\"value\":2}]");
+
+    try (val stream = iterator(input).toStream()) {
+      assertThat(stream.findFirst()).contains(new Item(1));
+    }
+
+    assertThat(input.closed).isTrue();
+  }
+
+  @Test
+  void should_fail_when_body_is_not_array() {
+    val input = new TrackingInputStream("{\"value\":1}");
+    val iterator = iterator(input);
+
+    assertThatExceptionOfType(UncheckedIOException.class)
+      .isThrownBy(iterator::hasNext)
+      .withCauseInstanceOf(JsonProcessingException.class)
+      .withMessageContaining("Expected the body to be a JSON array but found START_OBJECT");
+    assertThat(input.closed).isTrue();
+    assertThat(iterator.hasNext()).isFalse();
+  }
+
+  @Test
+  void should_fail_on_malformed_element() {
+    val input = new TrackingInputStream("[{\"value\":1}, {\"value\":\"one\"}]");
+    val iterator = iterator(input);
+
+    assertThat(iterator.next()).isEqualTo(new Item(1));
+    assertThatExceptionOfType(UncheckedIOException.class)
+      .isThrownBy(iterator::next)
+      .withCauseInstanceOf(JsonProcessingException.class);
+    assertThat(input.closed).isTrue();
+  }
+
+  @Test
+  void should_fail_on_truncated_array() {
+    val iterator = iterator(new TrackingInputStream("[{\"value\":1}"));
+
+    assertThat(iterator.next()).isEqualTo(new Item(1));
+    assertThatExceptionOfType(UncheckedIOException.class).isThrownBy(iterator::hasNext);
+  }
+
+  @Test
+  void should_not_return_element_after_end() {
+    val iterator = iterator(new TrackingInputStream("[]"));
+
+    assertThatExceptionOfType(NoSuchElementException.class).isThrownBy(iterator::next);
+  }
+
+  @Test
+  void should_iterate_over_lines() {
+    val input = new TrackingInputStream("{\"value\":1}\n{\"value\":2}\r\n\n{\"value\":3}\n");
+    val iterator = linesIterator(input);
+
+    assertThat(iterator).toIterable().containsExactly(new Item(1), new Item(2), new Item(3));
+    assertThat(input.closed).isTrue();
+  }
+
+  @Test
+  void should_iterate_over_empty_lines() {
+    assertThat(linesIterator(new TrackingInputStream("")).hasNext()).isFalse();
+  }
+
+  @Test
+  void should_fail_on_malformed_line() {
+    val iterator = linesIterator(new TrackingInputStream("{\"value\":1}\n{\"value\":\n"));
+
+    assertThat(iterator.next()).isEqualTo(new Item(1));
+    assertThatExceptionOfType(UncheckedIOException.class)
+      .isThrownBy(iterator::next)
+      .withCauseInstanceOf(JsonProcessingException.class);
+  }
+
+  private JsonValueIterator<Item> iterator(InputStream input) {
+    return JsonValueIterator.ofArray(objectMapper.readerFor(Item.class), input);
+  }
+
+  private JsonValueIterator<Item> linesIterator(InputStream input) {
+    return JsonValueIterator.ofLines(objectMapper.readerFor(Item.class), input);
+  }
+
+  private record Item(int value) {
+  }
+
+  private static class TrackingInputStream extends ByteArrayInputStream {
+
+    int read;
+    boolean closed;
+
+    private TrackingInputStream(String content) {
+      super(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public synchronized int read(byte[] bytes, int offset, int length) {
+      val count = super.read(bytes, offset, length);
+      read += Math.max(count, 0);
+      return count;
+    }
+
+    @Override
+    public void close() {
+      closed = true;
+    }
+  }
+}
@@ -0,0 +1,281 @@
+package io.github.badpop.celeritas.http.client;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.exc.InvalidDefinitionException;
+import io.github.badpop.celeritas.http.client.util.Value;
+import lombok.val;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.net.http.HttpRequest.BodyPublisher;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NdjsonBodyPublisherTest {
+
+  private final ObjectWriter writer = NdjsonBodyPublisher.lineWriter(new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT));
+
+  @Test
+  void should_publish_one_line_per_object() {
+    val publisher = NdjsonBodyPublisher.of(writer, List.of(new Value(1), new Value(2)).iterator());
+
+    assertThat(publisher.contentLength()).isEqualTo(-1);
+    assertThat(readAll(publisher)).isEqualTo("{\"value\":1}\n{\"value\":2}\n");
+  }
+
+  @Test
+  void should_publish_empty_body() {
+    val publisher = NdjsonBodyPublisher.of(writer, Stream.empty());
+
+    assertThat(readAll(publisher)).isEmpty();
+  }
+
+  @Test
+  void should_gather_lines_into_chunks_as_requested() {
+    val lines = 10_000;
+    val closed = new AtomicBoolean();
+    val items = IntStream.range(0, lines).mapToObj(Value::new).onClose(() -> closed.set(true));
+    val publisher = NdjsonBodyPublisher.of(writer, items);
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+    assertThat(subscriber.chunks).hasSize(2);
+    assertThat(subscriber.chunks.get(0).remaining()).isBetween(NdjsonBodyPublisher.BATCH_SIZE, NdjsonBodyPublisher.BATCH_SIZE * 2);
+    assertThat(closed).isFalse();
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+    assertThat(subscriber.completed).isTrue();
+    assertThat(closed).isTrue();
+    assertThat(subscriber.content()).isEqualTo(IntStream.range(0, lines)
+      .mapToObj(i -> "{\"value\":" + i + "}\n")
+      .collect(Collectors.joining()));
+  }
+
+  @Test
+  void should_close_stream_when_cancelled() {
+    val closed = new AtomicBoolean();
+    val publisher = NdjsonBodyPublisher.of(writer, Stream.of(new Value(1)).onClose(() -> closed.set(true)));
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.cancel();
+    subscriber.subscription.request(1);
+
+    assertThat(closed).isTrue();
+    assertThat(subscriber.chunks).isEmpty();
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  @Test
+  void should_fail_on_serialization_error() {
+    val closed = new AtomicBoolean();
+    val publisher = NdjsonBodyPublisher.of(writer, Stream.of(new Value(1), new Object()).onClose(() -> closed.set(true)));
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+
+    assertThat(subscriber.error).isInstanceOf(InvalidDefinitionException.class);
+    assertThat(subscriber.completed).isFalse();
+    assertThat(closed).isTrue();
+  }
+
+  @Test
+  void should_fail_on_non_positive_request() {
+    val publisher = NdjsonBodyPublisher.of(writer, List.of(new Value(1)).iterator());
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(0);
+
+    assertThat(subscriber.error).isInstanceOf(IllegalArgumentException.class);
+    assertThat(subscriber.chunks).isEmpty();
+  }
+
+  @Test
+  void should_only_be_published_once() {
+    val publisher = NdjsonBodyPublisher.of(writer, List.of(new Value(1)).iterator());
+    publisher.subscribe(new RecordingSubscriber());
+    val second = new RecordingSubscriber();
+
+    publisher.subscribe(second);
+
+    assertThat(second.error).isInstanceOf(IllegalStateException.class).hasMessage("An NDJSON body can only be published once");
+  }
+
+  @Test
+  void should_publish_one_chunk_per_published_object() {
+    val items = new ListPublisher(List.of(new Value(1), new Value(2), new Value(3)));
+    val publisher = NdjsonBodyPublisher.of(writer, items);
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+    assertThat(items.requested).isEqualTo(2);
+    assertThat(subscriber.chunks).hasSize(2);
+
+    subscriber.subscription.request(1);
+    assertThat(subscriber.completed).isTrue();
+    assertThat(subscriber.content()).isEqualTo("{\"value\":1}\n{\"value\":2}\n{\"value\":3}\n");
+  }
+
+  @Test
+  void should_cancel_publisher_on_serialization_error() {
+    val items = new ListPublisher(List.of(new Object(), new Value(1)));
+    val publisher = NdjsonBodyPublisher.of(writer, items);
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(2);
+
+    assertThat(items.cancelled).isTrue();
+    assertThat(subscriber.error).isInstanceOf(InvalidDefinitionException.class);
+    assertThat(subscriber.chunks).isEmpty();
+  }
+
+  @Test
+  void should_keep_published_chunks_intact_while_writing_next_lines() {
+    val text = "x".repeat(NdjsonBodyPublisher.BATCH_SIZE);
+    val items = new ListPublisher(List.of(new Value(1), Map.of("text", text), new Value(2), new Value(3)));
+    val publisher = NdjsonBodyPublisher.of(writer, items);
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertThat(subscriber.chunks)
+      .extracting(chunk -> new String(RecordingSubscriber.bytes(chunk), StandardCharsets.UTF_8))
+      .containsExactly("{\"value\":1}\n", "{\"text\":\"" + text + "\"}\n", "{\"value\":2}\n", "{\"value\":3}\n");
+  }
+
+  @Test
+  void should_cancel_publisher_and_ignore_next_objects_when_cancelled() {
+    val upstream = new AtomicReference<Flow.Subscriber<? super Object>>();
+    val cancelled = new AtomicBoolean();
+    val publisher = NdjsonBodyPublisher.of(writer, (Flow.Publisher<Object>) items -> {
+      upstream.set(items);
+      items.onSubscribe(new Flow.Subscription() {
+        @Override
+        public void request(long n) {
+        }
+
+        @Override
+        public void cancel() {
+          cancelled.set(true);
+        }
+      });
+    });
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+
+    subscriber.subscription.request(1);
+    upstream.get().onNext(new Value(1));
+    subscriber.subscription.cancel();
+    upstream.get().onNext(new Value(2));
+    upstream.get().onComplete();
+
+    assertThat(cancelled).isTrue();
+    assertThat(subscriber.content()).isEqualTo("{\"value\":1}\n");
+    assertThat(subscriber.completed).isFalse();
+  }
+
+  private static String readAll(BodyPublisher publisher) {
+    val subscriber = new RecordingSubscriber();
+    publisher.subscribe(subscriber);
+    subscriber.subscription.request(Long.MAX_VALUE);
+
+    assertThat(subscriber.completed).isTrue();
+    return subscriber.content();
+  }
+
+  /**
+   * A synchronous publisher of the objects of a list, publishing them as they are requested
+   */
+  private static class ListPublisher implements Flow.Publisher<Object> {
+
+    private final List<?> items;
+    long requested;
+    boolean cancelled;
+
+    private ListPublisher(List<?> items) {
+      this.items = items;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super Object> subscriber) {
+      subscriber.onSubscribe(new Flow.Subscription() {
+        private int next;
+
+        @Override
+        public void request(long n) {
+          requested += n;
+          for (long i = 0; i < n && !cancelled && next < items.size(); i++) {
+            subscriber.onNext(items.get(next++));
+          }
+          if (!cancelled && next == items.size()) {
+            subscriber.onComplete();
+          }
+        }
+
+        @Override
+        public void cancel() {
+          cancelled = true;
+        }
+      });
+    }
+  }
+
+  private static class RecordingSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+    Flow.Subscription subscription;
+    final List<ByteBuffer> chunks = new ArrayList<>();
+    boolean completed;
+    Throwable error;
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+      this.subscription = subscription;
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+      chunks.add(item);
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+      error = throwable;
+    }
+
+    @Override
+    public void onComplete() {
+      completed = true;
+    }
+
+    String content() {
+      val output = new ByteArrayOutputStream();
+      chunks.forEach(chunk -> output.writeBytes(bytes(chunk)));
+      return output.toString(StandardCharsets.UTF_8);
+    }
+
+    static byte[] bytes(ByteBuffer chunk) {
+      val bytes = new byte[chunk.remaining()];
+      chunk.duplicate().get(bytes);
+      return bytes;
+    }
+  }
+}
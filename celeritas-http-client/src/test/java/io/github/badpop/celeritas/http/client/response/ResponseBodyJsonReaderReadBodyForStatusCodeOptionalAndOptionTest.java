@@ -3,6 +3,7 @@ package io.github.badpop.celeritas.http.client.response;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.github.badpop.celeritas.http.client.CeleritasHttpClient;
 import io.github.badpop.celeritas.http.client.util.Value;
 import lombok.val;
@@ -10,6 +11,7 @@ import org.assertj.vavr.api.VavrAssertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,7 +28,7 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
   @InjectMocks
   private CeleritasHttpResponseImpl<String> response;
 
-  @Mock
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private CeleritasHttpClient usedClient;
 
   @Mock
@@ -53,11 +55,13 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val status = 200;
         val targetClass = Value.class;
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyForStatusCodeOptional(status, targetClass);
 
@@ -65,9 +69,11 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetClass);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetClass);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
@@ -76,7 +82,7 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val status = 200;
         val responseStatus = 400;
         val targetClass = Value.class;
-        val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(responseStatus);
 
@@ -86,25 +92,23 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verifyNoMoreInteractions(originalResponse);
-        verifyNoInteractions(usedClient, mockedObjectMapper, originalBodyHandler, originalRequest);
+        verifyNoInteractions(usedClient, mockedObjectReader, originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
         val status = 200;
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyForStatusCodeOptional(status, (Class<? extends Object>) null);
 
         assertThat(actual).isEmpty();
 
         verify(originalResponse).statusCode();
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -136,11 +140,13 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val targetTypeReference = new TypeReference<Value>() {
         };
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyForStatusCodeOptional(status, targetTypeReference);
 
@@ -148,9 +154,11 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetTypeReference);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetTypeReference);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
@@ -160,7 +168,7 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val responseStatus = 400;
         val targetTypeReference = new TypeReference<Value>() {
         };
-        val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(responseStatus);
 
@@ -170,25 +178,23 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verifyNoMoreInteractions(originalResponse);
-        verifyNoInteractions(usedClient, mockedObjectMapper, originalBodyHandler, originalRequest);
+        verifyNoInteractions(usedClient, mockedObjectReader, originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
         val status = 200;
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyForStatusCodeOptional(status, (TypeReference<? extends Object>) null);
 
         assertThat(actual).isEmpty();
 
         verify(originalResponse).statusCode();
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -223,11 +229,13 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val status = 200;
         val targetClass = Value.class;
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyForStatusCodeOption(status, targetClass);
 
@@ -235,9 +243,11 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetClass);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetClass);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
@@ -246,7 +256,7 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val status = 200;
         val responseStatus = 400;
         val targetClass = Value.class;
-        val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(responseStatus);
 
@@ -256,25 +266,23 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verifyNoMoreInteractions(originalResponse);
-        verifyNoInteractions(usedClient, mockedObjectMapper, originalBodyHandler, originalRequest);
+        verifyNoInteractions(usedClient, mockedObjectReader, originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
         val status = 200;
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyForStatusCodeOption(status, (Class<? extends Object>) null);
 
         VavrAssertions.assertThat(actual).isEmpty();
 
         verify(originalResponse).statusCode();
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -306,11 +314,13 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val targetTypeReference = new TypeReference<Value>() {
         };
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyForStatusCodeOption(status, targetTypeReference);
 
@@ -318,9 +328,11 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetTypeReference);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetTypeReference);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
@@ -330,7 +342,7 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
         val responseStatus = 400;
         val targetTypeReference = new TypeReference<Value>() {
         };
-        val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.statusCode()).thenReturn(responseStatus);
 
@@ -340,25 +352,23 @@ class ResponseBodyJsonReaderReadBodyForStatusCodeOptionalAndOptionTest {
 
         verify(originalResponse).statusCode();
         verifyNoMoreInteractions(originalResponse);
-        verifyNoInteractions(usedClient, mockedObjectMapper, originalBodyHandler, originalRequest);
+        verifyNoInteractions(usedClient, mockedObjectReader, originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
         val status = 200;
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.statusCode()).thenReturn(status);
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyForStatusCodeOption(status, (TypeReference<? extends Object>) null);
 
         VavrAssertions.assertThat(actual).isEmpty();
 
         verify(originalResponse).statusCode();
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -3,6 +3,7 @@ package io.github.badpop.celeritas.http.client.response;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.github.badpop.celeritas.http.client.CeleritasHttpClient;
 import io.github.badpop.celeritas.http.client.util.Value;
 import lombok.val;
@@ -10,6 +11,7 @@ import org.assertj.vavr.api.VavrAssertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -26,7 +28,7 @@ class ResponseBodyJsonReaderReadBodyOptionalAndOptionTest {
   @InjectMocks
   private CeleritasHttpResponseImpl<String> response;
 
-  @Mock
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private CeleritasHttpClient usedClient;
 
   @Mock
@@ -53,35 +55,37 @@ class ResponseBodyJsonReaderReadBodyOptionalAndOptionTest {
       void should_read_body() throws JsonProcessingException {
         val targetClass = Value.class;
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyOptional(targetClass);
 
         assertThat(actual).contains(new Value(123));
 
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetClass);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetClass);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyOptional((Class<? extends Object>) null);
 
         assertThat(actual).isEmpty();
 
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -109,35 +113,37 @@ class ResponseBodyJsonReaderReadBodyOptionalAndOptionTest {
         val targetTypeReference = new TypeReference<Value>() {
         };
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyOptional(targetTypeReference);
 
         assertThat(actual).contains(new Value(123));
 
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetTypeReference);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetTypeReference);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyOptional((TypeReference<? extends Object>) null);
 
         assertThat(actual).isEmpty();
 
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -169,35 +175,37 @@ class ResponseBodyJsonReaderReadBodyOptionalAndOptionTest {
       void should_read_body() throws JsonProcessingException {
         val targetClass = Value.class;
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyOption(targetClass);
 
         VavrAssertions.assertThat(actual).contains(new Value(123));
 
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetClass);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetClass);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyOption((Class<? extends Object>) null);
 
         VavrAssertions.assertThat(actual).isEmpty();
 
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
@@ -225,35 +233,37 @@ class ResponseBodyJsonReaderReadBodyOptionalAndOptionTest {
         val targetTypeReference = new TypeReference<Value>() {
         };
         val mockedObjectMapper = mock(ObjectMapper.class);
+        val mockedObjectReader = mock(ObjectReader.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
         when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-        when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+        when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+        when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
         val actual = response.readBodyOption(targetTypeReference);
 
         VavrAssertions.assertThat(actual).contains(new Value(123));
 
         verify(originalResponse, times(2)).body();
+        verify(usedClient).getObjectReader(targetTypeReference);
         verify(usedClient).getObjectMapper();
-        verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+        verify(mockedObjectMapper).readerFor(targetTypeReference);
+        verify(mockedObjectReader).readValue(RESPONSE_BODY);
+        verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
 
       @Test
       void should_not_read_body_on_null_class() {
-        val mockedObjectMapper = mock(ObjectMapper.class);
 
         when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-        when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
 
         val actual = response.readBodyOption((TypeReference<? extends Object>) null);
 
         VavrAssertions.assertThat(actual).isEmpty();
 
-        verify(originalResponse, times(2)).body();
-        verify(usedClient).getObjectMapper();
+        verify(originalResponse).body();
+        verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
         verifyNoMoreInteractions(originalResponse, usedClient);
         verifyNoInteractions(originalBodyHandler, originalRequest);
       }
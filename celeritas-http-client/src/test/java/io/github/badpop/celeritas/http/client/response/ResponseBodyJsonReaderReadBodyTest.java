@@ -3,6 +3,7 @@ package io.github.badpop.celeritas.http.client.response;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.github.badpop.celeritas.http.client.CeleritasHttpClient;
 import io.github.badpop.celeritas.http.client.exception.ReadBodyException;
 import io.github.badpop.celeritas.http.client.util.Value;
@@ -10,6 +11,7 @@ import lombok.val;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -28,7 +30,7 @@ class ResponseBodyJsonReaderReadBodyTest {
   @InjectMocks
   private CeleritasHttpResponseImpl<String> response;
 
-  @Mock
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private CeleritasHttpClient usedClient;
 
   @Mock
@@ -53,19 +55,23 @@ class ResponseBodyJsonReaderReadBodyTest {
     void should_read_body() throws ReadBodyException, JsonProcessingException {
       val targetClass = Value.class;
       val mockedObjectMapper = mock(ObjectMapper.class);
+      val mockedObjectReader = mock(ObjectReader.class);
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
       when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+      when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+      when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
       val actual = response.readBody(targetClass);
 
       assertThat(actual).isEqualTo(new Value(123));
 
       verify(originalResponse, times(2)).body();
+      verify(usedClient).getObjectReader(targetClass);
       verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(mockedObjectMapper).readerFor(targetClass);
+      verify(mockedObjectReader).readValue(RESPONSE_BODY);
+      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
@@ -96,21 +102,25 @@ class ResponseBodyJsonReaderReadBodyTest {
     @Test
     void should_read_body() throws ReadBodyException, JsonProcessingException {
       val mockedObjectMapper = mock(ObjectMapper.class);
+      val mockedObjectReader = mock(ObjectReader.class);
       val targetTypeReference = new TypeReference<Value>() {
       };
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
       when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+      when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+      when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
       val actual = response.readBody(targetTypeReference);
 
       assertThat(actual).isEqualTo(new Value(123));
 
       verify(originalResponse, times(2)).body();
+      verify(usedClient).getObjectReader(targetTypeReference);
       verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(mockedObjectMapper).readerFor(targetTypeReference);
+      verify(mockedObjectReader).readValue(RESPONSE_BODY);
+      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
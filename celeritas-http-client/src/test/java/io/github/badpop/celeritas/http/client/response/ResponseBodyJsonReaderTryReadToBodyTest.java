@@ -3,7 +3,7 @@ package io.github.badpop.celeritas.http.client.response;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.exc.InvalidFormatException;
+import com.fasterxml.jackson.databind.ObjectReader;
 import io.github.badpop.celeritas.http.client.CeleritasHttpClient;
 import io.github.badpop.celeritas.http.client.exception.ReadBodyException;
 import io.github.badpop.celeritas.http.client.util.Value;
@@ -12,6 +12,7 @@ import org.assertj.vavr.api.VavrAssertions;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Answers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -27,7 +28,7 @@ class ResponseBodyJsonReaderTryReadToBodyTest {
   @InjectMocks
   private CeleritasHttpResponseImpl<String> response;
 
-  @Mock
+  @Mock(answer = Answers.CALLS_REAL_METHODS)
   private CeleritasHttpClient usedClient;
 
   @Mock
@@ -51,39 +52,38 @@ class ResponseBodyJsonReaderTryReadToBodyTest {
     void should_read_body() throws JsonProcessingException {
       val targetClass = Value.class;
       val mockedObjectMapper = mock(ObjectMapper.class);
+      val mockedObjectReader = mock(ObjectReader.class);
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
       when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, targetClass)).thenReturn(new Value(123));
+      when(mockedObjectMapper.readerFor(targetClass)).thenReturn(mockedObjectReader);
+      when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
       val actual = response.tryToReadBody(targetClass);
 
       VavrAssertions.assertThat(actual).contains(new Value(123));
 
       verify(originalResponse, times(2)).body();
+      verify(usedClient).getObjectReader(targetClass);
       verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetClass);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(mockedObjectMapper).readerFor(targetClass);
+      verify(mockedObjectReader).readValue(RESPONSE_BODY);
+      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
     @Test
-    void should_not_read_body_on_null_class() throws JsonProcessingException {
-      val mockedObjectMapper = mock(ObjectMapper.class);
-      val ex = new InvalidFormatException(null, "error", null, null);
+    void should_not_read_body_on_null_class() {
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-      when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, (TypeReference<? extends Object>) null)).thenThrow(ex);
 
       val actual = response.tryToReadBody((Class<? extends Object>) null);
 
-      VavrAssertions.assertThat(actual).failBecauseOf(InvalidFormatException.class);
+      VavrAssertions.assertThat(actual).failBecauseOf(NullPointerException.class);
 
-      verify(originalResponse, times(2)).body();
-      verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, (TypeReference<? extends Object>) null);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(originalResponse).body();
+      verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
+      verifyNoMoreInteractions(originalResponse, usedClient);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
@@ -110,39 +110,38 @@ class ResponseBodyJsonReaderTryReadToBodyTest {
       val targetTypeReference = new TypeReference<Value>() {
       };
       val mockedObjectMapper = mock(ObjectMapper.class);
+      val mockedObjectReader = mock(ObjectReader.class);
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
       when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, targetTypeReference)).thenReturn(new Value(123));
+      when(mockedObjectMapper.readerFor(targetTypeReference)).thenReturn(mockedObjectReader);
+      when(mockedObjectReader.readValue(RESPONSE_BODY)).thenReturn(new Value(123));
 
       val actual = response.tryToReadBody(targetTypeReference);
 
       VavrAssertions.assertThat(actual).contains(new Value(123));
 
       verify(originalResponse, times(2)).body();
+      verify(usedClient).getObjectReader(targetTypeReference);
       verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, targetTypeReference);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(mockedObjectMapper).readerFor(targetTypeReference);
+      verify(mockedObjectReader).readValue(RESPONSE_BODY);
+      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper, mockedObjectReader);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
     @Test
-    void should_not_read_body_on_null_class() throws JsonProcessingException {
-      val mockedObjectMapper = mock(ObjectMapper.class);
-      val ex = new InvalidFormatException(null, "error", null, null);
+    void should_not_read_body_on_null_class() {
 
       when(originalResponse.body()).thenReturn(RESPONSE_BODY);
-      when(usedClient.getObjectMapper()).thenReturn(mockedObjectMapper);
-      when(mockedObjectMapper.readValue(RESPONSE_BODY, (TypeReference<? extends Object>) null)).thenThrow(ex);
 
       val actual = response.tryToReadBody((TypeReference<? extends Object>) null);
 
-      VavrAssertions.assertThat(actual).failBecauseOf(InvalidFormatException.class);
+      VavrAssertions.assertThat(actual).failBecauseOf(NullPointerException.class);
 
-      verify(originalResponse, times(2)).body();
-      verify(usedClient).getObjectMapper();
-      verify(mockedObjectMapper).readValue(RESPONSE_BODY, (TypeReference<? extends Object>) null);
-      verifyNoMoreInteractions(originalResponse, usedClient, mockedObjectMapper);
+      verify(originalResponse).body();
+      verify(usedClient).getObjectReader((TypeReference<? extends Object>) null);
+      verifyNoMoreInteractions(originalResponse, usedClient);
       verifyNoInteractions(originalBodyHandler, originalRequest);
     }
 
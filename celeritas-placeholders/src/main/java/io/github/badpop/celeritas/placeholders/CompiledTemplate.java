@@ -0,0 +1,685 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A CompiledTemplate is a string format whose placeholders have been located once and for all.
+ *
+ * <p> The string format is split at compile time into literal segments and placeholder keys, so rendering it against parameters
+ * is a single pass over these segments: no regular expression is evaluated and no {@link String#format(String, Object...)} is involved.
+ * A CompiledTemplate is immutable and can safely be shared between threads, you should compile your templates once and keep them.
+ *
+ * <p> Renderings returning a string are written into a buffer reused by the rendering thread and sized from the previous rendering,
+ * so that in a steady state only the resulting string is allocated.
+ * Literal segments are also kept encoded in UTF-8, so that renderings written as bytes only encode the parameter values.
+ *
+ * <p> To get a CompiledTemplate, use {@link PlaceholderFormatter#compile(String)}.
+ */
+public final class CompiledTemplate {
+
+  private static final int ESTIMATED_VALUE_LENGTH = 16;
+
+  private final String template;
+  private final String[] literals;
+  private final byte[][] literalBytes;
+  private final String[] keys;
+  private final String[] placeholders;
+  private final int literalsLength;
+  private final List<String> placeholderKeys;
+  private final Set<String> placeholderNames;
+  private final List<Integer> placeholderPositions;
+  private final Map<String, Integer> slots;
+  private final int[] placeholderSlots;
+  private final ValueRenderers valueRenderers;
+
+  /**
+   * The length of the last rendering, used to size the next rendering buffer. Concurrent renderings may overwrite each other's value, which is harmless.
+   */
+  private int expectedLength;
+
+  private CompiledTemplate(String template, String[] literals, String[] keys, String[] placeholders, List<Integer> positions,
+                           ValueRenderers valueRenderers) {
+    this.template = template;
+    this.literals = literals;
+    this.literalBytes = new byte[literals.length][];
+    this.keys = keys;
+    this.placeholders = placeholders;
+    this.placeholderKeys = List.of(keys);
+    this.placeholderNames = Collections.unmodifiableSet(new LinkedHashSet<>(placeholderKeys));
+    this.placeholderPositions = List.copyOf(positions);
+    this.valueRenderers = valueRenderers;
+
+    this.slots = new HashMap<>();
+    this.placeholderSlots = new int[keys.length];
+    for (int i = 0; i < keys.length; i++) {
+      placeholderSlots[i] = slots.computeIfAbsent(keys[i], key -> slots.size());
+    }
+
+    var length = 0;
+    for (int i = 0; i < literals.length; i++) {
+      length += literals[i].length();
+      literalBytes[i] = literals[i].getBytes(StandardCharsets.UTF_8);
+    }
+    this.literalsLength = length;
+    this.expectedLength = length + keys.length * ESTIMATED_VALUE_LENGTH;
+  }
+
+  static CompiledTemplate compile(PlaceholderConfiguration placeholderConfiguration, String strFormat) {
+    try {
+      final var literals = new ArrayList<String>();
+      final var keys = new ArrayList<String>();
+      final var placeholders = new ArrayList<String>();
+      final var positions = new ArrayList<Integer>();
+      final var matcher = placeholderConfiguration.matcher(strFormat);
+
+      var position = 0;
+      while (matcher.find()) {
+        literals.add(strFormat.substring(position, matcher.start()));
+        keys.add(matcher.key());
+        placeholders.add(matcher.placeholder());
+        positions.add(matcher.start());
+        position = matcher.end();
+      }
+      literals.add(strFormat.substring(position));
+
+      return new CompiledTemplate(strFormat, literals.toArray(String[]::new), keys.toArray(String[]::new), placeholders.toArray(String[]::new), positions,
+        placeholderConfiguration.getValueRenderers());
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to compile the requested String", e);
+    }
+  }
+
+  /**
+   * Get the string format this template has been compiled from
+   *
+   * @return the original string format
+   */
+  public String getTemplate() {
+    return template;
+  }
+
+  /**
+   * Get a list containing the key of all placeholders present in this template, in order of appearance
+   *
+   * @return an unmodifiable list of the placeholders keys or an empty list if this template does not contain placeholders
+   */
+  public List<String> getPlaceholders() {
+    return placeholderKeys;
+  }
+
+  /**
+   * Get the distinct keys of the placeholders present in this template, in order of first appearance.
+   * A key used by several placeholders appears only once.
+   *
+   * @return an unmodifiable set of the placeholders keys or an empty set if this template does not contain placeholders
+   */
+  public Set<String> getPlaceholderNames() {
+    return placeholderNames;
+  }
+
+  /**
+   * Get the position in the string format of each placeholder of this template, in order of appearance.
+   * The position at a given index is the index of the first character of the placeholder whose key is at the same index in {@link #getPlaceholders()}.
+   *
+   * @return an unmodifiable list of the placeholders positions or an empty list if this template does not contain placeholders
+   */
+  public List<Integer> getPlaceholderPositions() {
+    return placeholderPositions;
+  }
+
+  /**
+   * Check if this template contains placeholders
+   *
+   * @return true if this template contains one or more placeholder, false otherwise
+   */
+  public boolean hasPlaceholders() {
+    return keys.length > 0;
+  }
+
+  /**
+   * Get the amount of placeholders in this template
+   *
+   * @return the number of placeholders in this template
+   */
+  public int countPlaceholders() {
+    return keys.length;
+  }
+
+  /**
+   * Renders this template by replacing its placeholders with the values given in parameters.
+   * It behaves like {@link PlaceholderFormatter#format(String, Map)}.
+   *
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of this template is not provided in the map
+   */
+  public String format(Map<String, Object> parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return render(ParameterResolver.of(parameters), valueRenderers, false);
+  }
+
+  /**
+   * Renders this template by replacing its placeholders with the values given in parameters.
+   * It behaves like {@link PlaceholderFormatter#formatIgnoringUnknownPlaceholders(String, Map)}:
+   * unknown placeholders are left untouched and a template without placeholders is returned as is.
+   *
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NullParametersException if the given map is null
+   */
+  public String formatIgnoringUnknownPlaceholders(Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return render(ParameterResolver.of(parameters), valueRenderers, true);
+  }
+
+  /**
+   * Renders this template into the given output, see {@link #format(Map)}.
+   *
+   * <p> Literal parts and parameter values are written to the output one after the other, the rendered string is never built in memory.
+   * If the rendering fails, part of it may already have been written to the output.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of this template is not provided in the map or if the output could not be written
+   */
+  public void formatTo(Appendable output, Map<String, Object> parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    renderTo(output, ParameterResolver.of(parameters), valueRenderers, false);
+  }
+
+  /**
+   * Renders this template into the given output, see {@link #formatIgnoringUnknownPlaceholders(Map)}.
+   *
+   * <p> Literal parts and parameter values are written to the output one after the other, the rendered string is never built in memory.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if the output could not be written
+   */
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    renderTo(output, ParameterResolver.of(parameters), valueRenderers, true);
+  }
+
+  /**
+   * Renders this template in UTF-8 into the given buffer, see {@link #format(Map)}.
+   *
+   * <p> The bytes are written from the current position of the buffer, which is then advanced past them. The literal parts of the template are encoded
+   * once at compile time and parameter values are encoded as they are written, no intermediate string is created. The buffer can be a heap or a direct one.
+   * If the rendering fails, the position of the buffer is restored, so the rendering can be retried into a larger buffer.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return the number of bytes written
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of this template is not provided in the map
+   *                                     or if the buffer is too small, the cause then being a {@link java.nio.BufferOverflowException}
+   */
+  public int formatToUtf8(ByteBuffer output, Map<String, Object> parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return renderToUtf8(output, ParameterResolver.of(parameters), false);
+  }
+
+  /**
+   * Renders this template in UTF-8 into the given buffer, see {@link #formatIgnoringUnknownPlaceholders(Map)} and {@link #formatToUtf8(ByteBuffer, Map)}.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return the number of bytes written
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if the buffer is too small, the cause then being a {@link java.nio.BufferOverflowException}
+   */
+  public int formatIgnoringUnknownPlaceholdersToUtf8(ByteBuffer output, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return renderToUtf8(output, ParameterResolver.of(parameters), true);
+  }
+
+  /**
+   * Renders this template in UTF-8 into the given stream, see {@link #format(Map)}.
+   *
+   * <p> The literal parts of the template are encoded once at compile time and parameter values are encoded as they are written,
+   * no intermediate string is created. The bytes are written to the stream by chunks, the stream is neither flushed nor closed.
+   * If the rendering fails, part of it may already have been written to the stream.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of this template is not provided in the map or if the stream could not be written
+   */
+  public void formatToUtf8(OutputStream output, Map<String, Object> parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    renderToUtf8(output, ParameterResolver.of(parameters), false);
+  }
+
+  /**
+   * Renders this template in UTF-8 into the given stream, see {@link #formatIgnoringUnknownPlaceholders(Map)} and {@link #formatToUtf8(OutputStream, Map)}.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if the stream could not be written
+   */
+  public void formatIgnoringUnknownPlaceholdersToUtf8(OutputStream output, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    renderToUtf8(output, ParameterResolver.of(parameters), true);
+  }
+
+  /**
+   * Create a new empty holder of the parameters of this template.
+   *
+   * <p> The holder stores primitive values without boxing them and is meant to be reused from one rendering to the next,
+   * see {@link TemplateParameters}. It can only be used to render this template.
+   *
+   * @return a new TemplateParameters bound to this template
+   */
+  public TemplateParameters newParameters() {
+    return new TemplateParameters(this, slots);
+  }
+
+  /**
+   * Renders this template by replacing its placeholders with the values held by the given parameters, see {@link #format(Map)}.
+   * Primitive values are written without being boxed.
+   *
+   * @param parameters parameters created by {@link #newParameters()} on this template
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given parameters are null
+   * @throws IllegalArgumentException    if the given parameters were created by another template
+   * @throws PlaceholderFormatException  if a placeholder of this template has no value in the given parameters
+   */
+  public String formatWith(TemplateParameters parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    checkOwnership(parameters);
+    final var buffer = RenderBuffers.acquire(expectedLength);
+    try {
+      renderTo(buffer, parameters, false);
+      return toRenderedString(buffer);
+    } finally {
+      RenderBuffers.release(buffer);
+    }
+  }
+
+  /**
+   * Renders this template by replacing its placeholders with the values held by the given parameters, see {@link #formatIgnoringUnknownPlaceholders(Map)}.
+   * Primitive values are written without being boxed.
+   *
+   * @param parameters parameters created by {@link #newParameters()} on this template
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NullParametersException  if the given parameters are null
+   * @throws IllegalArgumentException if the given parameters were created by another template
+   */
+  public String formatIgnoringUnknownPlaceholdersWith(TemplateParameters parameters) {
+    checkOwnership(parameters);
+    if (keys.length == 0) {
+      return template;
+    }
+
+    final var buffer = RenderBuffers.acquire(expectedLength);
+    try {
+      renderTo(buffer, parameters, true);
+      return toRenderedString(buffer);
+    } finally {
+      RenderBuffers.release(buffer);
+    }
+  }
+
+  /**
+   * Renders this template into the given output with the values held by the given parameters, see {@link #formatTo(Appendable, Map)}.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters parameters created by {@link #newParameters()} on this template
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given parameters are null
+   * @throws IllegalArgumentException    if the given parameters were created by another template
+   * @throws PlaceholderFormatException  if a placeholder of this template has no value in the given parameters or if the output could not be written
+   */
+  public void formatToWith(Appendable output, TemplateParameters parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    checkOwnership(parameters);
+    renderTo(output, parameters, false);
+  }
+
+  /**
+   * Renders this template in UTF-8 into the given buffer with the values held by the given parameters, see {@link #formatToUtf8(ByteBuffer, Map)}.
+   * Integer values are written without any intermediate string.
+   *
+   * @param output     the destination of the rendered template
+   * @param parameters parameters created by {@link #newParameters()} on this template
+   * @return the number of bytes written
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given parameters are null
+   * @throws IllegalArgumentException    if the given parameters were created by another template
+   * @throws PlaceholderFormatException  if a placeholder of this template has no value in the given parameters
+   *                                     or if the buffer is too small, the cause then being a {@link java.nio.BufferOverflowException}
+   */
+  public int formatToUtf8With(ByteBuffer output, TemplateParameters parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    checkOwnership(parameters);
+    final var start = output.position();
+    try {
+      final var sink = Utf8Sink.of(output);
+      renderTo(sink, parameters, false);
+      sink.finish();
+      return output.position() - start;
+    } catch (PlaceholderFormatException e) {
+      output.position(start);
+      throw e;
+    } catch (Exception e) {
+      output.position(start);
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  /**
+   * Renders this template against each of the given parameters, see {@link #format(Map)}.
+   *
+   * <p> The returned stream is lazy: each rendering happens when the stream is consumed, in the order of the given parameters.
+   * Output buffers are reused from one rendering to the next, only the resulting strings are allocated.
+   *
+   * @param parameters the parameters of each rendering
+   * @return a lazy stream of the formatted strings, in the order of the given parameters
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given parameters are null, or when an element of the stream is consumed if its parameters are null
+   * @throws PlaceholderFormatException  when an element of the stream is consumed if a placeholder of this template is not provided in its parameters
+   */
+  public Stream<String> formatAll(Iterable<? extends Map<String, Object>> parameters) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    return renderAll(parameters, valueRenderers, false);
+  }
+
+  /**
+   * Renders this template against each of the given parameters, see {@link #formatIgnoringUnknownPlaceholders(Map)}.
+   * The returned stream is lazy, see {@link #formatAll(Iterable)}.
+   *
+   * @param parameters the parameters of each rendering
+   * @return a lazy stream of the formatted strings, in the order of the given parameters
+   * @throws NullParametersException if the given parameters are null, or when an element of the stream is consumed if its parameters are null
+   */
+  public Stream<String> formatAllIgnoringUnknownPlaceholders(Iterable<? extends Map<String, Object>> parameters) {
+    return renderAll(parameters, valueRenderers, true);
+  }
+
+  /**
+   * Renders this template against each of the given parameters in parallel on the given pool, see {@link #format(Map)}.
+   *
+   * @param parameters the parameters of each rendering
+   * @param pool       the pool running the renderings
+   * @return the formatted strings, in the order of the given parameters
+   * @throws NoPlaceholderFoundException if this template does not contain any placeholder
+   * @throws NullParametersException     if the given parameters, or one of them, are null
+   * @throws PlaceholderFormatException  if a placeholder of this template is not provided in one of the given parameters
+   */
+  public List<String> formatAll(List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    if (!hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    return renderAll(parameters, valueRenderers, false, pool);
+  }
+
+  /**
+   * Renders this template against each of the given parameters in parallel on the given pool, see {@link #formatIgnoringUnknownPlaceholders(Map)}.
+   *
+   * @param parameters the parameters of each rendering
+   * @param pool       the pool running the renderings
+   * @return the formatted strings, in the order of the given parameters
+   * @throws NullParametersException if the given parameters, or one of them, are null
+   */
+  public List<String> formatAllIgnoringUnknownPlaceholders(List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    return renderAll(parameters, valueRenderers, true, pool);
+  }
+
+  Stream<String> renderAll(Iterable<? extends Map<String, Object>> parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return StreamSupport.stream(parameters.spliterator(), false)
+      .map(rowParameters -> renderRow(rowParameters, renderers, ignoreUnknownPlaceholders));
+  }
+
+  List<String> renderAll(List<? extends Map<String, Object>> parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders, ForkJoinPool pool) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return ParallelTasks.invokeAll(pool, parameters.size(), row -> renderRow(parameters.get(row), renderers, ignoreUnknownPlaceholders));
+  }
+
+  private String renderRow(Map<String, Object> parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return render(ParameterResolver.of(parameters), renderers, ignoreUnknownPlaceholders);
+  }
+
+  String render(ParameterResolver parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders) {
+    if (keys.length == 0) {
+      return template;
+    }
+
+    final var buffer = RenderBuffers.acquire(expectedLength);
+    try {
+      renderTo(buffer, parameters, renderers, ignoreUnknownPlaceholders);
+      return toRenderedString(buffer);
+    } finally {
+      RenderBuffers.release(buffer);
+    }
+  }
+
+  private int renderToUtf8(ByteBuffer output, ParameterResolver parameters, boolean ignoreUnknownPlaceholders) {
+    final var start = output.position();
+    try {
+      final var sink = Utf8Sink.of(output);
+      renderTo(sink, parameters, valueRenderers, ignoreUnknownPlaceholders);
+      sink.finish();
+      return output.position() - start;
+    } catch (PlaceholderFormatException e) {
+      output.position(start);
+      throw e;
+    } catch (Exception e) {
+      output.position(start);
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  private void renderToUtf8(OutputStream output, ParameterResolver parameters, boolean ignoreUnknownPlaceholders) {
+    try {
+      final var sink = Utf8Sink.of(output, expectedLength);
+      renderTo(sink, parameters, valueRenderers, ignoreUnknownPlaceholders);
+      sink.finish();
+    } catch (PlaceholderFormatException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  private String toRenderedString(StringBuilder buffer) {
+    expectedLength = buffer.length();
+    return buffer.toString();
+  }
+
+  /**
+   * Renders this template like {@link #render(ParameterResolver, ValueRenderers, boolean)}, without throwing when a placeholder has no parameter.
+   *
+   * @return the rendered string, or a {@link RenderFailure} describing the first placeholder without parameter
+   * @throws PlaceholderFormatException if a value could not be rendered
+   */
+  Object tryRender(ParameterResolver parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders) {
+    if (keys.length == 0) {
+      return template;
+    }
+
+    final var buffer = RenderBuffers.acquire(expectedLength);
+    try {
+      final var missing = appendRendered(buffer, parameters, renderers, ignoreUnknownPlaceholders);
+      return missing < 0 ? toRenderedString(buffer) : RenderFailure.missingParameter(placeholders[missing]);
+    } catch (PlaceholderFormatException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    } finally {
+      RenderBuffers.release(buffer);
+    }
+  }
+
+  void renderTo(Appendable output, ParameterResolver parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders) {
+    final int missing;
+    try {
+      missing = appendRendered(output, parameters, renderers, ignoreUnknownPlaceholders);
+    } catch (PlaceholderFormatException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+
+    if (missing >= 0) {
+      throwMissingParameter(missing);
+    }
+  }
+
+  /**
+   * @return the index of the first placeholder without parameter, the rendering stopping there, or -1 if the whole template has been rendered
+   */
+  private int appendRendered(Appendable output, ParameterResolver parameters, ValueRenderers renderers, boolean ignoreUnknownPlaceholders)
+    throws IOException {
+    for (int i = 0; i < keys.length; i++) {
+      appendLiteral(output, i);
+
+      final var value = parameters.resolve(keys[i]);
+      if (value != ParameterResolver.MISSING) {
+        renderers.render(value, output);
+      } else if (ignoreUnknownPlaceholders) {
+        output.append(placeholders[i]);
+      } else {
+        return i;
+      }
+    }
+
+    appendLiteral(output, keys.length);
+    return -1;
+  }
+
+  private void renderTo(Appendable output, TemplateParameters parameters, boolean ignoreUnknownPlaceholders) {
+    try {
+      for (int i = 0; i < keys.length; i++) {
+        appendLiteral(output, i);
+
+        if (!parameters.render(placeholderSlots[i], output, valueRenderers)) {
+          if (!ignoreUnknownPlaceholders) {
+            throwMissingParameter(i);
+          }
+          output.append(placeholders[i]);
+        }
+      }
+
+      appendLiteral(output, keys.length);
+    } catch (PlaceholderFormatException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  private void appendLiteral(Appendable output, int index) throws IOException {
+    if (output instanceof Utf8Sink sink) {
+      sink.write(literalBytes[index]);
+    } else {
+      output.append(literals[index]);
+    }
+  }
+
+  private void throwMissingParameter(int index) {
+    throw new PlaceholderFormatException("Unable to format the requested String",
+      new PlaceholderParameterNotFound("No parameter found for the placeholder " + placeholders[index], placeholders[index]));
+  }
+
+  private void checkOwnership(TemplateParameters parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    if (!parameters.belongsTo(this)) {
+      throw new IllegalArgumentException("The given parameters were not created by this template");
+    }
+  }
+}
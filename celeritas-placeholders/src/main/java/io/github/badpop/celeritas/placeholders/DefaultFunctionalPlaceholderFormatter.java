@@ -1,13 +1,19 @@
 package io.github.badpop.celeritas.placeholders;
 
-import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
 import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
 import io.vavr.collection.Seq;
 import io.vavr.control.Try;
 
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.vavr.API.Try;
 
@@ -16,101 +22,299 @@ import static io.vavr.API.Try;
  * for working with functional objects offered by the Vavr library.
  *
  * <p> The default placeholder format is ${[A-Za-z0-9_-]+}
+ *
+ * <p> Like {@link DefaultPlaceholderFormatter}, the string formats given to the format methods are compiled once and kept in a {@link TemplateCache}.
+ * The {@code tryToFormat} methods render without throwing, the failure of the returned Try being the only exception created.
+ * To create a formatter with stackless exceptions, see {@link DefaultPlaceholderFormatter#builder()}.
  */
 public class DefaultFunctionalPlaceholderFormatter implements FunctionalPlaceholderFormatter {
 
-  private static final PlaceholderFormatter DEFAULT_FORMATTER = PlaceholderFormatter.newFormatter();
-  private static final PlaceholderConfiguration PLACEHOLDER_CONFIGURATION = PlaceholderConfiguration.newDefault();
+  private final DefaultPlaceholderFormatter formatter;
+
+  public DefaultFunctionalPlaceholderFormatter() {
+    this(TemplateCache.getDefault(), ValueRenderers.defaults());
+  }
+
+  public DefaultFunctionalPlaceholderFormatter(TemplateCache templateCache) {
+    this(templateCache, ValueRenderers.defaults());
+  }
+
+  public DefaultFunctionalPlaceholderFormatter(ValueRenderers valueRenderers) {
+    this(TemplateCache.getDefault(), valueRenderers);
+  }
+
+  public DefaultFunctionalPlaceholderFormatter(TemplateCache templateCache, ValueRenderers valueRenderers) {
+    this.formatter = new DefaultPlaceholderFormatter(templateCache, valueRenderers);
+  }
+
+  public DefaultFunctionalPlaceholderFormatter(TemplateCache templateCache, ValueRenderers valueRenderers, FormatterInstrumentation instrumentation) {
+    this.formatter = new DefaultPlaceholderFormatter(templateCache, valueRenderers, instrumentation);
+  }
+
+  DefaultFunctionalPlaceholderFormatter(DefaultPlaceholderFormatter formatter) {
+    this.formatter = formatter;
+  }
+
+  /**
+   * Get the cache in which this formatter keeps the string formats it compiled
+   *
+   * @return the template cache of this formatter
+   */
+  public TemplateCache getTemplateCache() {
+    return formatter.getTemplateCache();
+  }
+
+  /**
+   * Get the renderers this formatter writes parameter values with
+   *
+   * @return the value renderers of this formatter
+   */
+  public ValueRenderers getValueRenderers() {
+    return formatter.getValueRenderers();
+  }
+
+  /**
+   * Get the instrumentation notified of the renderings of this formatter
+   *
+   * @return the instrumentation of this formatter, {@link FormatterInstrumentation#noop()} by default
+   */
+  public FormatterInstrumentation getInstrumentation() {
+    return formatter.getInstrumentation();
+  }
+
+  /**
+   * Check if this formatter creates its exceptions without stack trace, see {@link DefaultPlaceholderFormatter.Builder#stacklessExceptions(boolean)}
+   *
+   * @return true if the exceptions created by this formatter have no stack trace, false by default
+   */
+  public boolean hasStacklessExceptions() {
+    return formatter.hasStacklessExceptions();
+  }
 
   @Override
   public Seq<String> getPlaceholdersAsSeq(String strFormat) {
-    return Formatter.getPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat);
+    return io.vavr.collection.List.ofAll(formatter.getPlaceholders(strFormat));
   }
 
   @Override
   public List<String> getPlaceholders(String strFormat) {
-    return DEFAULT_FORMATTER.getPlaceholders(strFormat);
+    return formatter.getPlaceholders(strFormat);
   }
 
   @Override
   public boolean hasPlaceholders(String strFormat) {
-    return DEFAULT_FORMATTER.hasPlaceholders(strFormat);
+    return formatter.hasPlaceholders(strFormat);
   }
 
   @Override
   public int countPlaceholders(String strFormat) {
-    return DEFAULT_FORMATTER.countPlaceholders(strFormat);
+    return formatter.countPlaceholders(strFormat);
+  }
+
+  @Override
+  public List<String> getPlaceholders(String strFormat, ForkJoinPool pool) {
+    return formatter.getPlaceholders(strFormat, pool);
+  }
+
+  @Override
+  public int countPlaceholders(String strFormat, ForkJoinPool pool) {
+    return formatter.countPlaceholders(strFormat, pool);
+  }
+
+  @Override
+  public CompiledTemplate compile(String strFormat) {
+    return formatter.compile(strFormat);
   }
 
   @Override
   public String format(String strTemplate, Map<String, Object> parameters) {
-    return DEFAULT_FORMATTER.format(strTemplate, parameters);
+    return formatter.format(strTemplate, parameters);
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholders(String strTemplate, Map<String, Object> parameters) {
-    return DEFAULT_FORMATTER.formatIgnoringUnknownPlaceholders(strTemplate, parameters);
+    return formatter.formatIgnoringUnknownPlaceholders(strTemplate, parameters);
+  }
+
+  @Override
+  public String formatLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatter.formatLazily(strFormat, parameters);
+  }
+
+  @Override
+  public String formatLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return formatter.formatLazily(strFormat, resolver, memoize);
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatter.formatIgnoringUnknownPlaceholdersLazily(strFormat, parameters);
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return formatter.formatIgnoringUnknownPlaceholdersLazily(strFormat, resolver, memoize);
+  }
+
+  @Override
+  public String formatRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatter.formatRecursively(strFormat, parameters);
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatter.formatIgnoringUnknownPlaceholdersRecursively(strFormat, parameters);
+  }
+
+  @Override
+  public Stream<String> formatAll(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    return formatter.formatAll(strFormat, parameters);
+  }
+
+  @Override
+  public Stream<String> formatAllIgnoringUnknownPlaceholders(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    return formatter.formatAllIgnoringUnknownPlaceholders(strFormat, parameters);
+  }
+
+  @Override
+  public List<String> formatAll(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    return formatter.formatAll(strFormat, parameters, pool);
+  }
+
+  @Override
+  public List<String> formatAllIgnoringUnknownPlaceholders(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    return formatter.formatAllIgnoringUnknownPlaceholders(strFormat, parameters, pool);
+  }
+
+  @Override
+  public void formatTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    formatter.formatTo(output, strFormat, parameters);
+  }
+
+  @Override
+  public void formatTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    formatter.formatTo(output, charset, strFormat, parameters);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, strFormat, parameters);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, charset, strFormat, parameters);
+  }
+
+  @Override
+  public void formatTo(Appendable output, Reader input, Map<String, Object> parameters) {
+    formatter.formatTo(output, input, parameters);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, Reader input, Map<String, Object> parameters) {
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, input, parameters);
+  }
+
+  @Override
+  public void formatTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    formatter.formatTo(output, path, charset, parameters);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, path, charset, parameters);
   }
 
   @Override
   public String formatOrElse(String strTemplate, Map<String, Object> parameters, Supplier<String> supplier) {
-    return DEFAULT_FORMATTER.formatOrElse(strTemplate, parameters, supplier);
+    return formatter.formatOrElse(strTemplate, parameters, supplier);
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholdersOrElse(String strTemplate, Map<String, Object> parameters, Supplier<String> supplier) {
-    return DEFAULT_FORMATTER.formatIgnoringUnknownPlaceholdersOrElse(strTemplate, parameters, supplier);
+    return formatter.formatIgnoringUnknownPlaceholdersOrElse(strTemplate, parameters, supplier);
   }
 
   @Override
   public String formatOrElseThrow(String strTemplate, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
-    return DEFAULT_FORMATTER.formatOrElseThrow(strTemplate, parameters, exceptionSupplier);
+    return formatter.formatOrElseThrow(strTemplate, parameters, exceptionSupplier);
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholdersOrElseThrow(String strTemplate, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
-    return DEFAULT_FORMATTER.formatIgnoringUnknownPlaceholdersOrElseThrow(strTemplate, parameters, exceptionSupplier);
+    return formatter.formatIgnoringUnknownPlaceholdersOrElseThrow(strTemplate, parameters, exceptionSupplier);
   }
 
   @Override
   public String format(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
-    if(!hasPlaceholders(strFormat)) {
-      throw new NoPlaceholderFoundException();
-    }
-
-    if(parameters == null) {
-      throw new NullParametersException();
-    }
-
-    return Formatter.format(PLACEHOLDER_CONFIGURATION, strFormat, parameters);
+    return formatter.formatted(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, false));
   }
 
   @Override
   public Try<String> tryToFormat(String strFormat, Map<String, Object> parameters) {
-    return Try(() -> format(strFormat, parameters));
+    return toTry(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, false));
   }
 
   @Override
   public Try<String> tryToFormat(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
-    return Try(() -> format(strFormat, parameters));
+    return toTry(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, false));
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    return formatter.formatted(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, true));
+  }
+
+  @Override
+  public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
+    return toTry(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, true));
+  }
+
+  @Override
+  public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    return toTry(formatter.tryFormat(strFormat, parameters, ParameterResolver::of, true));
+  }
+
+  @Override
+  public void formatTo(Appendable output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    final var template = formatter.templateWithPlaceholders(strFormat);
+
     if(parameters == null) {
       throw new NullParametersException();
     }
 
-    return Formatter.formatIgnoringUnknownPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat, parameters);
+    formatter.renderTo(output, template, ParameterResolver.of(parameters), false);
   }
 
   @Override
-  public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
-    return Try(() -> formatIgnoringUnknownPlaceholders(strFormat, parameters));
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    if(parameters == null) {
+      throw new NullParametersException();
+    }
+
+    formatter.renderTo(output, formatter.template(strFormat), ParameterResolver.of(parameters), true);
   }
 
   @Override
-  public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
-    return Try(() -> formatIgnoringUnknownPlaceholders(strFormat, parameters));
+  public <A extends Appendable> Try<A> tryToFormatTo(A output, String strFormat, Map<String, Object> parameters) {
+    return Try(() -> {
+      formatTo(output, strFormat, parameters);
+      return output;
+    });
+  }
+
+  @Override
+  public <A extends Appendable> Try<A> tryToFormatTo(A output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    return Try(() -> {
+      formatTo(output, strFormat, parameters);
+      return output;
+    });
+  }
+
+  private Try<String> toTry(Object rendering) {
+    return rendering instanceof String rendered
+      ? Try.success(rendered)
+      : Try.failure(formatter.toException((RenderFailure) rendering));
   }
 }
@@ -5,6 +5,7 @@ import java.util.Map;
 interface DefaultPlaceholderConstants {
 
   String DEFAULT_PLACEHOLDER_PATTERN = "[$][{]([\\w\\d_-]+)}";
+  String DEFAULT_PLACEHOLDER_KEY_PATTERN = "([\\w\\d_-]+)";
   String DEFAULT_PLACEHOLDER_PREFIX = "${";
   String DEFAULT_PLACEHOLDER_SUFFIX = "}";
 
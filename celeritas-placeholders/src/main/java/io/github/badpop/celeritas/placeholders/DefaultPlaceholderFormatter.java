@@ -2,77 +2,568 @@ package io.github.badpop.celeritas.placeholders;
 
 import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
 import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
-import io.vavr.collection.HashMap;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
-
-import static io.vavr.API.Try;
+import java.util.stream.Stream;
 
 /**
  * The DefaultPlaceholderFormatter is a default formatter
  *
  * <p> The default placeholder format is ${[A-Za-z0-9_-]+}
+ *
+ * <p> The string formats given to the format methods are compiled once and kept in a {@link TemplateCache},
+ * so formatting the same string format again does not locate its placeholders again.
+ * Unless another cache is given, all formatters share the {@link TemplateCache#getDefault()} cache.
+ *
+ * <p> The renderings of a formatter can be measured by giving it a {@link FormatterInstrumentation}. By default, they are not measured at all.
+ *
+ * <p> Renderings are validated and rendered without throwing, exceptions are only created by the methods throwing them:
+ * the {@code OrElse} methods fall back without creating any exception when a placeholder has no parameter.
+ * Formatters created with {@link Builder#stacklessExceptions(boolean)} also create the exceptions of the methods returning a string without stack trace,
+ * which makes failing renderings much cheaper when they are expected, at the expense of the diagnosis of unexpected ones.
  */
 public class DefaultPlaceholderFormatter implements PlaceholderFormatter {
 
   private static final PlaceholderConfiguration PLACEHOLDER_CONFIGURATION = PlaceholderConfiguration.newDefault();
 
+  private final TemplateCache templateCache;
+  private final PlaceholderConfiguration placeholderConfiguration;
+  private final ValueRenderers valueRenderers;
+  private final FormatterInstrumentation instrumentation;
+  private final boolean instrumented;
+  private final boolean stacklessExceptions;
+
+  public DefaultPlaceholderFormatter() {
+    this(TemplateCache.getDefault(), ValueRenderers.defaults());
+  }
+
+  public DefaultPlaceholderFormatter(TemplateCache templateCache) {
+    this(templateCache, ValueRenderers.defaults());
+  }
+
+  public DefaultPlaceholderFormatter(ValueRenderers valueRenderers) {
+    this(TemplateCache.getDefault(), valueRenderers);
+  }
+
+  public DefaultPlaceholderFormatter(TemplateCache templateCache, ValueRenderers valueRenderers) {
+    this(templateCache, valueRenderers, FormatterInstrumentation.noop());
+  }
+
+  public DefaultPlaceholderFormatter(TemplateCache templateCache, ValueRenderers valueRenderers, FormatterInstrumentation instrumentation) {
+    this(templateCache, valueRenderers, instrumentation, false);
+  }
+
+  private DefaultPlaceholderFormatter(TemplateCache templateCache, ValueRenderers valueRenderers, FormatterInstrumentation instrumentation,
+                                      boolean stacklessExceptions) {
+    if (templateCache == null) {
+      throw new IllegalArgumentException("The template cache of a formatter can not be null");
+    }
+
+    if (instrumentation == null) {
+      throw new IllegalArgumentException("The instrumentation of a formatter can not be null");
+    }
+
+    this.templateCache = templateCache;
+    this.placeholderConfiguration = PLACEHOLDER_CONFIGURATION.withValueRenderers(valueRenderers);
+    this.valueRenderers = valueRenderers;
+    this.instrumentation = instrumentation;
+    this.instrumented = instrumentation != FormatterInstrumentation.noop();
+    this.stacklessExceptions = stacklessExceptions;
+    instrumentation.bindTemplateCache(templateCache);
+  }
+
+  /**
+   * Create a builder of formatters, starting from the default template cache, value renderers and instrumentation
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Get the cache in which this formatter keeps the string formats it compiled
+   *
+   * @return the template cache of this formatter
+   */
+  public TemplateCache getTemplateCache() {
+    return templateCache;
+  }
+
+  /**
+   * Get the renderers this formatter writes parameter values with
+   *
+   * @return the value renderers of this formatter
+   */
+  public ValueRenderers getValueRenderers() {
+    return valueRenderers;
+  }
+
+  /**
+   * Get the instrumentation notified of the renderings of this formatter
+   *
+   * @return the instrumentation of this formatter, {@link FormatterInstrumentation#noop()} by default
+   */
+  public FormatterInstrumentation getInstrumentation() {
+    return instrumentation;
+  }
+
+  /**
+   * Check if this formatter creates its exceptions without stack trace
+   *
+   * @return true if the exceptions thrown by the methods of this formatter returning a string have no stack trace, false by default
+   */
+  public boolean hasStacklessExceptions() {
+    return stacklessExceptions;
+  }
+
   @Override
   public List<String> getPlaceholders(String strFormat) {
-    return Formatter.getPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat).toJavaList();
+    if (strFormat == null) {
+      return List.of();
+    }
+
+    // inspected templates are not cached, so validating many string formats doesn't evict the ones being rendered
+    final var template = templateCache.getIfPresent(strFormat);
+    return template != null
+      ? template.getPlaceholders()
+      : CompiledTemplate.compile(placeholderConfiguration, strFormat).getPlaceholders();
   }
 
   @Override
   public boolean hasPlaceholders(String strFormat) {
-    return Formatter.hasPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat);
+    final var template = cachedTemplate(strFormat);
+    return template != null
+      ? template.hasPlaceholders()
+      : Formatter.hasPlaceholders(placeholderConfiguration, strFormat);
   }
 
   @Override
   public int countPlaceholders(String strFormat) {
-    return Formatter.countPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat);
+    final var template = cachedTemplate(strFormat);
+    return template != null
+      ? template.countPlaceholders()
+      : Formatter.countPlaceholders(placeholderConfiguration, strFormat);
+  }
+
+  @Override
+  public List<String> getPlaceholders(String strFormat, ForkJoinPool pool) {
+    if (strFormat == null) {
+      return List.of();
+    }
+
+    try {
+      return ParallelPlaceholderScanner.getPlaceholders(placeholderConfiguration, strFormat, pool);
+    } catch (Exception e) {
+      return List.of();
+    }
+  }
+
+  @Override
+  public int countPlaceholders(String strFormat, ForkJoinPool pool) {
+    if (strFormat == null) {
+      return 0;
+    }
+
+    try {
+      return ParallelPlaceholderScanner.countPlaceholders(placeholderConfiguration, strFormat, pool);
+    } catch (Exception e) {
+      throw new IllegalArgumentException("Unable to match format with pattern [" + placeholderConfiguration.getPattern() + "]", e);
+    }
+  }
+
+  @Override
+  public CompiledTemplate compile(String strFormat) {
+    return CompiledTemplate.compile(placeholderConfiguration, strFormat);
   }
 
   @Override
   public String format(String strFormat, Map<String, Object> parameters) {
-    if (!hasPlaceholders(strFormat)) {
-      throw new NoPlaceholderFoundException();
+    return formatted(tryFormat(strFormat, parameters, ParameterResolver::of, false));
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
+    return formatted(tryFormat(strFormat, parameters, ParameterResolver::of, true));
+  }
+
+  @Override
+  public String formatLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatted(tryFormat(strFormat, parameters, suppliers -> ParameterResolver.ofSuppliers(suppliers).memoized(), false));
+  }
+
+  @Override
+  public String formatLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return formatted(tryFormat(strFormat, resolver, function -> resolverOf(function, memoize), false));
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatted(tryFormat(strFormat, parameters, suppliers -> ParameterResolver.ofSuppliers(suppliers).memoized(), true));
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return formatted(tryFormat(strFormat, resolver, function -> resolverOf(function, memoize), true));
+  }
+
+  @Override
+  public String formatRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatted(tryFormat(strFormat, parameters,
+      map -> new RecursiveParameterResolver(placeholderConfiguration, ParameterResolver.of(map), false), false));
+  }
+
+  @Override
+  public String formatIgnoringUnknownPlaceholdersRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatted(tryFormat(strFormat, parameters,
+      map -> new RecursiveParameterResolver(placeholderConfiguration, ParameterResolver.of(map), true), true));
+  }
+
+  @Override
+  public Stream<String> formatAll(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    return templateWithPlaceholders(strFormat).renderAll(parameters, valueRenderers, false);
+  }
+
+  @Override
+  public Stream<String> formatAllIgnoringUnknownPlaceholders(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    return template(strFormat).renderAll(parameters, valueRenderers, true);
+  }
+
+  @Override
+  public List<String> formatAll(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    return templateWithPlaceholders(strFormat).renderAll(parameters, valueRenderers, false, pool);
+  }
+
+  @Override
+  public List<String> formatAllIgnoringUnknownPlaceholders(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    return template(strFormat).renderAll(parameters, valueRenderers, true, pool);
+  }
+
+  @Override
+  public void formatTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    final var template = templateWithPlaceholders(strFormat);
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    renderTo(output, template, ParameterResolver.of(parameters), false);
+  }
+
+  @Override
+  public void formatTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    final var writer = new OutputStreamWriter(output, charset);
+    formatTo(writer, strFormat, parameters);
+    flush(writer);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
     }
 
+    renderTo(output, template(strFormat), ParameterResolver.of(parameters), true);
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    final var writer = new OutputStreamWriter(output, charset);
+    formatIgnoringUnknownPlaceholdersTo(writer, strFormat, parameters);
+    flush(writer);
+  }
+
+  @Override
+  public void formatTo(Appendable output, Reader input, Map<String, Object> parameters) {
     if (parameters == null) {
       throw new NullParametersException();
     }
 
-    return Formatter.format(PLACEHOLDER_CONFIGURATION, strFormat, HashMap.ofAll(parameters));
+    Formatter.formatToWith(placeholderConfiguration, output, input, ParameterResolver.of(parameters));
   }
 
   @Override
-  public String formatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, Reader input, Map<String, Object> parameters) {
     if (parameters == null) {
       throw new NullParametersException();
     }
 
-    return Formatter.formatIgnoringUnknownPlaceholders(PLACEHOLDER_CONFIGURATION, strFormat, HashMap.ofAll(parameters));
+    Formatter.formatIgnoringUnknownPlaceholdersToWith(placeholderConfiguration, output, input, ParameterResolver.of(parameters));
+  }
+
+  @Override
+  public void formatTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    Formatter.formatToWith(placeholderConfiguration, output, path, charset, ParameterResolver.of(parameters));
+  }
+
+  @Override
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    Formatter.formatIgnoringUnknownPlaceholdersToWith(placeholderConfiguration, output, path, charset, ParameterResolver.of(parameters));
   }
 
   @Override
   public String formatOrElse(String strFormat, Map<String, Object> parameters, Supplier<String> supplier) {
-    return Try(() -> format(strFormat, parameters)).getOrElse(supplier);
+    return tryFormat(strFormat, parameters, ParameterResolver::of, false) instanceof String rendered ? rendered : supplier.get();
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholdersOrElse(String strFormat, Map<String, Object> parameters, Supplier<String> supplier) {
-    return Try(() -> formatIgnoringUnknownPlaceholders(strFormat, parameters)).getOrElse(supplier);
+    return tryFormat(strFormat, parameters, ParameterResolver::of, true) instanceof String rendered ? rendered : supplier.get();
   }
 
   @Override
   public String formatOrElseThrow(String strFormat, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
-    return Try(() -> format(strFormat, parameters)).getOrElseThrow(exceptionSupplier);
+    if (tryFormat(strFormat, parameters, ParameterResolver::of, false) instanceof String rendered) {
+      return rendered;
+    }
+
+    throw exceptionSupplier.get();
   }
 
   @Override
   public String formatIgnoringUnknownPlaceholdersOrElseThrow(String strFormat, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
-    return Try(() -> formatIgnoringUnknownPlaceholders(strFormat, parameters)).getOrElseThrow(exceptionSupplier);
+    if (tryFormat(strFormat, parameters, ParameterResolver::of, true) instanceof String rendered) {
+      return rendered;
+    }
+
+    throw exceptionSupplier.get();
+  }
+
+  /**
+   * Validates the given string format and parameters, then renders them, without throwing any exception.
+   * The string format and the parameters are checked in the same order as the throwing format methods do.
+   *
+   * @param strFormat                 the string format to render
+   * @param parameters                the parameters of the rendering, possibly null
+   * @param resolver                  the function creating the resolver of the non null parameters
+   * @param ignoreUnknownPlaceholders whether placeholders without parameter are left untouched
+   * @param <P>                       the type of the parameters
+   * @return the rendered string, or a {@link RenderFailure} describing why it could not be rendered
+   */
+  <P> Object tryFormat(String strFormat, P parameters, Function<? super P, ParameterResolver> resolver, boolean ignoreUnknownPlaceholders) {
+    try {
+      if (ignoreUnknownPlaceholders) {
+        if (parameters == null) {
+          return RenderFailure.NULL_PARAMETERS;
+        }
+
+        if (strFormat == null) {
+          return RenderFailure.NULL_STRING_FORMAT;
+        }
+
+        return tryRender(templateCache.get(strFormat), resolver.apply(parameters), true);
+      }
+
+      if (strFormat == null) {
+        return RenderFailure.NO_PLACEHOLDER_FOUND;
+      }
+
+      final var template = templateCache.get(strFormat);
+      if (!template.hasPlaceholders()) {
+        return RenderFailure.NO_PLACEHOLDER_FOUND;
+      }
+
+      if (parameters == null) {
+        return RenderFailure.NULL_PARAMETERS;
+      }
+
+      return tryRender(template, resolver.apply(parameters), false);
+    } catch (RuntimeException e) {
+      return RenderFailure.of(e);
+    }
+  }
+
+  /**
+   * Get the string rendered by {@link #tryFormat(String, Object, Function, boolean)}, or throw the exception describing why it could not be rendered
+   */
+  String formatted(Object rendering) {
+    if (rendering instanceof String rendered) {
+      return rendered;
+    }
+
+    throw ((RenderFailure) rendering).toException(stacklessExceptions);
+  }
+
+  /**
+   * Get the exception describing why {@link #tryFormat(String, Object, Function, boolean)} could not render a string format
+   */
+  RuntimeException toException(RenderFailure failure) {
+    return failure.toException(stacklessExceptions);
+  }
+
+  private Object tryRender(CompiledTemplate template, ParameterResolver parameters, boolean ignoreUnknownPlaceholders) {
+    if (!instrumented) {
+      return template.tryRender(parameters, valueRenderers, ignoreUnknownPlaceholders);
+    }
+
+    final var start = System.nanoTime();
+    try {
+      final var rendering = template.tryRender(parameters, valueRenderers, ignoreUnknownPlaceholders);
+      if (rendering instanceof String rendered) {
+        instrumentation.onRender(template.getTemplate(), System.nanoTime() - start, rendered.length());
+      } else {
+        instrumentation.onMissingParameter(template.getTemplate(), ((RenderFailure) rendering).getPlaceholder());
+      }
+      return rendering;
+    } catch (PlaceholderFormatException e) {
+      onFailure(template, e);
+      throw e;
+    }
+  }
+
+  void renderTo(Appendable output, CompiledTemplate template, ParameterResolver parameters, boolean ignoreUnknownPlaceholders) {
+    if (!instrumented) {
+      template.renderTo(output, parameters, valueRenderers, ignoreUnknownPlaceholders);
+      return;
+    }
+
+    final var start = System.nanoTime();
+    try {
+      template.renderTo(output, parameters, valueRenderers, ignoreUnknownPlaceholders);
+      instrumentation.onRender(template.getTemplate(), System.nanoTime() - start, -1);
+    } catch (PlaceholderFormatException e) {
+      onFailure(template, e);
+      throw e;
+    }
+  }
+
+  private void onFailure(CompiledTemplate template, PlaceholderFormatException e) {
+    if (e.getCause() instanceof PlaceholderParameterNotFound notFound) {
+      instrumentation.onMissingParameter(template.getTemplate(), notFound.getPlaceholder());
+    }
+  }
+
+  private CompiledTemplate cachedTemplate(String strFormat) {
+    return strFormat != null ? templateCache.getIfPresent(strFormat) : null;
+  }
+
+  CompiledTemplate template(String strFormat) {
+    if (strFormat == null) {
+      throw new PlaceholderFormatException("Unable to format the requested String", new NullPointerException("The string format is null"));
+    }
+
+    return templateCache.get(strFormat);
+  }
+
+  CompiledTemplate templateWithPlaceholders(String strFormat) {
+    if (strFormat == null) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    final var template = templateCache.get(strFormat);
+    if (!template.hasPlaceholders()) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    return template;
+  }
+
+  private static ParameterResolver resolverOf(Function<String, ?> resolver, boolean memoize) {
+    final var parameters = ParameterResolver.ofFunction(resolver);
+    return memoize ? parameters.memoized() : parameters;
+  }
+
+  private static void flush(Writer writer) {
+    try {
+      writer.flush();
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  /**
+   * A builder of {@link DefaultPlaceholderFormatter} and {@link DefaultFunctionalPlaceholderFormatter}.
+   * It starts from the {@link TemplateCache#getDefault()} cache, the {@link ValueRenderers#defaults()} renderers and the {@link FormatterInstrumentation#noop()}
+   * instrumentation, and creates exceptions with their stack trace.
+   */
+  public static final class Builder {
+
+    private TemplateCache templateCache = TemplateCache.getDefault();
+    private ValueRenderers valueRenderers = ValueRenderers.defaults();
+    private FormatterInstrumentation instrumentation = FormatterInstrumentation.noop();
+    private boolean stacklessExceptions;
+
+    private Builder() {
+    }
+
+    /**
+     * @param templateCache the cache in which the formatter keeps the string formats it compiled
+     * @return this builder
+     */
+    public Builder templateCache(TemplateCache templateCache) {
+      this.templateCache = templateCache;
+      return this;
+    }
+
+    /**
+     * @param valueRenderers the renderers the formatter writes parameter values with
+     * @return this builder
+     */
+    public Builder valueRenderers(ValueRenderers valueRenderers) {
+      this.valueRenderers = valueRenderers;
+      return this;
+    }
+
+    /**
+     * @param instrumentation the instrumentation notified of the renderings of the formatter
+     * @return this builder
+     */
+    public Builder instrumentation(FormatterInstrumentation instrumentation) {
+      this.instrumentation = instrumentation;
+      return this;
+    }
+
+    /**
+     * Create the exceptions thrown by the methods of the formatter returning a string, and the failures of the Try of the functional formatter,
+     * without their stack trace, or with it, which is the default.
+     *
+     * <p> Capturing the stack trace is most of the cost of an exception. Without it, code expecting some renderings to fail,
+     * such as renderings of user provided string formats, does not pay for diagnostics it never reads.
+     * The type, the message and the cause of the exceptions are unchanged.
+     *
+     * @param stacklessExceptions true to create exceptions without stack trace
+     * @return this builder
+     */
+    public Builder stacklessExceptions(boolean stacklessExceptions) {
+      this.stacklessExceptions = stacklessExceptions;
+      return this;
+    }
+
+    /**
+     * @return a new DefaultPlaceholderFormatter
+     * @throws IllegalArgumentException if the template cache or the instrumentation is null
+     */
+    public DefaultPlaceholderFormatter build() {
+      return new DefaultPlaceholderFormatter(templateCache, valueRenderers, instrumentation, stacklessExceptions);
+    }
+
+    /**
+     * @return a new DefaultFunctionalPlaceholderFormatter
+     * @throws IllegalArgumentException if the template cache or the instrumentation is null
+     */
+    public DefaultFunctionalPlaceholderFormatter buildFunctional() {
+      return new DefaultFunctionalPlaceholderFormatter(build());
+    }
   }
 }
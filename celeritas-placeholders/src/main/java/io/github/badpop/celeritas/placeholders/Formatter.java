@@ -1,14 +1,23 @@
 package io.github.badpop.celeritas.placeholders;
 
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
 import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
 import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
-import io.vavr.Tuple2;
 import io.vavr.collection.List;
 import io.vavr.collection.Map;
 import io.vavr.collection.Seq;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
-import java.util.regex.Pattern;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.function.Function;
 
 import static io.vavr.API.Seq;
 
@@ -22,9 +31,9 @@ interface Formatter {
     final var keys = new ArrayList<String>();
 
     try {
-      final var matcher = Pattern.compile(placeholderConfiguration.getPattern()).matcher(strFormat);
+      final var matcher = placeholderConfiguration.matcher(strFormat);
       while (matcher.find()) {
-        keys.add(matcher.group(1));
+        keys.add(matcher.key());
       }
     } catch (Exception e) {
       return Seq();
@@ -35,7 +44,7 @@ interface Formatter {
 
   static boolean hasPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat) {
     try {
-      return Pattern.compile(placeholderConfiguration.getPattern()).matcher(strFormat).find();
+      return placeholderConfiguration.matcher(strFormat).find();
     } catch (Exception e) {
       return false;
     }
@@ -43,7 +52,7 @@ interface Formatter {
 
   static int countPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat) {
     try {
-      final var matcher = Pattern.compile(placeholderConfiguration.getPattern()).matcher(strFormat);
+      final var matcher = placeholderConfiguration.matcher(strFormat);
       var count = 0;
       while (matcher.find()) {
         count++;
@@ -55,57 +64,203 @@ interface Formatter {
   }
 
   static String format(PlaceholderConfiguration placeholderConfiguration, String strFormat, Map<String, Object> parameters) {
+    return formatWith(placeholderConfiguration, strFormat, ParameterResolver.of(parameters));
+  }
+
+  static String formatIgnoringUnknownPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat, Map<String, Object> parameters) {
+    return formatIgnoringUnknownPlaceholdersWith(placeholderConfiguration, strFormat, ParameterResolver.of(parameters));
+  }
+
+  static String formatWith(PlaceholderConfiguration placeholderConfiguration, String strFormat, ParameterResolver parameters) {
     try {
-      final var newTemplate = new StringBuilder(strFormat);
-      final var paramsValues = new ArrayList<>();
-      final var matcher = Pattern.compile(placeholderConfiguration.getPattern()).matcher(strFormat);
+      return render(placeholderConfiguration, strFormat, parameters, false);
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-      while (matcher.find()) {
-        String key = matcher.group(1);
-        String placeholder = placeholderConfiguration.getPrefix() + key + placeholderConfiguration.getSuffix();
-        int index = newTemplate.indexOf(placeholder);
+  static String formatIgnoringUnknownPlaceholdersWith(PlaceholderConfiguration placeholderConfiguration, String strFormat, ParameterResolver parameters) {
+    try {
+      return render(placeholderConfiguration, strFormat, parameters, true);
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  static void formatToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, String strFormat, ParameterResolver parameters) {
+    try {
+      renderTo(placeholderConfiguration, output, strFormat, parameters, false);
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  /**
+   * Appends an already formatted string to the given output, for the formatters that can't render their string formats to an output
+   */
+  static void appendFormatted(Appendable output, String formatted) {
+    try {
+      output.append(formatted);
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
+
+  /**
+   * Encodes an already formatted string to the given output stream and flushes it, for the formatters that can't render their string formats to an output
+   */
+  static void writeFormatted(OutputStream output, Charset charset, String formatted) {
+    try {
+      output.write(formatted.getBytes(charset));
+      output.flush();
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-        if (index != -1) {
-          newTemplate.replace(index, index + placeholder.length(), "%s");
+  /**
+   * Reads the whole given input, for the formatters that can't render their string formats while reading them
+   */
+  static String readFully(Reader input) {
+    try {
+      final var content = new StringWriter();
+      input.transferTo(content);
+      return content.toString();
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-          parameters.find(tuple -> tuple._1.equals(key))
-            .map(Tuple2::_2)
-            .peek(paramsValues::add)
-            .getOrElseThrow(() -> new PlaceholderParameterNotFound("No parameter found for the placeholder " + placeholder));
+  /**
+   * Reads the whole given file, for the formatters that can't render their string formats while reading them
+   */
+  static String readFully(Path input, Charset charset) {
+    try {
+      return Files.readString(input, charset);
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
+  /**
+   * Resolves the value of each of the given keys once, for the formatters that can't resolve their parameters while rendering.
+   * Keys resolved to null are left without parameter.
+   */
+  static java.util.Map<String, Object> resolveAll(java.util.List<String> keys, Function<String, ?> resolver) {
+    try {
+      final var parameters = new HashMap<String, Object>();
+      for (final var key : new LinkedHashSet<>(keys)) {
+        final var value = resolver.apply(key);
+        if (value != null) {
+          parameters.put(key, value);
         }
       }
+      return parameters;
+    } catch (PlaceholderFormatException e) {
+      throw e;
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-      return String.format(newTemplate.toString(), paramsValues.toArray());
+  static void formatIgnoringUnknownPlaceholdersToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, String strFormat,
+                                                      ParameterResolver parameters) {
+    try {
+      renderTo(placeholderConfiguration, output, strFormat, parameters, true);
     } catch (Exception e) {
       throw new PlaceholderFormatException("Unable to format the requested String", e);
     }
   }
 
-  static String formatIgnoringUnknownPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat, Map<String, Object> parameters) {
+  static void formatToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, Reader input, ParameterResolver parameters) {
+    final long count;
     try {
-      final var newTemplate = new StringBuilder(strFormat);
-      final var paramsValues = new ArrayList<>();
-      final var matcher = Pattern.compile(placeholderConfiguration.getPattern()).matcher(strFormat);
+      count = StreamingRenderer.render(placeholderConfiguration, input, output, parameters, false);
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
 
-      while (matcher.find()) {
-        String key = matcher.group(1);
-        String placeholder = placeholderConfiguration.getPrefix() + key + placeholderConfiguration.getSuffix();
-        int index = newTemplate.indexOf(placeholder);
+    if (count == 0) {
+      throw new NoPlaceholderFoundException();
+    }
+  }
 
-        if (index != -1) {
-          newTemplate.replace(index, index + placeholder.length(), "%s");
+  static void formatIgnoringUnknownPlaceholdersToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, Reader input,
+                                                      ParameterResolver parameters) {
+    try {
+      StreamingRenderer.render(placeholderConfiguration, input, output, parameters, true);
+    } catch (Exception e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-          parameters.find(tuple -> tuple._1.equals(key))
-            .map(Tuple2::_2)
-            .peek(paramsValues::add)
-            .onEmpty(() -> paramsValues.add(placeholder));
-        }
-      }
+  static void formatToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, Path input, Charset charset, ParameterResolver parameters) {
+    try (var reader = new MappedFileReader(input, charset)) {
+      formatToWith(placeholderConfiguration, output, reader, parameters);
+    } catch (IOException e) {
+      throw new PlaceholderFormatException("Unable to format the requested String", e);
+    }
+  }
 
-      return String.format(newTemplate.toString(), paramsValues.toArray());
-    } catch (Exception e) {
+  static void formatIgnoringUnknownPlaceholdersToWith(PlaceholderConfiguration placeholderConfiguration, Appendable output, Path input, Charset charset,
+                                                      ParameterResolver parameters) {
+    try (var reader = new MappedFileReader(input, charset)) {
+      formatIgnoringUnknownPlaceholdersToWith(placeholderConfiguration, output, reader, parameters);
+    } catch (IOException e) {
       throw new PlaceholderFormatException("Unable to format the requested String", e);
     }
   }
+
+  private static String render(PlaceholderConfiguration placeholderConfiguration, String strFormat, ParameterResolver parameters,
+                               boolean ignoreUnknownPlaceholders) throws IOException {
+    final var matcher = placeholderConfiguration.matcher(strFormat);
+    if (!matcher.find()) {
+      return strFormat;
+    }
+
+    final var output = RenderBuffers.acquire(strFormat.length() + (strFormat.length() >> 2));
+    try {
+      appendRendered(matcher, output, strFormat, parameters, placeholderConfiguration.getValueRenderers(), ignoreUnknownPlaceholders);
+      return output.toString();
+    } finally {
+      RenderBuffers.release(output);
+    }
+  }
+
+  private static void renderTo(PlaceholderConfiguration placeholderConfiguration, Appendable output, String strFormat, ParameterResolver parameters,
+                               boolean ignoreUnknownPlaceholders) throws IOException {
+    final var matcher = placeholderConfiguration.matcher(strFormat);
+    if (!matcher.find()) {
+      output.append(strFormat);
+      return;
+    }
+
+    appendRendered(matcher, output, strFormat, parameters, placeholderConfiguration.getValueRenderers(), ignoreUnknownPlaceholders);
+  }
+
+  /**
+   * Renders the given string format in a single pass: literal parts and parameter values are appended to the output
+   * as the placeholders are found, so the cost of rendering only depends on the length of the string format.
+   * The given matcher must already be positioned on the first placeholder.
+   */
+  private static void appendRendered(PlaceholderMatcher matcher, Appendable output, String strFormat, ParameterResolver parameters,
+                                     ValueRenderers valueRenderers, boolean ignoreUnknownPlaceholders) throws IOException {
+    var position = 0;
+    do {
+      output.append(strFormat, position, matcher.start());
+
+      final var value = parameters.resolve(matcher.key());
+      if (value != ParameterResolver.MISSING) {
+        valueRenderers.render(value, output);
+      } else if (ignoreUnknownPlaceholders) {
+        output.append(strFormat, matcher.start(), matcher.end());
+      } else {
+        throw new PlaceholderParameterNotFound("No parameter found for the placeholder " + matcher.placeholder(), matcher.placeholder());
+      }
+
+      position = matcher.end();
+    } while (matcher.find());
+
+    output.append(strFormat, position, strFormat.length());
+  }
 }
@@ -0,0 +1,53 @@
+package io.github.badpop.celeritas.placeholders;
+
+/**
+ * A FormatterInstrumentation is notified of the renderings of a {@link DefaultPlaceholderFormatter}, to measure them.
+ *
+ * <p> It is notified of each string format rendered by the formatter, whether the result is returned or written to an output,
+ * and of the renderings failing because a placeholder has no parameter. Batch renderings and string formats read from a reader or a file are not reported.
+ * All methods do nothing by default, so implementations only override the events they are interested in.
+ *
+ * <p> Instrumentations are called on the rendering threads and must be thread safe. They should be cheap, as they are called for every rendering.
+ * The {@link #noop()} instrumentation used by default is never called, formatters don't even measure the renderings when using it.
+ *
+ * <p> To publish these events as metrics, see {@link MetricsInstrumentation}.
+ */
+public interface FormatterInstrumentation {
+
+  /**
+   * Get the instrumentation used by default, which ignores all events
+   *
+   * @return the no-op instrumentation
+   */
+  static FormatterInstrumentation noop() {
+    return NoopFormatterInstrumentation.INSTANCE;
+  }
+
+  /**
+   * Called once by each formatter using this instrumentation, with the cache the formatter keeps its compiled string formats in.
+   * Several formatters may share the same cache.
+   *
+   * @param templateCache the template cache of the formatter
+   */
+  default void bindTemplateCache(TemplateCache templateCache) {
+  }
+
+  /**
+   * Called after a string format has been rendered
+   *
+   * @param strFormat     the rendered string format
+   * @param durationNanos the duration of the rendering in nanoseconds
+   * @param outputLength  the length of the rendered string, or -1 if it was written to an output
+   */
+  default void onRender(String strFormat, long durationNanos, int outputLength) {
+  }
+
+  /**
+   * Called when a rendering fails because a placeholder has no parameter
+   *
+   * @param strFormat   the string format whose rendering failed
+   * @param placeholder the placeholder without parameter, as it appears in the string format
+   */
+  default void onMissingParameter(String strFormat, String placeholder) {
+  }
+}
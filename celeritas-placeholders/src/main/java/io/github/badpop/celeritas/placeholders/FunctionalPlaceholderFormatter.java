@@ -108,4 +108,69 @@ public interface FunctionalPlaceholderFormatter extends PlaceholderFormatter {
    * @return a Try containing the execution result
    */
   Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters);
+
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, io.vavr.collection.Map)}, but writes the result to the given output
+   * instead of returning it. If the format fails, part of it may already have been written to the output.
+   * By default, the string is formatted by {@link #format(String, io.vavr.collection.Map)} and then appended to the output.
+   *
+   * @param output     the destination of the formatted string, a {@link java.io.Writer} or a {@link StringBuilder} for example
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatTo(Appendable output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    Formatter.appendFormatted(output, format(strFormat, parameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, io.vavr.collection.Map)},
+   * but writes the result to the given output instead of returning it. By default, the string is formatted
+   * by {@link #formatIgnoringUnknownPlaceholders(String, io.vavr.collection.Map)} and then appended to the output.
+   *
+   * @param output     the destination of the formatted string, a {@link java.io.Writer} or a {@link StringBuilder} for example
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatIgnoringUnknownPlaceholdersTo(Appendable output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    Formatter.appendFormatted(output, formatIgnoringUnknownPlaceholders(strFormat, parameters));
+  }
+
+  /**
+   * This method calls the {@link #formatTo(Appendable, String, Map)} method directly but wraps the execution of the latter in a functional {@link Try} and returns it as is.
+   * Thus, no exceptions can be thrown when you call this method.
+   *
+   * @param output     the destination of the formatted string
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @param <A>        the type of the output
+   * @return a Try containing the given output if the execution succeeded
+   */
+  default <A extends Appendable> Try<A> tryToFormatTo(A output, String strFormat, Map<String, Object> parameters) {
+    return Try.of(() -> {
+      formatTo(output, strFormat, parameters);
+      return output;
+    });
+  }
+
+  /**
+   * This method calls the {@link #formatTo(Appendable, String, io.vavr.collection.Map)} method directly but wraps the execution of the latter in a functional {@link Try} and returns it as is.
+   * Thus, no exceptions can be thrown when you call this method.
+   *
+   * @param output     the destination of the formatted string
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @param <A>        the type of the output
+   * @return a Try containing the given output if the execution succeeded
+   */
+  default <A extends Appendable> Try<A> tryToFormatTo(A output, String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+    return Try.of(() -> {
+      formatTo(output, strFormat, parameters);
+      return output;
+    });
+  }
 }
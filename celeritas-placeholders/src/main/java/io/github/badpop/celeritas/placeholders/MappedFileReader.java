@@ -0,0 +1,77 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * A {@link Reader} decoding a file through memory mapping.
+ *
+ * <p> The file is mapped by windows of at most {@link #WINDOW_SIZE} bytes and decoded straight from the mapped memory,
+ * so reading it does not copy its bytes on the heap whatever its size.
+ */
+final class MappedFileReader extends Reader {
+
+  static final long WINDOW_SIZE = 1L << 28;
+
+  private final FileChannel channel;
+  private final CharsetDecoder decoder;
+  private final long size;
+
+  private MappedByteBuffer window;
+  private long windowStart;
+  private boolean finished;
+
+  MappedFileReader(Path path, Charset charset) throws IOException {
+    this.channel = FileChannel.open(path, StandardOpenOption.READ);
+    this.decoder = charset.newDecoder();
+    this.size = channel.size();
+  }
+
+  @Override
+  public int read(char[] chars, int offset, int length) throws IOException {
+    if (length == 0) {
+      return 0;
+    }
+
+    final var output = CharBuffer.wrap(chars, offset, length);
+    while (output.position() == offset && !finished) {
+      if (window == null) {
+        map(0);
+      }
+
+      final var lastWindow = windowStart + window.limit() >= size;
+      final var result = decoder.decode(window, output, lastWindow);
+      if (result.isError()) {
+        result.throwException();
+      }
+
+      if (result.isUnderflow()) {
+        if (lastWindow) {
+          finished = decoder.flush(output).isUnderflow();
+        } else {
+          map(windowStart + window.position());
+        }
+      }
+    }
+
+    final var read = output.position() - offset;
+    return read == 0 && finished ? -1 : read;
+  }
+
+  private void map(long start) throws IOException {
+    windowStart = start;
+    window = channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+  }
+
+  @Override
+  public void close() throws IOException {
+    channel.close();
+  }
+}
@@ -0,0 +1,221 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.DoubleConsumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * A {@link FormatterInstrumentation} publishing the renderings of a formatter as metrics, through a {@link MetricsRegistry}.
+ *
+ * <p> The following meters are published:
+ * <ul>
+ *   <li>{@value #RENDER_DURATION}: a timer of the renderings</li>
+ *   <li>{@value #RENDER_LENGTH}: a distribution summary of the length of the rendered strings</li>
+ *   <li>{@value #MISSING_PARAMETERS}: a counter of the renderings failing because a placeholder has no parameter</li>
+ *   <li>{@value #CACHE_HITS}, {@value #CACHE_MISSES} and {@value #CACHE_EVICTIONS}: the counters of the {@link TemplateCache} of the formatter,
+ *   the hit ratio being the hits divided by the sum of hits and misses</li>
+ *   <li>{@value #CACHE_SIZE}: a gauge of the number of templates in the cache</li>
+ * </ul>
+ * Cache meters are tagged with "cache", whose value is "default" for the {@link TemplateCache#getDefault()} cache.
+ *
+ * <p> By default, renderings of all string formats are recorded by the same meters. To record them per template,
+ * give a function naming the string formats: the rendering meters are then tagged with "template". As each name creates new meters,
+ * the function should give a limited number of names.
+ *
+ * <p> The placeholders without parameter are not tagged by default, since the string formats may come from the callers of the formatter.
+ * {@link #withPlaceholderTag(int)} tags the {@value #MISSING_PARAMETERS} counter with the placeholder, up to a maximum number of distinct placeholders.
+ */
+public final class MetricsInstrumentation implements FormatterInstrumentation {
+
+  /**
+   * The name of the timer of the renderings
+   */
+  public static final String RENDER_DURATION = "celeritas.placeholders.render.duration";
+
+  /**
+   * The name of the distribution summary of the length of the rendered strings
+   */
+  public static final String RENDER_LENGTH = "celeritas.placeholders.render.length";
+
+  /**
+   * The name of the counter of the renderings failing because a placeholder has no parameter
+   */
+  public static final String MISSING_PARAMETERS = "celeritas.placeholders.missing.parameters";
+
+  /**
+   * The name of the counter of the string formats found compiled in the template cache
+   */
+  public static final String CACHE_HITS = "celeritas.placeholders.cache.hits";
+
+  /**
+   * The name of the counter of the string formats compiled because they were not in the template cache
+   */
+  public static final String CACHE_MISSES = "celeritas.placeholders.cache.misses";
+
+  /**
+   * The name of the counter of the templates evicted from the template cache
+   */
+  public static final String CACHE_EVICTIONS = "celeritas.placeholders.cache.evictions";
+
+  /**
+   * The name of the gauge of the number of templates in the template cache
+   */
+  public static final String CACHE_SIZE = "celeritas.placeholders.cache.size";
+
+  /**
+   * The placeholder tag of the missing parameters beyond the maximum number of tagged placeholders
+   */
+  public static final String OTHER_PLACEHOLDERS = "other";
+
+  private final MetricsRegistry registry;
+  private final Function<String, String> templateNames;
+  private final int maximumPlaceholderTags;
+  private final Set<String> taggedPlaceholders = ConcurrentHashMap.newKeySet();
+  private final TemplateMeters untaggedMeters;
+  private final Map<String, TemplateMeters> templateMeters = new ConcurrentHashMap<>();
+  private final Map<String, Runnable> missingParameterCounters = new ConcurrentHashMap<>();
+  private final Set<TemplateCache> boundCaches = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger customCaches = new AtomicInteger();
+
+  private MetricsInstrumentation(MetricsRegistry registry, Function<String, String> templateNames, int maximumPlaceholderTags) {
+    if (registry == null) {
+      throw new IllegalArgumentException("The metrics registry of an instrumentation can not be null");
+    }
+
+    this.registry = registry;
+    this.templateNames = templateNames;
+    this.maximumPlaceholderTags = maximumPlaceholderTags;
+    this.untaggedMeters = templateNames == null ? new TemplateMeters(registry) : null;
+  }
+
+  /**
+   * Create an instrumentation recording the renderings of all string formats with the same meters
+   *
+   * @param registry the registry creating the meters
+   * @return a new MetricsInstrumentation
+   * @throws IllegalArgumentException if the registry is null
+   */
+  public static MetricsInstrumentation of(MetricsRegistry registry) {
+    return new MetricsInstrumentation(registry, null, 0);
+  }
+
+  /**
+   * Create an instrumentation recording the renderings of each template with its own meters, tagged with "template"
+   *
+   * @param registry      the registry creating the meters
+   * @param templateNames the function giving the name of a string format, called for each rendering, it should be cheap
+   * @return a new MetricsInstrumentation
+   * @throws IllegalArgumentException if the registry or the function is null
+   */
+  public static MetricsInstrumentation of(MetricsRegistry registry, Function<String, String> templateNames) {
+    if (templateNames == null) {
+      throw new IllegalArgumentException("The template names function of an instrumentation can not be null");
+    }
+
+    return new MetricsInstrumentation(registry, templateNames, 0);
+  }
+
+  /**
+   * Create an instrumentation like this one, but also tagging the {@value #MISSING_PARAMETERS} counter with "placeholder", the placeholder without parameter.
+   * Only the first placeholders found missing are tagged with their own value, the following ones are tagged with {@value #OTHER_PLACEHOLDERS},
+   * so that string formats coming from the callers of the formatter can't create an unbounded number of meters.
+   *
+   * @param maximumPlaceholders the maximum number of distinct placeholders tagged with their own value
+   * @return a new MetricsInstrumentation
+   * @throws IllegalArgumentException if the maximum number of placeholders is not positive
+   */
+  public MetricsInstrumentation withPlaceholderTag(int maximumPlaceholders) {
+    if (maximumPlaceholders <= 0) {
+      throw new IllegalArgumentException("The maximum number of tagged placeholders must be positive");
+    }
+
+    return new MetricsInstrumentation(registry, templateNames, maximumPlaceholders);
+  }
+
+  @Override
+  public void bindTemplateCache(TemplateCache templateCache) {
+    if (!boundCaches.add(templateCache)) {
+      return;
+    }
+
+    final var cache = templateCache == TemplateCache.getDefault() ? "default" : "custom-" + customCaches.incrementAndGet();
+    registry.functionCounter(CACHE_HITS, templateCache, TemplateCache::getHitCount, "cache", cache);
+    registry.functionCounter(CACHE_MISSES, templateCache, TemplateCache::getMissCount, "cache", cache);
+    registry.functionCounter(CACHE_EVICTIONS, templateCache, TemplateCache::getEvictionCount, "cache", cache);
+    registry.gauge(CACHE_SIZE, templateCache, TemplateCache::size, "cache", cache);
+  }
+
+  @Override
+  public void onRender(String strFormat, long durationNanos, int outputLength) {
+    final var meters = metersOf(strFormat);
+    meters.duration.accept(durationNanos);
+    if (outputLength >= 0) {
+      meters.length.accept(outputLength);
+    }
+  }
+
+  @Override
+  public void onMissingParameter(String strFormat, String placeholder) {
+    final var template = templateNames == null ? "" : templateNames.apply(strFormat);
+    final var placeholderTag = maximumPlaceholderTags == 0 ? "" : placeholderTagOf(String.valueOf(placeholder));
+    missingParameterCounters.computeIfAbsent(template + '\u0000' + placeholderTag, ignored -> missingParameterCounter(template, placeholderTag))
+      .run();
+  }
+
+  private String placeholderTagOf(String placeholder) {
+    if (taggedPlaceholders.contains(placeholder)) {
+      return placeholder;
+    }
+
+    if (taggedPlaceholders.size() < maximumPlaceholderTags) {
+      synchronized (taggedPlaceholders) {
+        if (taggedPlaceholders.contains(placeholder) || taggedPlaceholders.size() < maximumPlaceholderTags) {
+          taggedPlaceholders.add(placeholder);
+          return placeholder;
+        }
+      }
+    }
+
+    return OTHER_PLACEHOLDERS;
+  }
+
+  private Runnable missingParameterCounter(String template, String placeholderTag) {
+    if (templateNames == null) {
+      return placeholderTag.isEmpty()
+        ? registry.counter(MISSING_PARAMETERS)
+        : registry.counter(MISSING_PARAMETERS, "placeholder", placeholderTag);
+    }
+
+    return placeholderTag.isEmpty()
+      ? registry.counter(MISSING_PARAMETERS, "template", template)
+      : registry.counter(MISSING_PARAMETERS, "template", template, "placeholder", placeholderTag);
+  }
+
+  private TemplateMeters metersOf(String strFormat) {
+    if (untaggedMeters != null) {
+      return untaggedMeters;
+    }
+
+    return templateMeters.computeIfAbsent(templateNames.apply(strFormat), name -> new TemplateMeters(registry, name));
+  }
+
+  private static final class TemplateMeters {
+
+    private final LongConsumer duration;
+    private final DoubleConsumer length;
+
+    private TemplateMeters(MetricsRegistry registry) {
+      this.duration = registry.timer(RENDER_DURATION);
+      this.length = registry.summary(RENDER_LENGTH);
+    }
+
+    private TemplateMeters(MetricsRegistry registry, String name) {
+      this.duration = registry.timer(RENDER_DURATION, "template", name);
+      this.length = registry.summary(RENDER_LENGTH, "template", name);
+    }
+  }
+}
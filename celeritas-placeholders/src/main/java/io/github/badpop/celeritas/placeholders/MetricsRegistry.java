@@ -0,0 +1,65 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.function.DoubleConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * A MetricsRegistry creates the meters {@link MetricsInstrumentation} publishes the renderings of a formatter with.
+ *
+ * <p> It mirrors the registries of metrics libraries such as Micrometer, so that it can be implemented by delegating each method to them,
+ * without Celeritas Placeholders depending on any of these libraries. Tags are given as key/value pairs: "key1", "value1", "key2", "value2"...
+ *
+ * <p> Each meter is requested once for a given name and tags, the returned recorders being kept by the instrumentation.
+ */
+public interface MetricsRegistry {
+
+  /**
+   * Create a timer, such as a Micrometer Timer, possibly publishing a histogram of the durations
+   *
+   * @param name the name of the timer
+   * @param tags the tags of the timer, as key/value pairs
+   * @return a recorder of durations in nanoseconds
+   */
+  LongConsumer timer(String name, String... tags);
+
+  /**
+   * Create a distribution summary, such as a Micrometer DistributionSummary
+   *
+   * @param name the name of the distribution summary
+   * @param tags the tags of the distribution summary, as key/value pairs
+   * @return a recorder of amounts
+   */
+  DoubleConsumer summary(String name, String... tags);
+
+  /**
+   * Create a counter, such as a Micrometer Counter
+   *
+   * @param name the name of the counter
+   * @param tags the tags of the counter, as key/value pairs
+   * @return an action incrementing the counter by one
+   */
+  Runnable counter(String name, String... tags);
+
+  /**
+   * Register a counter whose value is read from an object, such as a Micrometer FunctionCounter
+   *
+   * @param name  the name of the counter
+   * @param obj   the object the value of the counter is read from
+   * @param count the function reading the monotonically increasing value of the counter
+   * @param tags  the tags of the counter, as key/value pairs
+   * @param <T>   the type of the object
+   */
+  <T> void functionCounter(String name, T obj, ToDoubleFunction<T> count, String... tags);
+
+  /**
+   * Register a gauge whose value is read from an object, such as a Micrometer Gauge
+   *
+   * @param name  the name of the gauge
+   * @param obj   the object the value of the gauge is read from
+   * @param value the function reading the value of the gauge
+   * @param tags  the tags of the gauge, as key/value pairs
+   * @param <T>   the type of the object
+   */
+  <T> void gauge(String name, T obj, ToDoubleFunction<T> value, String... tags);
+}
@@ -0,0 +1,12 @@
+package io.github.badpop.celeritas.placeholders;
+
+/**
+ * The instrumentation ignoring all events, see {@link FormatterInstrumentation#noop()}
+ */
+final class NoopFormatterInstrumentation implements FormatterInstrumentation {
+
+  static final FormatterInstrumentation INSTANCE = new NoopFormatterInstrumentation();
+
+  private NoopFormatterInstrumentation() {
+  }
+}
@@ -0,0 +1,174 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Locates the placeholders of a large string format on several threads.
+ *
+ * <p> The string format is split into chunks scanned in parallel. Each chunk is scanned up to {@link StreamingRenderer#MAXIMUM_PLACEHOLDER_LENGTH}
+ * characters past its end, so that a placeholder starting in a chunk and ending in the next one is found by the chunk it starts in.
+ * The results of the chunks are then merged in order. When the last placeholder of a chunk ends inside the next chunk,
+ * the next chunk is scanned again sequentially from the end of this placeholder, until its results agree with the parallel scan.
+ * The placeholders found are therefore the ones a sequential scan would find, as long as they are not longer than the maximum placeholder length.
+ *
+ * <p> Chunks are at least {@link #MINIMUM_CHUNK_SIZE} characters long, smaller string formats are scanned as a single chunk, as well as
+ * string formats scanned on a pool of a single thread. Each chunk is copied before being scanned, so that the matchers work on strings.
+ * This costs much less than the scan itself, but makes the parallel scan slower than a sequential one when the pool can't run chunks simultaneously.
+ */
+final class ParallelPlaceholderScanner {
+
+  static final int MINIMUM_CHUNK_SIZE = 1 << 16;
+  private static final int CHUNKS_PER_THREAD = 4;
+
+  private ParallelPlaceholderScanner() {
+  }
+
+  static List<String> getPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat, ForkJoinPool pool) {
+    return scan(placeholderConfiguration, strFormat, pool, chunkSize(strFormat, pool), true).getKeys();
+  }
+
+  static int countPlaceholders(PlaceholderConfiguration placeholderConfiguration, String strFormat, ForkJoinPool pool) {
+    return scan(placeholderConfiguration, strFormat, pool, chunkSize(strFormat, pool), false).getCount();
+  }
+
+  static Placeholders scan(PlaceholderConfiguration placeholderConfiguration, String strFormat, ForkJoinPool pool, int chunkSize, boolean collectKeys) {
+    final var chunkCount = (strFormat.length() + chunkSize - 1) / chunkSize;
+    final var chunks = ParallelTasks.invokeAll(pool, chunkCount,
+      chunk -> scan(placeholderConfiguration, strFormat, chunk * chunkSize, chunkEnd(strFormat, chunk, chunkSize), collectKeys));
+
+    final var placeholders = new Placeholders(collectKeys);
+    var position = 0;
+    for (int chunk = 0; chunk < chunkCount; chunk++) {
+      final var start = chunk * chunkSize;
+      final var end = chunkEnd(strFormat, chunk, chunkSize);
+      final var scanned = chunks.get(chunk);
+      var next = 0;
+
+      if (position > start) {
+        next = rescan(placeholderConfiguration, strFormat, position, end, scanned, placeholders);
+      }
+
+      placeholders.addAll(scanned, next);
+
+      position = placeholders.lastEnd;
+    }
+
+    return placeholders;
+  }
+
+  private static int chunkSize(String strFormat, ForkJoinPool pool) {
+    if (pool.getParallelism() == 1) {
+      return Math.max(1, strFormat.length());
+    }
+
+    final var chunkCount = (long) pool.getParallelism() * CHUNKS_PER_THREAD;
+    return (int) Math.max(MINIMUM_CHUNK_SIZE, (strFormat.length() + chunkCount - 1) / chunkCount);
+  }
+
+  private static int chunkEnd(String strFormat, int chunk, int chunkSize) {
+    return (int) Math.min(strFormat.length(), (long) (chunk + 1) * chunkSize);
+  }
+
+  /**
+   * Scans the placeholders starting between the given bounds
+   */
+  private static Placeholders scan(PlaceholderConfiguration placeholderConfiguration, String strFormat, int start, int end, boolean collectKeys) {
+    final var placeholders = new Placeholders(collectKeys);
+    final var windowEnd = (int) Math.min(strFormat.length(), (long) end + StreamingRenderer.MAXIMUM_PLACEHOLDER_LENGTH);
+    final var matcher = placeholderConfiguration.matcher(strFormat.substring(start, windowEnd));
+
+    while (matcher.find() && start + matcher.start() < end) {
+      placeholders.add(start + matcher.start(), start + matcher.end(), collectKeys ? matcher.key() : null);
+    }
+    return placeholders;
+  }
+
+  /**
+   * Scans sequentially the placeholders of a chunk from the end of the placeholder crossing its beginning,
+   * until a placeholder is also one of the parallel scan of the chunk, the following ones being then the same.
+   *
+   * @return the index of the first placeholder of the parallel scan that remains to be added
+   */
+  private static int rescan(PlaceholderConfiguration placeholderConfiguration, String strFormat, int position, int end, Placeholders scanned,
+                            Placeholders placeholders) {
+    if (position >= end) {
+      return scanned.count;
+    }
+
+    final var windowEnd = (int) Math.min(strFormat.length(), (long) end + StreamingRenderer.MAXIMUM_PLACEHOLDER_LENGTH);
+    final var matcher = placeholderConfiguration.matcher(strFormat.substring(position, windowEnd));
+    while (matcher.find() && position + matcher.start() < end) {
+      final var start = position + matcher.start();
+      final var index = Arrays.binarySearch(scanned.starts, 0, scanned.count, start);
+      if (index >= 0 && scanned.ends[index] == position + matcher.end()) {
+        return index;
+      }
+
+      placeholders.add(start, position + matcher.end(), scanned.keys != null ? matcher.key() : null);
+    }
+    return scanned.count;
+  }
+
+  /**
+   * The placeholders found in a string format, in order of appearance
+   */
+  static final class Placeholders {
+
+    private int[] starts = new int[16];
+    private int[] ends = new int[16];
+    private final List<String> keys;
+    private int count;
+    private int lastEnd;
+
+    private Placeholders(boolean collectKeys) {
+      this.keys = collectKeys ? new ArrayList<>() : null;
+    }
+
+    private void add(int start, int end, String key) {
+      if (count == starts.length) {
+        starts = Arrays.copyOf(starts, count * 2);
+        ends = Arrays.copyOf(ends, count * 2);
+      }
+
+      starts[count] = start;
+      ends[count] = end;
+      if (keys != null) {
+        keys.add(key);
+      }
+      count++;
+      lastEnd = end;
+    }
+
+    private void addAll(Placeholders placeholders, int fromIndex) {
+      final var added = placeholders.count - fromIndex;
+      if (added <= 0) {
+        return;
+      }
+
+      if (count + added > starts.length) {
+        starts = Arrays.copyOf(starts, Math.max(count + added, count * 2));
+        ends = Arrays.copyOf(ends, starts.length);
+      }
+
+      System.arraycopy(placeholders.starts, fromIndex, starts, count, added);
+      System.arraycopy(placeholders.ends, fromIndex, ends, count, added);
+      if (keys != null) {
+        keys.addAll(placeholders.keys.subList(fromIndex, placeholders.count));
+      }
+      count += added;
+      lastEnd = ends[count - 1];
+    }
+
+    List<String> getKeys() {
+      return keys == null ? List.of() : Collections.unmodifiableList(keys);
+    }
+
+    int getCount() {
+      return count;
+    }
+  }
+}
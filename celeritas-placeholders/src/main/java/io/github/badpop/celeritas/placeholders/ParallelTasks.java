@@ -0,0 +1,73 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntFunction;
+
+/**
+ * Runs indexed tasks on a given {@link ForkJoinPool}.
+ *
+ * <p> The tasks are split into ranges forked as explicit ForkJoin tasks of the pool, so they always run on the given pool,
+ * unlike a parallel stream which only runs on the pool it is started from as an implementation detail.
+ * Ranges are split until each worker of the pool has a few of them to run, or steal.
+ */
+final class ParallelTasks {
+
+  private static final int RANGES_PER_WORKER = 4;
+
+  private ParallelTasks() {
+  }
+
+  /**
+   * Computes the results of the given tasks on the given pool
+   *
+   * @param pool  the pool running the tasks
+   * @param count the number of tasks
+   * @param task  the task computing the result of each index
+   * @param <T>   the type of the results
+   * @return the unmodifiable list of the results, in the order of their indexes
+   */
+  @SuppressWarnings("unchecked")
+  static <T> List<T> invokeAll(ForkJoinPool pool, int count, IntFunction<? extends T> task) {
+    final var results = new Object[count];
+    if (count > 0) {
+      final var rangeSize = Math.max(1, count / (pool.getParallelism() * RANGES_PER_WORKER));
+      pool.invoke(new Range(results, task, 0, count, rangeSize));
+    }
+
+    return (List<T>) Collections.unmodifiableList(Arrays.asList(results));
+  }
+
+  private static final class Range extends RecursiveAction {
+
+    private final Object[] results;
+    private final IntFunction<?> task;
+    private final int start;
+    private final int end;
+    private final int rangeSize;
+
+    private Range(Object[] results, IntFunction<?> task, int start, int end, int rangeSize) {
+      this.results = results;
+      this.task = task;
+      this.start = start;
+      this.end = end;
+      this.rangeSize = rangeSize;
+    }
+
+    @Override
+    protected void compute() {
+      if (end - start <= rangeSize) {
+        for (int index = start; index < end; index++) {
+          results[index] = task.apply(index);
+        }
+        return;
+      }
+
+      final var middle = (start + end) >>> 1;
+      invokeAll(new Range(results, task, start, middle, rangeSize), new Range(results, task, middle, end, rangeSize));
+    }
+  }
+}
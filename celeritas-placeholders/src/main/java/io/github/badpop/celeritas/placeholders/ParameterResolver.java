@@ -0,0 +1,74 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.HashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * A ParameterResolver gives access to the value of a placeholder from its key.
+ *
+ * <p> It is a thin view over the parameters given by the caller: maps are never copied, and each key is resolved with a single direct lookup.
+ * A resolver returns {@link #MISSING} when there is no parameter for a key, so that parameters explicitly mapped to null can still be rendered.
+ */
+@FunctionalInterface
+interface ParameterResolver {
+
+  /**
+   * The value returned for keys without parameter
+   */
+  Object MISSING = new Object();
+
+  /**
+   * Resolves the value of a placeholder
+   *
+   * @param key the key of the placeholder
+   * @return the value of the placeholder, possibly null, or {@link #MISSING} if there is no parameter for this key
+   */
+  Object resolve(String key);
+
+  /**
+   * Wraps this resolver so that each key is resolved at most once, the first time it is requested.
+   * The returned resolver is meant to be used for a single rendering, it must not be shared between threads.
+   *
+   * @return a memoizing view of this resolver
+   */
+  default ParameterResolver memoized() {
+    final var values = new HashMap<String, Object>();
+    return key -> {
+      var value = values.get(key);
+      if (value == null && !values.containsKey(key)) {
+        value = resolve(key);
+        values.put(key, value);
+      }
+      return value;
+    };
+  }
+
+  static ParameterResolver of(java.util.Map<String, Object> parameters) {
+    return key -> parameters.getOrDefault(key, MISSING);
+  }
+
+  static ParameterResolver of(io.vavr.collection.Map<String, Object> parameters) {
+    return key -> parameters.getOrElse(key, MISSING);
+  }
+
+  /**
+   * A resolver calling the supplier of a key only when its placeholder is rendered. Keys mapped to a null supplier have no parameter.
+   */
+  static ParameterResolver ofSuppliers(java.util.Map<String, ? extends Supplier<?>> parameters) {
+    return key -> {
+      final Supplier<?> supplier = parameters.get(key);
+      return supplier == null ? MISSING : supplier.get();
+    };
+  }
+
+  /**
+   * A resolver delegating to the given function. Keys for which the function returns null have no parameter.
+   */
+  static ParameterResolver ofFunction(Function<String, ?> resolver) {
+    return key -> {
+      final Object value = resolver.apply(key);
+      return value == null ? MISSING : value;
+    };
+  }
+}
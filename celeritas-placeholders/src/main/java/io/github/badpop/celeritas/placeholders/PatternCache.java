@@ -0,0 +1,47 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * A process-wide, size bounded cache of compiled regular expressions.
+ *
+ * <p> It allows distinct {@link PlaceholderConfiguration} instances declaring the same pattern to share a single compiled {@link Pattern}.
+ * When the cache is full, the least recently used pattern is evicted.
+ */
+final class PatternCache {
+
+  static final int MAXIMUM_SIZE = 256;
+
+  private static final Map<String, Pattern> PATTERNS = new LinkedHashMap<>(16, 0.75f, true) {
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<String, Pattern> eldest) {
+      return size() > MAXIMUM_SIZE;
+    }
+  };
+
+  private PatternCache() {
+  }
+
+  static Pattern get(String regex) {
+    synchronized (PATTERNS) {
+      final var cached = PATTERNS.get(regex);
+      if (cached != null) {
+        return cached;
+      }
+    }
+
+    final var pattern = Pattern.compile(regex);
+    synchronized (PATTERNS) {
+      final var cached = PATTERNS.putIfAbsent(regex, pattern);
+      return cached != null ? cached : pattern;
+    }
+  }
+
+  static int size() {
+    synchronized (PATTERNS) {
+      return PATTERNS.size();
+    }
+  }
+}
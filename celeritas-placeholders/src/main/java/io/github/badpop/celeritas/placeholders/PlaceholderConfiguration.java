@@ -1,5 +1,8 @@
 package io.github.badpop.celeritas.placeholders;
 
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
 import static io.github.badpop.celeritas.placeholders.DefaultPlaceholderConstants.*;
 
 /**
@@ -7,6 +10,15 @@ import static io.github.badpop.celeritas.placeholders.DefaultPlaceholderConstant
  * The pattern must be a regular expression with a single capture group to identify the placeholder key.
  * The prefix and suffix allow the placeholder to be recreated at formatting time from the key to format it.
  *
+ * <p> The pattern is compiled lazily, the first time it is needed, and then kept by the configuration.
+ * Configurations declaring the same pattern share the same compiled {@link Pattern}.
+ *
+ * <p> When the pattern is the plain concatenation of the prefix, a key made of letters, digits, underscores and dashes, and the suffix
+ * (see {@link #fromPrefixAndSuffix(String, String)}), placeholders are located by a dedicated scanner and the regular expression is never evaluated.
+ *
+ * <p> Parameter values are written in place of their placeholders by the configuration's {@link ValueRenderers},
+ * which are the {@link ValueRenderers#defaults()} unless other renderers are given, see {@link #withValueRenderers(ValueRenderers)}.
+ *
  * <p> The default implementation of this class is {@link DefaultPlaceholderConfiguration}
  */
 public class PlaceholderConfiguration {
@@ -14,21 +26,77 @@ public class PlaceholderConfiguration {
   private final String pattern;
   private final String prefix;
   private final String suffix;
+  private final ValueRenderers valueRenderers;
+
+  private final boolean plain;
+
+  private volatile Pattern compiledPattern;
 
   public PlaceholderConfiguration(String pattern, String prefix, String suffix) {
+    this(pattern, prefix, suffix, ValueRenderers.defaults());
+  }
+
+  public PlaceholderConfiguration(String pattern, String prefix, String suffix, ValueRenderers valueRenderers) {
+    if (valueRenderers == null) {
+      throw new IllegalArgumentException("The value renderers of a placeholder configuration can not be null");
+    }
+
     this.pattern = pattern;
     this.prefix = prefix;
     this.suffix = suffix;
+    this.valueRenderers = valueRenderers;
+    this.plain = isPlain(pattern, prefix, suffix);
   }
 
   public static PlaceholderConfiguration newDefault() {
     return new DefaultPlaceholderConfiguration();
   }
 
+  /**
+   * Create a configuration whose placeholders are made of the given prefix, a key made of letters, digits, underscores and dashes, and the given suffix.
+   * For example, the prefix "#{" and the suffix "}" describe placeholders such as "#{my_key}".
+   *
+   * @param prefix the string opening a placeholder
+   * @param suffix the string closing a placeholder
+   * @return a new PlaceholderConfiguration
+   */
+  public static PlaceholderConfiguration fromPrefixAndSuffix(String prefix, String suffix) {
+    return new PlaceholderConfiguration(plainPattern(prefix, suffix), prefix, suffix);
+  }
+
   public String getPattern() {
     return pattern;
   }
 
+  /**
+   * Get the compiled form of this configuration's pattern
+   *
+   * @return the compiled pattern
+   * @throws PatternSyntaxException if the pattern of this configuration is not a valid regular expression
+   */
+  public Pattern getCompiledPattern() {
+    var result = compiledPattern;
+    if (result == null) {
+      result = PatternCache.get(pattern);
+      compiledPattern = result;
+    }
+    return result;
+  }
+
+  /**
+   * Creates a matcher locating the placeholders of the given input, without evaluating the regular expression when this configuration is plain.
+   */
+  PlaceholderMatcher matcher(CharSequence input) {
+    if (plain) {
+      return new PrefixSuffixPlaceholderMatcher(prefix, suffix, input);
+    }
+    return new RegexPlaceholderMatcher(getCompiledPattern().matcher(input));
+  }
+
+  boolean isPlain() {
+    return plain;
+  }
+
   public String getPrefix() {
     return prefix;
   }
@@ -37,6 +105,34 @@ public class PlaceholderConfiguration {
     return suffix;
   }
 
+  public ValueRenderers getValueRenderers() {
+    return valueRenderers;
+  }
+
+  /**
+   * Create a copy of this configuration writing parameter values with the given renderers
+   *
+   * @param valueRenderers the renderers of the parameter values
+   * @return a new PlaceholderConfiguration with the same placeholder format as this one
+   */
+  public PlaceholderConfiguration withValueRenderers(ValueRenderers valueRenderers) {
+    return new PlaceholderConfiguration(pattern, prefix, suffix, valueRenderers);
+  }
+
+  private static String plainPattern(String prefix, String suffix) {
+    return Pattern.quote(prefix) + DEFAULT_PLACEHOLDER_KEY_PATTERN + Pattern.quote(suffix);
+  }
+
+  private static boolean isPlain(String pattern, String prefix, String suffix) {
+    if (pattern == null || prefix == null || suffix == null || prefix.isEmpty() || suffix.isEmpty()
+      || PrefixSuffixPlaceholderMatcher.isKeyCharacter(suffix.charAt(0))) {
+      return false;
+    }
+
+    return pattern.equals(plainPattern(prefix, suffix))
+      || (pattern.equals(DEFAULT_PLACEHOLDER_PATTERN) && prefix.equals(DEFAULT_PLACEHOLDER_PREFIX) && suffix.equals(DEFAULT_PLACEHOLDER_SUFFIX));
+  }
+
   public static class DefaultPlaceholderConfiguration extends PlaceholderConfiguration {
     public DefaultPlaceholderConfiguration() {
       super(DEFAULT_PLACEHOLDER_PATTERN, DEFAULT_PLACEHOLDER_PREFIX, DEFAULT_PLACEHOLDER_SUFFIX);
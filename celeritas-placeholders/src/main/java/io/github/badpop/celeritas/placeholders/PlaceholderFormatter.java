@@ -1,12 +1,21 @@
 package io.github.badpop.celeritas.placeholders;
 
+import io.github.badpop.celeritas.placeholders.exception.CyclicPlaceholderException;
 import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
 import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
 import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
 
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Provides a mechanism to replace placeholders in a string with values given in parameters.
@@ -49,6 +58,50 @@ public interface PlaceholderFormatter {
    */
   int countPlaceholders(String strFormat);
 
+  /**
+   * Get a list containing the key of all placeholders present in a string, like {@link #getPlaceholders(String)}, but scanning the string on several threads.
+   *
+   * <p> The string is split into chunks scanned in parallel on the given pool, and their placeholders are merged in order.
+   * Placeholders spanning two chunks are found, as long as they are not longer than 1024 characters. This is meant for very large strings,
+   * strings of a few kilobytes are scanned as a single chunk. The string is not kept compiled by the formatter.
+   * By default, the string is scanned by {@link #getPlaceholders(String)} on the calling thread.
+   *
+   * @param strFormat a string containing or not placeholders
+   * @param pool      the pool running the scan
+   * @return a list of strings representing the keys of the placeholders found or an empty list if the given string does not contain placeholders
+   */
+  default List<String> getPlaceholders(String strFormat, ForkJoinPool pool) {
+    return getPlaceholders(strFormat);
+  }
+
+  /**
+   * Get the amount of placeholders in a string, like {@link #countPlaceholders(String)}, but scanning the string on several threads.
+   * See {@link #getPlaceholders(String, ForkJoinPool)}. By default, the string is scanned by {@link #countPlaceholders(String)} on the calling thread.
+   *
+   * @param strFormat a string containing or not placeholders
+   * @param pool      the pool running the scan
+   * @return the number of placeholders in the given string, 0 if it is null
+   * @throws IllegalArgumentException if the underlying placeholder pattern (modelled by a regular expression) is invalid
+   */
+  default int countPlaceholders(String strFormat, ForkJoinPool pool) {
+    return countPlaceholders(strFormat);
+  }
+
+  /**
+   * Compiles a string format into a {@link CompiledTemplate} that can be rendered many times against different parameters
+   * without locating its placeholders again.
+   *
+   * <p> If you format the same string many times, you should compile it once and keep the resulting template.
+   * By default, the string is compiled with the default placeholder format, formatters using another format should override this method.
+   *
+   * @param strFormat a string containing or not placeholders
+   * @return a reusable compiled template
+   * @throws PlaceholderFormatException if an error occurred while trying to compile the given string
+   */
+  default CompiledTemplate compile(String strFormat) {
+    return CompiledTemplate.compile(PlaceholderConfiguration.newDefault(), strFormat);
+  }
+
   /**
    * Formats a string that contains placeholders
    *
@@ -85,6 +138,333 @@ public interface PlaceholderFormatter {
    */
   String formatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters);
 
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, Map)}, but writes the result to the given output
+   * instead of returning it. Literal parts and parameter values are written one after the other, so the formatted string
+   * is never fully built in memory. If the format fails, part of it may already have been written to the output.
+   * By default, the string is formatted by {@link #format(String, Map)} and then appended to the output.
+   *
+   * @param output     the destination of the formatted string, a {@link java.io.Writer} or a {@link StringBuilder} for example
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    Formatter.appendFormatted(output, format(strFormat, parameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, Map)}, but encodes the result with the given charset
+   * and writes it to the given output stream instead of returning it. The output stream is flushed but not closed.
+   * By default, the string is formatted by {@link #format(String, Map)} and then encoded.
+   *
+   * @param output     the destination of the formatted string
+   * @param charset    the charset used to encode the formatted string
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    Formatter.writeFormatted(output, charset, format(strFormat, parameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}, but writes the result to the given output
+   * instead of returning it. Literal parts and parameter values are written one after the other, so the formatted string
+   * is never fully built in memory. By default, the string is formatted by {@link #formatIgnoringUnknownPlaceholders(String, Map)} and then appended to the output.
+   *
+   * @param output     the destination of the formatted string, a {@link java.io.Writer} or a {@link StringBuilder} for example
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatIgnoringUnknownPlaceholdersTo(Appendable output, String strFormat, Map<String, Object> parameters) {
+    Formatter.appendFormatted(output, formatIgnoringUnknownPlaceholders(strFormat, parameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}, but encodes the result with the given charset
+   * and writes it to the given output stream instead of returning it. The output stream is flushed but not closed.
+   * By default, the string is formatted by {@link #formatIgnoringUnknownPlaceholders(String, Map)} and then encoded.
+   *
+   * @param output     the destination of the formatted string
+   * @param charset    the charset used to encode the formatted string
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string or to write the output
+   */
+  default void formatIgnoringUnknownPlaceholdersTo(OutputStream output, Charset charset, String strFormat, Map<String, Object> parameters) {
+    Formatter.writeFormatted(output, charset, formatIgnoringUnknownPlaceholders(strFormat, parameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatTo(Appendable, String, Map)}, but reads the string from the given input.
+   *
+   * <p> The input is read and rendered chunk by chunk, so the memory used does not depend on its length, and placeholders split
+   * between two chunks are correctly handled. Placeholders longer than 1024 characters are considered as literal text.
+   * Since the input is rendered while it is read, the {@link NoPlaceholderFoundException} is only thrown once the whole input has been written to the output.
+   * The input is not closed by this method. By default, the whole input is read before being formatted by {@link #formatTo(Appendable, String, Map)},
+   * formatters able to render the input while reading it should override this method.
+   *
+   * @param output     the destination of the formatted string
+   * @param input      a reader providing a string containing or not placeholders, see {@link java.nio.channels.Channels#newReader} to read from a channel
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NoPlaceholderFoundException if the given input does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given input or to write the output
+   */
+  default void formatTo(Appendable output, Reader input, Map<String, Object> parameters) {
+    formatTo(output, Formatter.readFully(input), parameters);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholdersTo(Appendable, String, Map)},
+   * but reads the string from the given input. See {@link #formatTo(Appendable, Reader, Map)} for details about how the input is read.
+   * By default, the whole input is read before being formatted by {@link #formatIgnoringUnknownPlaceholdersTo(Appendable, String, Map)}.
+   *
+   * @param output     the destination of the formatted string
+   * @param input      a reader providing a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given input or to write the output
+   */
+  default void formatIgnoringUnknownPlaceholdersTo(Appendable output, Reader input, Map<String, Object> parameters) {
+    formatIgnoringUnknownPlaceholdersTo(output, Formatter.readFully(input), parameters);
+  }
+
+  /**
+   * Formats the content of a file that contains placeholders, like {@link #formatTo(Appendable, Reader, Map)}.
+   * The file is memory-mapped and decoded with the given charset chunk by chunk, so its size does not matter.
+   * By default, the whole file is read before being formatted by {@link #formatTo(Appendable, String, Map)}.
+   *
+   * @param output     the destination of the formatted string
+   * @param path       the path of a file containing or not placeholders
+   * @param charset    the charset used to decode the file
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NoPlaceholderFoundException if the given file does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to read or format the given file or to write the output
+   */
+  default void formatTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    formatTo(output, Formatter.readFully(path, charset), parameters);
+  }
+
+  /**
+   * Formats the content of a file that contains placeholders, like {@link #formatIgnoringUnknownPlaceholdersTo(Appendable, Reader, Map)}.
+   * The file is memory-mapped and decoded with the given charset chunk by chunk, so its size does not matter.
+   * By default, the whole file is read before being formatted by {@link #formatIgnoringUnknownPlaceholdersTo(Appendable, String, Map)}.
+   *
+   * @param output     the destination of the formatted string
+   * @param path       the path of a file containing or not placeholders
+   * @param charset    the charset used to decode the file
+   * @param parameters a Map containing values to replace the string placeholders
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to read or format the given file or to write the output
+   */
+  default void formatIgnoringUnknownPlaceholdersTo(Appendable output, Path path, Charset charset, Map<String, Object> parameters) {
+    formatIgnoringUnknownPlaceholdersTo(output, Formatter.readFully(path, charset), parameters);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, Map)}, but with lazily computed parameters.
+   *
+   * <p> The supplier of a parameter is only called if its placeholder is present in the string, and at most once per call of this method
+   * even if the placeholder appears several times. This is useful when some parameters are expensive to compute and not always used.
+   * By default, the parameters are computed before the string is formatted by {@link #format(String, Map)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing suppliers of the values to replace the string placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string, including a supplier failure
+   */
+  default String formatLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatLazily(strFormat, parameters != null ? key -> getSupplied(parameters, key) : null, true);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, Map)}, but resolves parameters through the given function.
+   *
+   * <p> The function is called with the key of each placeholder present in the string. A null result means there is no parameter for this key.
+   * When memoize is true, the function is called at most once per key and per call of this method, even if the placeholder appears several times.
+   * By default, the function is called once per key present in the string, before the string is formatted by {@link #format(String, Map)}.
+   *
+   * @param strFormat a string containing or not placeholders
+   * @param resolver  a function giving the value of a placeholder from its key, or null if there is none
+   * @param memoize   whether the values resolved should be reused for the following occurrences of the same placeholder
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given resolver is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string, including a resolver failure
+   */
+  default String formatLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return format(strFormat, resolver != null ? Formatter.resolveAll(getPlaceholders(strFormat), resolver) : null);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}, but with lazily computed parameters.
+   * See {@link #formatLazily(String, Map)} for details about how parameters are computed.
+   * By default, the parameters are computed before the string is formatted by {@link #formatIgnoringUnknownPlaceholders(String, Map)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing suppliers of the values to replace the string placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string, including a supplier failure
+   */
+  default String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Map<String, ? extends Supplier<?>> parameters) {
+    return formatIgnoringUnknownPlaceholdersLazily(strFormat, parameters != null ? key -> getSupplied(parameters, key) : null, true);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}, but resolves parameters through the given function.
+   * See {@link #formatLazily(String, Function, boolean)} for details about how parameters are resolved.
+   * By default, the function is called once per key present in the string, before the string is formatted by {@link #formatIgnoringUnknownPlaceholders(String, Map)}.
+   *
+   * @param strFormat a string containing or not placeholders
+   * @param resolver  a function giving the value of a placeholder from its key, or null if there is none
+   * @param memoize   whether the values resolved should be reused for the following occurrences of the same placeholder
+   * @return a formatted string with placeholders replaced by there values
+   * @throws NullParametersException    if the given resolver is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string, including a resolver failure
+   */
+  default String formatIgnoringUnknownPlaceholdersLazily(String strFormat, Function<String, ?> resolver, boolean memoize) {
+    return formatIgnoringUnknownPlaceholders(strFormat, resolver != null ? Formatter.resolveAll(getPlaceholders(strFormat), resolver) : null);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #format(String, Map)}, but also expands the placeholders contained in parameter values.
+   *
+   * <p> When the value of a placeholder is a string containing placeholders, they are replaced by their own values, and so on, in a single traversal.
+   * The value of each key is expanded at most once per call of this method and reused wherever the key is referenced,
+   * so deeply chained values, such as configuration entries referencing each other, are resolved in linear time.
+   * Values that are not strings are rendered as usual. By default, the parameters are expanded through {@link #formatLazily(String, Function, boolean)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders, and the placeholders of their values
+   * @return a formatted string with placeholders, including nested ones, replaced by there values
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string, including a placeholder, nested or not,
+   *                                     missing in the map, or a value referencing itself, the cause then being a {@link CyclicPlaceholderException}
+   */
+  default String formatRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatLazily(strFormat, parameters != null ? new RecursiveExpansion(this, parameters, false) : null, true);
+  }
+
+  /**
+   * Formats a string that contains placeholders, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}, but also expands the placeholders
+   * contained in parameter values, see {@link #formatRecursively(String, Map)}. Unknown placeholders, nested or not, are left untouched.
+   * By default, the parameters are expanded through {@link #formatIgnoringUnknownPlaceholdersLazily(String, Function, boolean)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters a Map containing values to replace the string placeholders, and the placeholders of their values
+   * @return a formatted string with placeholders, including nested ones, replaced by there values
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if an error occurred while trying to format the given string, including a value referencing itself,
+   *                                    the cause then being a {@link CyclicPlaceholderException}
+   */
+  default String formatIgnoringUnknownPlaceholdersRecursively(String strFormat, Map<String, Object> parameters) {
+    return formatIgnoringUnknownPlaceholdersLazily(strFormat, parameters != null ? new RecursiveExpansion(this, parameters, true) : null, true);
+  }
+
+  /**
+   * Formats a string that contains placeholders against each of the given parameters, like {@link #format(String, Map)} would for each of them.
+   *
+   * <p> The string is compiled once for all the renderings and output buffers are reused from one rendering to the next.
+   * The returned stream is lazy: each rendering happens when the stream is consumed, in the order of the given parameters.
+   * By default, each rendering calls {@link #format(String, Map)}, formatters able to compile the string should override this method.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters the parameters of each rendering
+   * @return a lazy stream of the formatted strings, in the order of the given parameters
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given parameters are null, or when an element of the stream is consumed if its parameters are null
+   * @throws PlaceholderFormatException  if the given string could not be compiled, or when an element of the stream is consumed if it could not be formatted
+   */
+  default Stream<String> formatAll(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    if (!hasPlaceholders(strFormat)) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return StreamSupport.stream(parameters.spliterator(), false).map(rowParameters -> format(strFormat, rowParameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders against each of the given parameters, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}
+   * would for each of them. The returned stream is lazy, see {@link #formatAll(String, Iterable)}.
+   * By default, each rendering calls {@link #formatIgnoringUnknownPlaceholders(String, Map)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters the parameters of each rendering
+   * @return a lazy stream of the formatted strings, in the order of the given parameters
+   * @throws NullParametersException    if the given parameters are null, or when an element of the stream is consumed if its parameters are null
+   * @throws PlaceholderFormatException if the given string could not be compiled
+   */
+  default Stream<String> formatAllIgnoringUnknownPlaceholders(String strFormat, Iterable<? extends Map<String, Object>> parameters) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return StreamSupport.stream(parameters.spliterator(), false).map(rowParameters -> formatIgnoringUnknownPlaceholders(strFormat, rowParameters));
+  }
+
+  /**
+   * Formats a string that contains placeholders against each of the given parameters, like {@link #format(String, Map)} would for each of them.
+   * The string is compiled once and the renderings run in parallel on the given pool, the order of the results matching the order of the parameters.
+   * By default, each rendering calls {@link #format(String, Map)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters the parameters of each rendering
+   * @param pool       the pool running the renderings
+   * @return the formatted strings, in the order of the given parameters
+   * @throws NoPlaceholderFoundException if the given string does not contain any placeholder
+   * @throws NullParametersException     if the given parameters, or one of them, are null
+   * @throws PlaceholderFormatException  if an error occurred while trying to format the given string against one of the given parameters
+   */
+  default List<String> formatAll(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    if (!hasPlaceholders(strFormat)) {
+      throw new NoPlaceholderFoundException();
+    }
+
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return ParallelTasks.invokeAll(pool, parameters.size(), row -> format(strFormat, parameters.get(row)));
+  }
+
+  /**
+   * Formats a string that contains placeholders against each of the given parameters, like {@link #formatIgnoringUnknownPlaceholders(String, Map)}
+   * would for each of them. The string is compiled once and the renderings run in parallel on the given pool, the order of the results matching the order of the parameters.
+   * By default, each rendering calls {@link #formatIgnoringUnknownPlaceholders(String, Map)}.
+   *
+   * @param strFormat  a string containing or not placeholders
+   * @param parameters the parameters of each rendering
+   * @param pool       the pool running the renderings
+   * @return the formatted strings, in the order of the given parameters
+   * @throws NullParametersException    if the given parameters, or one of them, are null
+   * @throws PlaceholderFormatException if the given string could not be compiled
+   */
+  default List<String> formatAllIgnoringUnknownPlaceholders(String strFormat, List<? extends Map<String, Object>> parameters, ForkJoinPool pool) {
+    if (parameters == null) {
+      throw new NullParametersException();
+    }
+
+    return ParallelTasks.invokeAll(pool, parameters.size(), row -> formatIgnoringUnknownPlaceholders(strFormat, parameters.get(row)));
+  }
+
   /**
    * This method allow you to {@link #format(String, Map)} a string but return a default string if the format fail.
    * For more details on failure reasons take a look at the {@link #format(String, Map)} method.
@@ -130,4 +510,9 @@ public interface PlaceholderFormatter {
    * @throws Throwable as specified in this method documentation
    */
   String formatIgnoringUnknownPlaceholdersOrElseThrow(String strFormat, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable;
+
+  private static Object getSupplied(Map<String, ? extends Supplier<?>> parameters, String key) {
+    final var supplier = parameters.get(key);
+    return supplier != null ? supplier.get() : null;
+  }
 }
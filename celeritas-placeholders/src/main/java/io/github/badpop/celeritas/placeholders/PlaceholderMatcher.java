@@ -0,0 +1,45 @@
+package io.github.badpop.celeritas.placeholders;
+
+/**
+ * A PlaceholderMatcher walks through a string format and locates its placeholders one after the other.
+ *
+ * <p> Matchers are obtained from {@link PlaceholderConfiguration#matcher(CharSequence)} which picks the fastest implementation
+ * able to honor the configuration. They are stateful and must not be shared between threads.
+ */
+interface PlaceholderMatcher {
+
+  /**
+   * Attempts to find the next placeholder of the input
+   *
+   * @return true if a placeholder was found, false otherwise
+   */
+  boolean find();
+
+  /**
+   * @return the index of the first character of the last placeholder found
+   */
+  int start();
+
+  /**
+   * @return the index following the last character of the last placeholder found
+   */
+  int end();
+
+  /**
+   * @return the key of the last placeholder found
+   */
+  String key();
+
+  /**
+   * @return the last placeholder found, as it appears in the input
+   */
+  String placeholder();
+
+  /**
+   * Tells whether the last search needed to look at the end of the input, in which case more input could have changed its result.
+   * It allows the input to be processed chunk by chunk.
+   *
+   * @return true if more input could have changed the result of the last search, false otherwise
+   */
+  boolean hitEnd();
+}
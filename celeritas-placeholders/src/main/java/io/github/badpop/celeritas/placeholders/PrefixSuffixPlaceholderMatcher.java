@@ -0,0 +1,127 @@
+package io.github.badpop.celeritas.placeholders;
+
+/**
+ * A regex-free {@link PlaceholderMatcher} for placeholders made of a prefix, a key and a suffix,
+ * the key being made of letters, digits, underscores and dashes.
+ *
+ * <p> It locates the prefix with {@link String#indexOf(String, int)}, consumes the key characters and then checks the suffix.
+ * It finds exactly the placeholders the equivalent regular expression would find, as long as the suffix does not start with a key character.
+ */
+final class PrefixSuffixPlaceholderMatcher implements PlaceholderMatcher {
+
+  private final String prefix;
+  private final String suffix;
+  private final CharSequence input;
+  private final int length;
+
+  private int position;
+  private int start = -1;
+  private int keyEnd;
+  private int end;
+
+  PrefixSuffixPlaceholderMatcher(String prefix, String suffix, CharSequence input) {
+    this.prefix = prefix;
+    this.suffix = suffix;
+    this.input = input;
+    this.length = input.length();
+  }
+
+  static boolean isKeyCharacter(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_' || c == '-';
+  }
+
+  @Override
+  public boolean find() {
+    var candidate = indexOf(prefix, position);
+    while (candidate != -1) {
+      final var keyStart = candidate + prefix.length();
+      var index = keyStart;
+      while (index < length && isKeyCharacter(input.charAt(index))) {
+        index++;
+      }
+
+      if (index > keyStart && regionMatches(index, suffix)) {
+        start = candidate;
+        keyEnd = index;
+        end = index + suffix.length();
+        position = end;
+        return true;
+      }
+
+      candidate = indexOf(prefix, candidate + 1);
+    }
+
+    position = length;
+    start = -1;
+    return false;
+  }
+
+  @Override
+  public int start() {
+    checkMatch();
+    return start;
+  }
+
+  @Override
+  public int end() {
+    checkMatch();
+    return end;
+  }
+
+  @Override
+  public String key() {
+    checkMatch();
+    return input.subSequence(start + prefix.length(), keyEnd).toString();
+  }
+
+  @Override
+  public String placeholder() {
+    checkMatch();
+    return input.subSequence(start, end).toString();
+  }
+
+  /**
+   * A placeholder found by this matcher is closed by its suffix, so more input can never change it.
+   * Only the unsuccessful searches depend on the end of the input.
+   */
+  @Override
+  public boolean hitEnd() {
+    return start == -1;
+  }
+
+  private void checkMatch() {
+    if (start == -1) {
+      throw new IllegalStateException("No match available");
+    }
+  }
+
+  private int indexOf(String str, int from) {
+    if (input instanceof String string) {
+      return string.indexOf(str, from);
+    }
+
+    final var first = str.charAt(0);
+    final var max = length - str.length();
+    for (int i = from; i <= max; i++) {
+      if (input.charAt(i) == first && regionMatches(i, str)) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
+  private boolean regionMatches(int offset, String str) {
+    if (input instanceof String string) {
+      return string.startsWith(str, offset);
+    }
+    if (offset + str.length() > length) {
+      return false;
+    }
+    for (int i = 0; i < str.length(); i++) {
+      if (input.charAt(offset + i) != str.charAt(i)) {
+        return false;
+      }
+    }
+    return true;
+  }
+}
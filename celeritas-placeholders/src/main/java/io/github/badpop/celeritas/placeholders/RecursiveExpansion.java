@@ -0,0 +1,56 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.CyclicPlaceholderException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Resolves the parameters of a recursive format through the lazy format methods of any {@link PlaceholderFormatter},
+ * for the formatters that don't implement the recursive format methods themselves.
+ *
+ * <p> Like {@link RecursiveParameterResolver}, the value of each key is expanded at most once and then reused,
+ * and a key whose value references itself, directly or through other keys, fails the format with a {@link CyclicPlaceholderException}.
+ * A RecursiveExpansion is meant to be used for a single format, it must not be shared between threads.
+ */
+final class RecursiveExpansion implements Function<String, Object> {
+
+  private final PlaceholderFormatter formatter;
+  private final Map<String, Object> parameters;
+  private final boolean ignoreUnknownPlaceholders;
+  private final Map<String, Object> expandedValues = new HashMap<>();
+  private final LinkedHashSet<String> expandingKeys = new LinkedHashSet<>();
+
+  RecursiveExpansion(PlaceholderFormatter formatter, Map<String, Object> parameters, boolean ignoreUnknownPlaceholders) {
+    this.formatter = formatter;
+    this.parameters = parameters;
+    this.ignoreUnknownPlaceholders = ignoreUnknownPlaceholders;
+  }
+
+  @Override
+  public Object apply(String key) {
+    var value = expandedValues.get(key);
+    if (value != null || expandedValues.containsKey(key)) {
+      return value;
+    }
+
+    if (!expandingKeys.add(key)) {
+      throw new PlaceholderFormatException("Unable to format the requested String",
+        new CyclicPlaceholderException("Cyclic placeholder references: " + String.join(" -> ", expandingKeys) + " -> " + key));
+    }
+
+    value = parameters.get(key);
+    if (value instanceof String strValue && formatter.hasPlaceholders(strValue)) {
+      value = ignoreUnknownPlaceholders
+        ? formatter.formatIgnoringUnknownPlaceholdersLazily(strValue, this, true)
+        : formatter.formatLazily(strValue, this, true);
+    }
+
+    expandingKeys.remove(key);
+    expandedValues.put(key, value);
+    return value;
+  }
+}
@@ -0,0 +1,59 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.CyclicPlaceholderException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+
+/**
+ * A ParameterResolver expanding the placeholders contained in the string values of the parameters it wraps.
+ *
+ * <p> The value of each key is resolved and expanded at most once, the first time it is requested, and then reused for the whole rendering.
+ * Each string value is therefore scanned for placeholders only once, however many times and however deeply it is referenced.
+ * A key whose value references itself, directly or through other keys, fails the rendering with a {@link CyclicPlaceholderException}.
+ *
+ * <p> A RecursiveParameterResolver is meant to be used for a single rendering, it must not be shared between threads.
+ */
+final class RecursiveParameterResolver implements ParameterResolver {
+
+  private final PlaceholderConfiguration placeholderConfiguration;
+  private final ParameterResolver parameters;
+  private final boolean ignoreUnknownPlaceholders;
+  private final Map<String, Object> expandedValues = new HashMap<>();
+  private final LinkedHashSet<String> expandingKeys = new LinkedHashSet<>();
+
+  RecursiveParameterResolver(PlaceholderConfiguration placeholderConfiguration, ParameterResolver parameters, boolean ignoreUnknownPlaceholders) {
+    this.placeholderConfiguration = placeholderConfiguration;
+    this.parameters = parameters;
+    this.ignoreUnknownPlaceholders = ignoreUnknownPlaceholders;
+  }
+
+  @Override
+  public Object resolve(String key) {
+    var value = expandedValues.get(key);
+    if (value != null || expandedValues.containsKey(key)) {
+      return value;
+    }
+
+    if (!expandingKeys.add(key)) {
+      throw new PlaceholderFormatException("Unable to format the requested String",
+        new CyclicPlaceholderException("Cyclic placeholder references: " + String.join(" -> ", expandingKeys) + " -> " + key));
+    }
+
+    value = parameters.resolve(key);
+    if (value instanceof String strValue) {
+      value = expand(strValue);
+    }
+
+    expandingKeys.remove(key);
+    expandedValues.put(key, value);
+    return value;
+  }
+
+  private String expand(String strValue) {
+    final var template = CompiledTemplate.compile(placeholderConfiguration, strValue);
+    return template.render(this, placeholderConfiguration.getValueRenderers(), ignoreUnknownPlaceholders);
+  }
+}
@@ -0,0 +1,46 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.regex.Matcher;
+
+/**
+ * A {@link PlaceholderMatcher} backed by the regular expression of a {@link PlaceholderConfiguration}.
+ * The key of a placeholder is the first capture group of the regular expression.
+ */
+final class RegexPlaceholderMatcher implements PlaceholderMatcher {
+
+  private final Matcher matcher;
+
+  RegexPlaceholderMatcher(Matcher matcher) {
+    this.matcher = matcher;
+  }
+
+  @Override
+  public boolean find() {
+    return matcher.find();
+  }
+
+  @Override
+  public int start() {
+    return matcher.start();
+  }
+
+  @Override
+  public int end() {
+    return matcher.end();
+  }
+
+  @Override
+  public String key() {
+    return matcher.group(1);
+  }
+
+  @Override
+  public String placeholder() {
+    return matcher.group();
+  }
+
+  @Override
+  public boolean hitEnd() {
+    return matcher.hitEnd();
+  }
+}
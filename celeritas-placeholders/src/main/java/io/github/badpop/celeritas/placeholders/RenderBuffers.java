@@ -0,0 +1,56 @@
+package io.github.badpop.celeritas.placeholders;
+
+/**
+ * A per-thread pool of the buffers templates are rendered into before being returned as strings.
+ *
+ * <p> Each thread keeps a single buffer, lent to one rendering at a time. A rendering started while the buffer of its thread is already lent,
+ * by a lazy parameter formatting another string for example, gets a new buffer instead.
+ * Buffers that grew beyond {@link #MAXIMUM_RETAINED_CAPACITY} characters are not kept, so that a single huge rendering does not pin memory.
+ *
+ * <p> As a result, a thread rendering strings over and over only allocates the resulting strings.
+ */
+final class RenderBuffers {
+
+  static final int INITIAL_CAPACITY = 256;
+  static final int MAXIMUM_RETAINED_CAPACITY = 1 << 16;
+
+  private static final ThreadLocal<RenderBuffers> BUFFERS = ThreadLocal.withInitial(RenderBuffers::new);
+
+  private StringBuilder buffer = new StringBuilder(INITIAL_CAPACITY);
+  private boolean lent;
+
+  private RenderBuffers() {
+  }
+
+  /**
+   * Borrows an empty buffer able to hold the given length without growing. It must be given back with {@link #release(StringBuilder)}.
+   */
+  static StringBuilder acquire(int expectedLength) {
+    final var buffers = BUFFERS.get();
+    if (buffers.lent) {
+      return new StringBuilder(expectedLength);
+    }
+
+    buffers.lent = true;
+    final var buffer = buffers.buffer;
+    buffer.ensureCapacity(expectedLength);
+    return buffer;
+  }
+
+  /**
+   * Gives back a buffer borrowed with {@link #acquire(int)}
+   */
+  static void release(StringBuilder buffer) {
+    final var buffers = BUFFERS.get();
+    if (buffers.buffer != buffer) {
+      return;
+    }
+
+    if (buffer.capacity() > MAXIMUM_RETAINED_CAPACITY) {
+      buffers.buffer = new StringBuilder(INITIAL_CAPACITY);
+    } else {
+      buffer.setLength(0);
+    }
+    buffers.lent = false;
+  }
+}
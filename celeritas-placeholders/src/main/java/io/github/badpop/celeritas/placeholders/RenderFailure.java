@@ -0,0 +1,93 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+
+/**
+ * The reason why a string format could not be rendered, returned instead of the rendered string by the non-throwing rendering methods.
+ *
+ * <p> The expected failures, such as a missing parameter, are described without creating any exception: the exception is only created by
+ * {@link #toException(boolean)}, when the caller needs to throw it or to return it, and without its stack trace if requested.
+ * Unexpected failures, such as a failing value renderer, keep the exception they were raised with.
+ */
+final class RenderFailure {
+
+  static final RenderFailure NO_PLACEHOLDER_FOUND = new RenderFailure(Kind.NO_PLACEHOLDER_FOUND, null, null);
+  static final RenderFailure NULL_PARAMETERS = new RenderFailure(Kind.NULL_PARAMETERS, null, null);
+  static final RenderFailure NULL_STRING_FORMAT = new RenderFailure(Kind.NULL_STRING_FORMAT, null, null);
+
+  private enum Kind {
+    NO_PLACEHOLDER_FOUND,
+    NULL_PARAMETERS,
+    NULL_STRING_FORMAT,
+    MISSING_PARAMETER,
+    EXCEPTION
+  }
+
+  private final Kind kind;
+  private final String placeholder;
+  private final RuntimeException exception;
+
+  private RenderFailure(Kind kind, String placeholder, RuntimeException exception) {
+    this.kind = kind;
+    this.placeholder = placeholder;
+    this.exception = exception;
+  }
+
+  static RenderFailure missingParameter(String placeholder) {
+    return new RenderFailure(Kind.MISSING_PARAMETER, placeholder, null);
+  }
+
+  static RenderFailure of(RuntimeException exception) {
+    return new RenderFailure(Kind.EXCEPTION, null, exception);
+  }
+
+  boolean isMissingParameter() {
+    return kind == Kind.MISSING_PARAMETER;
+  }
+
+  /**
+   * @return the placeholder without parameter if this failure is a missing parameter, null otherwise
+   */
+  String getPlaceholder() {
+    return placeholder;
+  }
+
+  /**
+   * Creates the exception the throwing rendering methods throw for this failure
+   *
+   * @param stackless whether the created exceptions should be created without their stack trace
+   * @return the exception describing this failure
+   */
+  RuntimeException toException(boolean stackless) {
+    if (!stackless) {
+      return toException();
+    }
+
+    return switch (kind) {
+      case NO_PLACEHOLDER_FOUND -> new NoPlaceholderFoundException(false);
+      case NULL_PARAMETERS -> new NullParametersException(false);
+      case NULL_STRING_FORMAT -> new PlaceholderFormatException("Unable to format the requested String",
+        new NullPointerException("The string format is null"), false);
+      case MISSING_PARAMETER -> new PlaceholderFormatException("Unable to format the requested String",
+        new PlaceholderParameterNotFound("No parameter found for the placeholder " + placeholder, placeholder, false), false);
+      case EXCEPTION -> exception;
+    };
+  }
+
+  /**
+   * Creates the same exceptions as the throwing rendering methods did before failures were rendered without throwing
+   */
+  private RuntimeException toException() {
+    return switch (kind) {
+      case NO_PLACEHOLDER_FOUND -> new NoPlaceholderFoundException();
+      case NULL_PARAMETERS -> new NullParametersException();
+      case NULL_STRING_FORMAT -> new PlaceholderFormatException("Unable to format the requested String", new NullPointerException("The string format is null"));
+      case MISSING_PARAMETER -> new PlaceholderFormatException("Unable to format the requested String",
+        new PlaceholderParameterNotFound("No parameter found for the placeholder " + placeholder, placeholder));
+      case EXCEPTION -> exception;
+    };
+  }
+}
@@ -0,0 +1,77 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.CharBuffer;
+
+/**
+ * Renders a string format read from a {@link Reader}, chunk by chunk, so that its length does not matter.
+ *
+ * <p> The format is read into a fixed size buffer. Literal parts and parameter values are written to the output as soon as they are known,
+ * and only the end of the buffer that may hold the beginning of a placeholder is kept to be completed by the next chunk.
+ * As a consequence, placeholders longer than {@link #MAXIMUM_PLACEHOLDER_LENGTH} characters are considered as literal text.
+ */
+final class StreamingRenderer {
+
+  static final int CHUNK_SIZE = 8192;
+  static final int MAXIMUM_PLACEHOLDER_LENGTH = 1024;
+
+  private StreamingRenderer() {
+  }
+
+  /**
+   * Renders the string format read from the given input into the given output
+   *
+   * @return the number of placeholders found in the input
+   */
+  static long render(PlaceholderConfiguration placeholderConfiguration, Reader input, Appendable output, ParameterResolver parameters,
+                     boolean ignoreUnknownPlaceholders) throws IOException {
+    final var valueRenderers = placeholderConfiguration.getValueRenderers();
+    final var buffer = new char[CHUNK_SIZE + MAXIMUM_PLACEHOLDER_LENGTH];
+    var length = 0;
+    var count = 0L;
+    var endOfInput = false;
+
+    while (!endOfInput) {
+      final var read = input.read(buffer, length, buffer.length - length);
+      if (read == -1) {
+        endOfInput = true;
+      } else {
+        length += read;
+      }
+
+      final var chunk = CharBuffer.wrap(buffer, 0, length);
+      final var matcher = placeholderConfiguration.matcher(chunk);
+      final var limit = endOfInput ? length : length - MAXIMUM_PLACEHOLDER_LENGTH;
+      var position = 0;
+
+      while (matcher.find()) {
+        if (!endOfInput && matcher.hitEnd() && matcher.start() >= limit) {
+          break;
+        }
+
+        output.append(chunk, position, matcher.start());
+        final var value = parameters.resolve(matcher.key());
+        if (value != ParameterResolver.MISSING) {
+          valueRenderers.render(value, output);
+        } else if (ignoreUnknownPlaceholders) {
+          output.append(chunk, matcher.start(), matcher.end());
+        } else {
+          throw new PlaceholderParameterNotFound("No parameter found for the placeholder " + matcher.placeholder(), matcher.placeholder());
+        }
+
+        position = matcher.end();
+        count++;
+      }
+
+      final var pending = Math.max(position, limit);
+      output.append(chunk, position, pending);
+      System.arraycopy(buffer, pending, buffer, 0, length - pending);
+      length -= pending;
+    }
+
+    return count;
+  }
+}
@@ -0,0 +1,270 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A TemplateCache keeps the string formats rendered by a formatter compiled, so that formatting the same string format again
+ * does not locate its placeholders again. See {@link CompiledTemplate}.
+ *
+ * <p> The cache is bounded by a maximum number of templates and, optionally, by a maximum weight: the sum of the lengths of the cached string formats.
+ * When one of these bounds is exceeded, the least recently used templates are evicted. A string format heavier than the maximum weight is never cached.
+ * A TemplateCache is thread safe and can be shared between formatters: looking a cached template up takes no lock,
+ * only compiling a missing template into the cache and evicting templates are serialized.
+ *
+ * <p> The eviction order is an approximation of LRU: each lookup stamps the template with the current tick of the cache,
+ * a clock advanced by each insertion, and the templates with the oldest stamps are evicted first.
+ * Templates used between two insertions are equally recent, which makes no difference since templates are only evicted on insertion.
+ * To keep insertions into a full cache cheap whatever its size, an eviction doesn't look for the oldest template of the whole cache:
+ * it compares the stamps of {@value #EVICTION_SAMPLE_SIZE} templates picked at random and evicts the oldest of them.
+ * Caches holding no more templates than that are scanned entirely, so their eviction order is exact.
+ *
+ * <p> By default, all {@link DefaultPlaceholderFormatter} and {@link DefaultFunctionalPlaceholderFormatter} share the {@link #getDefault()} cache.
+ */
+public final class TemplateCache {
+
+  /**
+   * The maximum number of templates kept by the default cache
+   */
+  public static final int DEFAULT_MAXIMUM_SIZE = 1024;
+
+  /**
+   * The number of templates compared by an eviction
+   */
+  static final int EVICTION_SAMPLE_SIZE = 8;
+
+  private static final TemplateCache DEFAULT_CACHE = newCache(DEFAULT_MAXIMUM_SIZE);
+
+  private final PlaceholderConfiguration placeholderConfiguration = PlaceholderConfiguration.newDefault();
+  private final ConcurrentMap<String, Entry> templates = new ConcurrentHashMap<>();
+  private final Object evictionLock = new Object();
+  // the cached entries, indexed so that evictions can pick them at random, guarded by the eviction lock
+  private final List<Entry> entries = new ArrayList<>();
+  private final int maximumSize;
+  private final long maximumWeight;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder evictions = new LongAdder();
+  private volatile long tick;
+  private volatile long weight;
+  // the number of entries compared by evictions so far, guarded by the eviction lock
+  long sampledEntries;
+
+  private TemplateCache(int maximumSize, long maximumWeight) {
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("The maximum size of a template cache can not be negative");
+    }
+
+    if (maximumWeight < 0) {
+      throw new IllegalArgumentException("The maximum weight of a template cache can not be negative");
+    }
+
+    this.maximumSize = maximumSize;
+    this.maximumWeight = maximumWeight;
+  }
+
+  /**
+   * Get the cache shared by default by all formatters. It keeps up to {@link #DEFAULT_MAXIMUM_SIZE} templates.
+   *
+   * @return the default template cache
+   */
+  public static TemplateCache getDefault() {
+    return DEFAULT_CACHE;
+  }
+
+  /**
+   * Create a new cache bounded by a number of templates only
+   *
+   * @param maximumSize the maximum number of templates to keep, 0 disables caching
+   * @return a new empty TemplateCache
+   * @throws IllegalArgumentException if the maximum size is negative
+   */
+  public static TemplateCache newCache(int maximumSize) {
+    return new TemplateCache(maximumSize, Long.MAX_VALUE);
+  }
+
+  /**
+   * Create a new cache bounded by a number of templates and by the sum of the lengths of the cached string formats
+   *
+   * @param maximumSize   the maximum number of templates to keep, 0 disables caching
+   * @param maximumWeight the maximum sum of the lengths of the cached string formats
+   * @return a new empty TemplateCache
+   * @throws IllegalArgumentException if the maximum size or the maximum weight is negative
+   */
+  public static TemplateCache newCache(int maximumSize, long maximumWeight) {
+    return new TemplateCache(maximumSize, maximumWeight);
+  }
+
+  CompiledTemplate get(String strFormat) {
+    final var cached = lookup(strFormat);
+    if (cached != null) {
+      hits.increment();
+      return cached;
+    }
+
+    misses.increment();
+    final var template = CompiledTemplate.compile(placeholderConfiguration, strFormat);
+    if (maximumSize == 0 || strFormat.length() > maximumWeight) {
+      return template;
+    }
+
+    synchronized (evictionLock) {
+      final var concurrent = templates.get(strFormat);
+      if (concurrent != null) {
+        return concurrent.template;
+      }
+
+      evictTemplatesToFit(strFormat.length());
+      final var entry = new Entry(strFormat, template, tick, entries.size());
+      entries.add(entry);
+      templates.put(strFormat, entry);
+      tick = entry.stamp + 1;
+      weight += strFormat.length();
+      return template;
+    }
+  }
+
+  CompiledTemplate getIfPresent(String strFormat) {
+    return lookup(strFormat);
+  }
+
+  private CompiledTemplate lookup(String strFormat) {
+    final var entry = templates.get(strFormat);
+    if (entry == null) {
+      return null;
+    }
+
+    // only written when the template is first used since the last insertion, to keep hot entries shared between cores
+    final var now = tick;
+    if (entry.stamp != now) {
+      entry.stamp = now;
+    }
+    return entry.template;
+  }
+
+  private void evictTemplatesToFit(int length) {
+    while (!entries.isEmpty() && (entries.size() >= maximumSize || weight + length > maximumWeight)) {
+      evict(eldestSampledEntry());
+    }
+  }
+
+  private Entry eldestSampledEntry() {
+    final var size = entries.size();
+    Entry eldest = null;
+    if (size <= EVICTION_SAMPLE_SIZE) {
+      for (final var entry : entries) {
+        if (eldest == null || entry.stamp < eldest.stamp) {
+          eldest = entry;
+        }
+      }
+      sampledEntries += size;
+      return eldest;
+    }
+
+    final var random = ThreadLocalRandom.current();
+    for (int i = 0; i < EVICTION_SAMPLE_SIZE; i++) {
+      final var entry = entries.get(random.nextInt(size));
+      if (eldest == null || entry.stamp < eldest.stamp) {
+        eldest = entry;
+      }
+    }
+    sampledEntries += EVICTION_SAMPLE_SIZE;
+    return eldest;
+  }
+
+  private void evict(Entry evicted) {
+    templates.remove(evicted.key);
+    // the last entry takes the place of the evicted one, so removing an entry doesn't shift the others
+    final var last = entries.remove(entries.size() - 1);
+    if (last != evicted) {
+      entries.set(evicted.index, last);
+      last.index = evicted.index;
+    }
+
+    weight -= evicted.key.length();
+    evictions.increment();
+  }
+
+  /**
+   * Remove all templates from this cache. Hit, miss and eviction counts are kept.
+   */
+  public void clear() {
+    synchronized (evictionLock) {
+      templates.clear();
+      entries.clear();
+      weight = 0;
+    }
+  }
+
+  /**
+   * Get the number of templates currently cached
+   *
+   * @return the number of cached templates
+   */
+  public int size() {
+    return templates.size();
+  }
+
+  /**
+   * Get the current weight of this cache, the sum of the lengths of the cached string formats
+   *
+   * @return the current weight of this cache
+   */
+  public long getWeight() {
+    return weight;
+  }
+
+  /**
+   * @return the maximum number of templates this cache keeps
+   */
+  public int getMaximumSize() {
+    return maximumSize;
+  }
+
+  /**
+   * @return the maximum weight of this cache, {@link Long#MAX_VALUE} if it is only bounded by size
+   */
+  public long getMaximumWeight() {
+    return maximumWeight;
+  }
+
+  /**
+   * @return the number of times a requested string format was already compiled in this cache
+   */
+  public long getHitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * @return the number of times a requested string format had to be compiled
+   */
+  public long getMissCount() {
+    return misses.sum();
+  }
+
+  /**
+   * @return the number of templates evicted from this cache because it exceeded its maximum size or weight
+   */
+  public long getEvictionCount() {
+    return evictions.sum();
+  }
+
+  private static final class Entry {
+
+    private final String key;
+    private final CompiledTemplate template;
+    private volatile long stamp;
+    private int index;
+
+    private Entry(String key, CompiledTemplate template, long stamp, int index) {
+      this.key = key;
+      this.template = template;
+      this.stamp = stamp;
+      this.index = index;
+    }
+  }
+}
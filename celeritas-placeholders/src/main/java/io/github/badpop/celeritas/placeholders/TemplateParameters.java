@@ -0,0 +1,216 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * TemplateParameters holds the values of the placeholders of a {@link CompiledTemplate}, to render it without a {@link Map}.
+ *
+ * <p> Each distinct placeholder key of the template has its own slot, so setting a value is a single lookup and primitive values
+ * are stored without being boxed. When the template is rendered into a {@link StringBuilder}, these values are written without intermediate strings either.
+ * Other values are written by the {@link ValueRenderers} of the template.
+ *
+ * <p> TemplateParameters are meant to be reused: set the values of a rendering, render the template, then set the values of the next one.
+ * Values of keys that are not placeholders of the template are ignored.
+ * TemplateParameters are not thread safe, each thread rendering the template should use its own.
+ *
+ * <p> To get TemplateParameters, use {@link CompiledTemplate#newParameters()}.
+ */
+public final class TemplateParameters {
+
+  private static final byte UNSET = 0;
+  private static final byte LONG = 1;
+  private static final byte DOUBLE = 2;
+  private static final byte BOOLEAN = 3;
+  private static final byte OBJECT = 4;
+  private static final byte FLOAT = 5;
+  private static final byte CHAR = 6;
+
+  private final CompiledTemplate template;
+  private final Map<String, Integer> slots;
+  private final byte[] kinds;
+  private final long[] longs;
+  private final double[] doubles;
+  private final Object[] objects;
+
+  TemplateParameters(CompiledTemplate template, Map<String, Integer> slots) {
+    this.template = template;
+    this.slots = slots;
+    this.kinds = new byte[slots.size()];
+    this.longs = new long[slots.size()];
+    this.doubles = new double[slots.size()];
+    this.objects = new Object[slots.size()];
+  }
+
+  /**
+   * Set the value of the placeholders with the given key. Integer values of any size are stored as long values.
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, long value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = LONG;
+      longs[slot] = value;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Set the value of the placeholders with the given key
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, double value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = DOUBLE;
+      doubles[slot] = value;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Set the value of the placeholders with the given key
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, float value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = FLOAT;
+      doubles[slot] = value;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Set the value of the placeholders with the given key
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, char value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = CHAR;
+      longs[slot] = value;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Set the value of the placeholders with the given key
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, boolean value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = BOOLEAN;
+      longs[slot] = value ? 1 : 0;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Set the value of the placeholders with the given key. It will be written by the {@link ValueRenderers} of the template.
+   *
+   * @param key   a placeholder key
+   * @param value the value of the placeholders, null values are written "null"
+   * @return these TemplateParameters
+   */
+  public TemplateParameters set(String key, Object value) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = OBJECT;
+      objects[slot] = value;
+    }
+    return this;
+  }
+
+  /**
+   * Remove the value of the placeholders with the given key
+   *
+   * @param key a placeholder key
+   * @return these TemplateParameters
+   */
+  public TemplateParameters unset(String key) {
+    final var slot = slots.get(key);
+    if (slot != null) {
+      kinds[slot] = UNSET;
+      objects[slot] = null;
+    }
+    return this;
+  }
+
+  /**
+   * Remove all values
+   *
+   * @return these TemplateParameters
+   */
+  public TemplateParameters clear() {
+    Arrays.fill(kinds, UNSET);
+    Arrays.fill(objects, null);
+    return this;
+  }
+
+  boolean belongsTo(CompiledTemplate compiledTemplate) {
+    return template == compiledTemplate;
+  }
+
+  /**
+   * Writes the value of the given slot to the output
+   *
+   * @return false if the slot has no value
+   */
+  boolean render(int slot, Appendable output, ValueRenderers valueRenderers) throws IOException {
+    switch (kinds[slot]) {
+      case LONG -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(longs[slot]);
+        } else if (output instanceof Utf8Sink sink) {
+          sink.writeLong(longs[slot]);
+        } else {
+          output.append(Long.toString(longs[slot]));
+        }
+      }
+      case DOUBLE -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(doubles[slot]);
+        } else {
+          output.append(Double.toString(doubles[slot]));
+        }
+      }
+      case FLOAT -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append((float) doubles[slot]);
+        } else {
+          output.append(Float.toString((float) doubles[slot]));
+        }
+      }
+      case CHAR -> output.append((char) longs[slot]);
+      case BOOLEAN -> output.append(longs[slot] != 0 ? "true" : "false");
+      case OBJECT -> valueRenderers.render(objects[slot], output);
+      default -> {
+        return false;
+      }
+    }
+    return true;
+  }
+}
@@ -0,0 +1,483 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.TemplateNotFoundException;
+import io.github.badpop.celeritas.placeholders.exception.TemplateValidationException;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemAlreadyExistsException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A TemplateRegistry holds a set of templates compiled once, at startup, and renders them by id.
+ *
+ * <p> Templates are loaded from directories, from the classpath or given directly, then read and compiled in parallel when the registry is built.
+ * The parameters each template is rendered with can be declared when building the registry: a template using a placeholder that is not declared
+ * makes the build fail, so a missing parameter is found at startup instead of at rendering time.
+ *
+ * <p> Once built, a TemplateRegistry is immutable and thread safe. Finding a template by its id is a single hash lookup,
+ * and rendering it is the rendering of a {@link CompiledTemplate}.
+ *
+ * <pre>{@code
+ * TemplateRegistry registry = TemplateRegistry.builder()
+ *   .classpath("templates", ".txt")
+ *   .declareParameters("mail/welcome", "firstName", "lastName")
+ *   .build();
+ *
+ * String mail = registry.format("mail/welcome", Map.of("firstName", "John", "lastName", "Doe"));
+ * }</pre>
+ */
+public final class TemplateRegistry {
+
+  /**
+   * The size from which template files are read through memory mapping, smaller files being cheaper to read at once
+   */
+  static final long MAPPING_THRESHOLD = 1L << 14;
+
+  private final Map<String, CompiledTemplate> templates;
+
+  private TemplateRegistry(Map<String, CompiledTemplate> templates) {
+    this.templates = templates;
+  }
+
+  /**
+   * Create a builder of registry, using the default placeholder configuration, UTF-8 template files and the common pool to load them
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Get the template registered with the given id
+   *
+   * @param id the id of the template
+   * @return the compiled template
+   * @throws TemplateNotFoundException if no template is registered with this id
+   */
+  public CompiledTemplate get(String id) {
+    final var template = id != null ? templates.get(id) : null;
+    if (template == null) {
+      throw new TemplateNotFoundException(id);
+    }
+
+    return template;
+  }
+
+  /**
+   * Check if a template is registered with the given id
+   *
+   * @param id the id of the template
+   * @return true if a template is registered with this id, false otherwise
+   */
+  public boolean contains(String id) {
+    return id != null && templates.containsKey(id);
+  }
+
+  /**
+   * Get the ids of the registered templates
+   *
+   * @return an unmodifiable set of the templates ids
+   */
+  public Set<String> getIds() {
+    return templates.keySet();
+  }
+
+  /**
+   * Get the amount of registered templates
+   *
+   * @return the number of templates in this registry
+   */
+  public int size() {
+    return templates.size();
+  }
+
+  /**
+   * Renders the template registered with the given id, see {@link CompiledTemplate#format(Map)}
+   *
+   * @param id         the id of the template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws TemplateNotFoundException   if no template is registered with this id
+   * @throws NoPlaceholderFoundException if the template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of the template is not provided in the map
+   */
+  public String format(String id, Map<String, Object> parameters) {
+    return get(id).format(parameters);
+  }
+
+  /**
+   * Renders the template registered with the given id, see {@link CompiledTemplate#formatIgnoringUnknownPlaceholders(Map)}
+   *
+   * @param id         the id of the template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @return a formatted string with placeholders replaced by there values
+   * @throws TemplateNotFoundException if no template is registered with this id
+   * @throws NullParametersException   if the given map is null
+   */
+  public String formatIgnoringUnknownPlaceholders(String id, Map<String, Object> parameters) {
+    return get(id).formatIgnoringUnknownPlaceholders(parameters);
+  }
+
+  /**
+   * Renders the template registered with the given id into the given output, see {@link CompiledTemplate#formatTo(Appendable, Map)}
+   *
+   * @param output     the destination of the rendered template
+   * @param id         the id of the template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws TemplateNotFoundException   if no template is registered with this id
+   * @throws NoPlaceholderFoundException if the template does not contain any placeholder
+   * @throws NullParametersException     if the given map is null
+   * @throws PlaceholderFormatException  if a placeholder of the template is not provided in the map or if the output could not be written
+   */
+  public void formatTo(Appendable output, String id, Map<String, Object> parameters) {
+    get(id).formatTo(output, parameters);
+  }
+
+  /**
+   * Renders the template registered with the given id into the given output, see {@link CompiledTemplate#formatIgnoringUnknownPlaceholdersTo(Appendable, Map)}
+   *
+   * @param output     the destination of the rendered template
+   * @param id         the id of the template
+   * @param parameters a Map containing values to replace the template placeholders
+   * @throws TemplateNotFoundException  if no template is registered with this id
+   * @throws NullParametersException    if the given map is null
+   * @throws PlaceholderFormatException if the output could not be written
+   */
+  public void formatIgnoringUnknownPlaceholdersTo(Appendable output, String id, Map<String, Object> parameters) {
+    get(id).formatIgnoringUnknownPlaceholdersTo(output, parameters);
+  }
+
+  /**
+   * Read a template file, decoding it straight from the mapped memory if it is large enough and on the default file system
+   */
+  static String read(Path path, Charset charset) throws IOException {
+    if (path.getFileSystem() != FileSystems.getDefault() || Files.size(path) < MAPPING_THRESHOLD) {
+      return charset.newDecoder().decode(ByteBuffer.wrap(Files.readAllBytes(path))).toString();
+    }
+
+    try (var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      final var size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException("The template " + path + " is too large");
+      }
+
+      return charset.newDecoder().decode(channel.map(FileChannel.MapMode.READ_ONLY, 0, size)).toString();
+    }
+  }
+
+  /**
+   * A builder of {@link TemplateRegistry}. Directories and classpath locations are only listed and read by {@link #build()}.
+   */
+  public static final class Builder {
+
+    private PlaceholderConfiguration placeholderConfiguration = PlaceholderConfiguration.newDefault();
+    private Charset charset = StandardCharsets.UTF_8;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private final List<Location> locations = new ArrayList<>();
+    private final Map<String, String> templates = new LinkedHashMap<>();
+    private final Map<String, Set<String>> declaredParameters = new LinkedHashMap<>();
+
+    private Builder() {
+    }
+
+    /**
+     * @param placeholderConfiguration the configuration the templates are compiled and rendered with
+     * @return this builder
+     */
+    public Builder placeholderConfiguration(PlaceholderConfiguration placeholderConfiguration) {
+      if (placeholderConfiguration == null) {
+        throw new IllegalArgumentException("The placeholder configuration of a template registry can not be null");
+      }
+
+      this.placeholderConfiguration = placeholderConfiguration;
+      return this;
+    }
+
+    /**
+     * @param charset the charset of the template files, UTF-8 by default
+     * @return this builder
+     */
+    public Builder charset(Charset charset) {
+      if (charset == null) {
+        throw new IllegalArgumentException("The charset of a template registry can not be null");
+      }
+
+      this.charset = charset;
+      return this;
+    }
+
+    /**
+     * @param pool the pool reading and compiling the templates, the common pool by default
+     * @return this builder
+     */
+    public Builder pool(ForkJoinPool pool) {
+      if (pool == null) {
+        throw new IllegalArgumentException("The pool of a template registry can not be null");
+      }
+
+      this.pool = pool;
+      return this;
+    }
+
+    /**
+     * Register all the files of the given directory and of its subdirectories.
+     * The id of a template is the path of its file relative to the directory, using '/' as separator, such as "mail/welcome.txt".
+     *
+     * @param directory the directory containing the template files
+     * @return this builder
+     */
+    public Builder directory(Path directory) {
+      return directory(directory, "");
+    }
+
+    /**
+     * Register the files of the given directory and of its subdirectories whose name ends with the given extension.
+     * The id of a template is the path of its file relative to the directory without the extension, using '/' as separator, such as "mail/welcome".
+     *
+     * @param directory the directory containing the template files
+     * @param extension the extension of the template files, such as ".txt"
+     * @return this builder
+     */
+    public Builder directory(Path directory, String extension) {
+      if (directory == null || extension == null) {
+        throw new IllegalArgumentException("The directory and the extension of templates can not be null");
+      }
+
+      locations.add(new Location(directory, null, null, extension));
+      return this;
+    }
+
+    /**
+     * Register the resources of the given classpath directory whose name ends with the given extension, see {@link #directory(Path, String)}.
+     * The directory is looked up with the class loader of this class, it can be either a directory or a directory of a jar.
+     *
+     * @param directory the classpath directory containing the template files, such as "templates"
+     * @param extension the extension of the template files, such as ".txt"
+     * @return this builder
+     */
+    public Builder classpath(String directory, String extension) {
+      return classpath(TemplateRegistry.class.getClassLoader(), directory, extension);
+    }
+
+    /**
+     * Register the resources of the given classpath directory whose name ends with the given extension, see {@link #directory(Path, String)}.
+     *
+     * @param classLoader the class loader the directory is looked up with
+     * @param directory   the classpath directory containing the template files, such as "templates"
+     * @param extension   the extension of the template files, such as ".txt"
+     * @return this builder
+     */
+    public Builder classpath(ClassLoader classLoader, String directory, String extension) {
+      if (classLoader == null || directory == null || extension == null) {
+        throw new IllegalArgumentException("The class loader, the directory and the extension of templates can not be null");
+      }
+
+      locations.add(new Location(null, classLoader, directory, extension));
+      return this;
+    }
+
+    /**
+     * Register the given string format
+     *
+     * @param id        the id of the template
+     * @param strFormat the string format of the template
+     * @return this builder
+     */
+    public Builder template(String id, String strFormat) {
+      if (id == null || strFormat == null) {
+        throw new IllegalArgumentException("The id and the string format of a template can not be null");
+      }
+
+      templates.put(id, strFormat);
+      return this;
+    }
+
+    /**
+     * Declare the parameters the template with the given id is rendered with.
+     * The build fails if the template uses a placeholder whose key is not one of them, or if no template has this id.
+     * Declaring parameters several times for the same template adds them to the previous ones.
+     *
+     * @param id         the id of the template
+     * @param parameters the keys of the parameters the template is rendered with
+     * @return this builder
+     */
+    public Builder declareParameters(String id, Collection<String> parameters) {
+      if (id == null || parameters == null) {
+        throw new IllegalArgumentException("The id and the parameters of a template can not be null");
+      }
+
+      declaredParameters.computeIfAbsent(id, ignored -> new LinkedHashSet<>()).addAll(parameters);
+      return this;
+    }
+
+    /**
+     * Declare the parameters the template with the given id is rendered with, see {@link #declareParameters(String, Collection)}
+     *
+     * @param id         the id of the template
+     * @param parameters the keys of the parameters the template is rendered with
+     * @return this builder
+     */
+    public Builder declareParameters(String id, String... parameters) {
+      return declareParameters(id, parameters != null ? List.of(parameters) : null);
+    }
+
+    /**
+     * Read, compile and validate all the registered templates
+     *
+     * @return a new TemplateRegistry
+     * @throws PlaceholderFormatException   if a location or a template could not be read or compiled
+     * @throws TemplateValidationException if several templates have the same id, or if a template uses undeclared parameters
+     */
+    public TemplateRegistry build() {
+      final var errors = new ArrayList<String>();
+      final var fileSystems = new ArrayList<FileSystem>();
+      try {
+        final var sources = new LinkedHashMap<String, Source>();
+        for (final var location : locations) {
+          for (final var source : location.list(fileSystems)) {
+            final var previous = sources.putIfAbsent(source.id, source);
+            if (previous != null) {
+              errors.add("The template " + source.id + " is defined by both " + previous.path.toUri() + " and " + source.path.toUri());
+            }
+          }
+        }
+        templates.forEach((id, strFormat) -> {
+          final var previous = sources.putIfAbsent(id, new Source(id, null, strFormat));
+          if (previous != null) {
+            errors.add("The template " + id + " is defined by both " + previous.path.toUri() + " and a string format");
+          }
+        });
+
+        final var compiled = compileAll(List.copyOf(sources.values()));
+        declaredParameters.forEach((id, declared) -> {
+          final var template = compiled.get(id);
+          if (template == null) {
+            errors.add("Parameters are declared for the unknown template " + id);
+            return;
+          }
+
+          final var undeclared = template.getPlaceholderNames().stream().filter(key -> !declared.contains(key)).toList();
+          if (!undeclared.isEmpty()) {
+            errors.add("The template " + id + " uses the undeclared parameters " + undeclared);
+          }
+        });
+
+        if (!errors.isEmpty()) {
+          throw new TemplateValidationException(errors);
+        }
+
+        return new TemplateRegistry(Map.copyOf(compiled));
+      } finally {
+        fileSystems.forEach(Builder::close);
+      }
+    }
+
+    private Map<String, CompiledTemplate> compileAll(List<Source> sources) {
+      final var configuration = placeholderConfiguration;
+      final var templatesCharset = charset;
+      final var templates = ParallelTasks.invokeAll(pool, sources.size(), index -> sources.get(index).compile(configuration, templatesCharset));
+      final var compiled = new HashMap<String, CompiledTemplate>();
+      for (int index = 0; index < sources.size(); index++) {
+        compiled.putIfAbsent(sources.get(index).id(), templates.get(index));
+      }
+      return compiled;
+    }
+
+    private static void close(FileSystem fileSystem) {
+      try {
+        fileSystem.close();
+      } catch (IOException e) {
+        // the templates have already been read
+      }
+    }
+  }
+
+  private record Location(Path directory, ClassLoader classLoader, String resource, String extension) {
+
+    List<Source> list(List<FileSystem> openedFileSystems) {
+      final var root = directory != null ? directory : resolveResource(openedFileSystems);
+      try (Stream<Path> files = Files.walk(root)) {
+        return files.filter(Files::isRegularFile)
+          .filter(file -> file.getFileName().toString().endsWith(extension))
+          .sorted()
+          .map(file -> new Source(idOf(root, file), file, null))
+          .toList();
+      } catch (IOException e) {
+        throw new PlaceholderFormatException("Unable to list the templates of " + root.toUri(), e);
+      }
+    }
+
+    private String idOf(Path root, Path file) {
+      final var relative = root.relativize(file);
+      final var id = StreamSupport.stream(relative.spliterator(), false).map(Path::toString).collect(Collectors.joining("/"));
+      return id.substring(0, id.length() - extension.length());
+    }
+
+    private Path resolveResource(List<FileSystem> openedFileSystems) {
+      final var url = classLoader.getResource(resource);
+      if (url == null) {
+        throw new PlaceholderFormatException("Unable to find the classpath directory " + resource);
+      }
+
+      try {
+        final var uri = url.toURI();
+        if ("jar".equals(uri.getScheme())) {
+          openFileSystem(uri, openedFileSystems);
+        }
+        return Path.of(uri);
+      } catch (URISyntaxException | IOException e) {
+        throw new PlaceholderFormatException("Unable to open the classpath directory " + resource, e);
+      }
+    }
+
+    private static void openFileSystem(URI uri, List<FileSystem> openedFileSystems) throws IOException {
+      try {
+        openedFileSystems.add(FileSystems.newFileSystem(uri, Map.of()));
+      } catch (FileSystemAlreadyExistsException e) {
+        // the jar is already opened, by the application or by another location
+      }
+    }
+  }
+
+  private record Source(String id, Path path, String content) {
+
+    CompiledTemplate compile(PlaceholderConfiguration configuration, Charset charset) {
+      if (content != null) {
+        return CompiledTemplate.compile(configuration, content);
+      }
+
+      try {
+        return CompiledTemplate.compile(configuration, read(path, charset));
+      } catch (IOException e) {
+        throw new PlaceholderFormatException("Unable to read the template " + id + " from " + path.toUri(), e);
+      }
+    }
+  }
+}
@@ -0,0 +1,175 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * An {@link Appendable} encoding the characters appended to it in UTF-8, straight into a {@link ByteBuffer}.
+ *
+ * <p> When the sink writes to an {@link OutputStream}, the buffer is drained into the stream whenever it is full and by {@link #finish()}.
+ * Otherwise, writing more bytes than the buffer can hold throws a {@link BufferOverflowException}.
+ *
+ * <p> Like {@link String#getBytes(java.nio.charset.Charset)}, unpaired surrogates are encoded as '?', even when the two halves of a pair are appended separately.
+ */
+final class Utf8Sink implements Appendable {
+
+  private static final int DRAINED_BUFFER_CAPACITY = 8192;
+  private static final byte REPLACEMENT = '?';
+
+  private final ByteBuffer buffer;
+  private final OutputStream stream;
+  private final byte[] digits = new byte[20];
+  private char highSurrogate;
+
+  private Utf8Sink(ByteBuffer buffer, OutputStream stream) {
+    this.buffer = buffer;
+    this.stream = stream;
+  }
+
+  static Utf8Sink of(ByteBuffer buffer) {
+    return new Utf8Sink(buffer, null);
+  }
+
+  static Utf8Sink of(OutputStream stream, int expectedLength) {
+    return new Utf8Sink(ByteBuffer.allocate(Math.max(16, Math.min(expectedLength, DRAINED_BUFFER_CAPACITY))), stream);
+  }
+
+  /**
+   * Writes bytes already encoded in UTF-8
+   */
+  void write(byte[] bytes) throws IOException {
+    if (bytes.length == 0) {
+      return;
+    }
+
+    flushHighSurrogate();
+    if (stream == null || bytes.length <= buffer.remaining()) {
+      buffer.put(bytes);
+    } else {
+      drain();
+      if (bytes.length <= buffer.remaining()) {
+        buffer.put(bytes);
+      } else {
+        stream.write(bytes);
+      }
+    }
+  }
+
+  /**
+   * Writes the decimal representation of the given value, without creating a string
+   */
+  void writeLong(long value) throws IOException {
+    if (value == Long.MIN_VALUE) {
+      append(Long.toString(value));
+      return;
+    }
+
+    flushHighSurrogate();
+    var remaining = Math.abs(value);
+    var index = digits.length;
+    do {
+      digits[--index] = (byte) ('0' + remaining % 10);
+      remaining /= 10;
+    } while (remaining != 0);
+
+    if (value < 0) {
+      digits[--index] = '-';
+    }
+
+    ensureRemaining(digits.length - index);
+    buffer.put(digits, index, digits.length - index);
+  }
+
+  @Override
+  public Utf8Sink append(CharSequence csq) throws IOException {
+    final var sequence = csq == null ? "null" : csq;
+    return append(sequence, 0, sequence.length());
+  }
+
+  @Override
+  public Utf8Sink append(CharSequence csq, int start, int end) throws IOException {
+    if (csq == null) {
+      return append("null", start, end);
+    }
+
+    for (int i = start; i < end; i++) {
+      final var c = csq.charAt(i);
+      if (c < 0x80 && highSurrogate == 0) {
+        ensureRemaining(1);
+        buffer.put((byte) c);
+      } else {
+        append(c);
+      }
+    }
+    return this;
+  }
+
+  @Override
+  public Utf8Sink append(char c) throws IOException {
+    if (Character.isLowSurrogate(c) && highSurrogate != 0) {
+      final var codePoint = Character.toCodePoint(highSurrogate, c);
+      highSurrogate = 0;
+      ensureRemaining(4);
+      buffer.put((byte) (0xF0 | codePoint >> 18));
+      buffer.put((byte) (0x80 | codePoint >> 12 & 0x3F));
+      buffer.put((byte) (0x80 | codePoint >> 6 & 0x3F));
+      buffer.put((byte) (0x80 | codePoint & 0x3F));
+      return this;
+    }
+
+    flushHighSurrogate();
+    if (c < 0x80) {
+      ensureRemaining(1);
+      buffer.put((byte) c);
+    } else if (c < 0x800) {
+      ensureRemaining(2);
+      buffer.put((byte) (0xC0 | c >> 6));
+      buffer.put((byte) (0x80 | c & 0x3F));
+    } else if (Character.isHighSurrogate(c)) {
+      highSurrogate = c;
+    } else if (Character.isLowSurrogate(c)) {
+      ensureRemaining(1);
+      buffer.put(REPLACEMENT);
+    } else {
+      ensureRemaining(3);
+      buffer.put((byte) (0xE0 | c >> 12));
+      buffer.put((byte) (0x80 | c >> 6 & 0x3F));
+      buffer.put((byte) (0x80 | c & 0x3F));
+    }
+    return this;
+  }
+
+  /**
+   * Writes a pending unpaired surrogate and, when writing to a stream, the buffered bytes
+   */
+  void finish() throws IOException {
+    flushHighSurrogate();
+    if (stream != null) {
+      drain();
+    }
+  }
+
+  private void flushHighSurrogate() throws IOException {
+    if (highSurrogate != 0) {
+      highSurrogate = 0;
+      ensureRemaining(1);
+      buffer.put(REPLACEMENT);
+    }
+  }
+
+  private void ensureRemaining(int length) throws IOException {
+    if (buffer.remaining() < length) {
+      if (stream == null) {
+        throw new BufferOverflowException();
+      }
+      drain();
+    }
+  }
+
+  private void drain() throws IOException {
+    stream.write(buffer.array(), buffer.arrayOffset(), buffer.position());
+    buffer.clear();
+  }
+}
@@ -0,0 +1,24 @@
+package io.github.badpop.celeritas.placeholders;
+
+import java.io.IOException;
+
+/**
+ * A ValueRenderer writes the text replacing a placeholder from the value of its parameter.
+ *
+ * <p> Implementations append the text directly to the output, they should avoid building an intermediate string when they can.
+ * They are registered for a type in {@link ValueRenderers}.
+ *
+ * @param <T> the type of the values this renderer writes
+ */
+@FunctionalInterface
+public interface ValueRenderer<T> {
+
+  /**
+   * Append the text representing the given value to the given output
+   *
+   * @param value  the value of a placeholder parameter, never null
+   * @param output the rendering output
+   * @throws IOException if the output could not be written
+   */
+  void render(T value, Appendable output) throws IOException;
+}
@@ -0,0 +1,258 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.control.Option;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * ValueRenderers is an immutable registry of {@link ValueRenderer}, used to write parameter values in place of their placeholders.
+ *
+ * <p> The renderer of a value is the one registered for its class, or else for its nearest superclass, or else for one of its interfaces.
+ * It is looked up once per class and then remembered. Values without a registered renderer are written as {@link String#valueOf(Object)} would.
+ *
+ * <p> The {@link #defaults()} renderers write text and boxed primitives directly to the output, without intermediate strings
+ * when the output is a {@link StringBuilder}, and produce exactly the same text as {@link String#valueOf(Object)}.
+ * A {@link Builder} started from these defaults can register renderers for other types, or enable the renderers provided for
+ * {@link java.time} types, {@link BigDecimal}, enums and optional values.
+ *
+ * <p> To use your renderers, give them to a formatter or to a {@link PlaceholderConfiguration}.
+ */
+public final class ValueRenderers {
+
+  private static final ValueRenderer<Object> STRING_VALUE = (value, output) -> output.append(String.valueOf(value));
+
+  private static final ValueRenderers DEFAULTS = builder().build();
+
+  private final Map<Class<?>, ValueRenderer<?>> renderers;
+  private final ClassValue<ValueRenderer<Object>> resolvedRenderers = new ClassValue<>() {
+    @Override
+    protected ValueRenderer<Object> computeValue(Class<?> type) {
+      return lookup(type);
+    }
+  };
+
+  private ValueRenderers(Map<Class<?>, ValueRenderer<?>> renderers) {
+    this.renderers = Map.copyOf(renderers);
+  }
+
+  /**
+   * Get the default renderers, writing values exactly as {@link String#valueOf(Object)} would
+   *
+   * @return the default renderers
+   */
+  public static ValueRenderers defaults() {
+    return DEFAULTS;
+  }
+
+  /**
+   * Create a builder starting from the {@link #defaults()} renderers
+   *
+   * @return a new builder
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  /**
+   * Append the text representing the given value to the given output, using the renderer registered for its type
+   *
+   * @param value  a parameter value, null values are written "null"
+   * @param output the rendering output
+   * @throws IOException if the output could not be written
+   */
+  public void render(Object value, Appendable output) throws IOException {
+    if (value == null) {
+      output.append("null");
+    } else if (value instanceof String string) {
+      output.append(string);
+    } else {
+      resolvedRenderers.get(value.getClass()).render(value, output);
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private ValueRenderer<Object> lookup(Class<?> type) {
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      final var renderer = renderers.get(current);
+      if (renderer != null) {
+        return (ValueRenderer<Object>) renderer;
+      }
+    }
+
+    final var visited = new HashSet<Class<?>>();
+    final var interfaces = new ArrayDeque<Class<?>>();
+    for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+      Collections.addAll(interfaces, current.getInterfaces());
+    }
+
+    while (!interfaces.isEmpty()) {
+      final var current = interfaces.poll();
+      if (visited.add(current)) {
+        final var renderer = renderers.get(current);
+        if (renderer != null) {
+          return (ValueRenderer<Object>) renderer;
+        }
+        Collections.addAll(interfaces, current.getInterfaces());
+      }
+    }
+
+    return STRING_VALUE;
+  }
+
+  /**
+   * A builder of {@link ValueRenderers}. It starts with the default renderers, which can be replaced by registering other ones for the same types.
+   */
+  public static final class Builder {
+
+    private final Map<Class<?>, ValueRenderer<?>> renderers = new LinkedHashMap<>();
+    private String emptyOptionalValue;
+
+    private Builder() {
+      register(CharSequence.class, (value, output) -> output.append(value));
+      register(Integer.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.intValue());
+        } else {
+          output.append(Integer.toString(value));
+        }
+      });
+      register(Long.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.longValue());
+        } else {
+          output.append(Long.toString(value));
+        }
+      });
+      register(Short.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.shortValue());
+        } else {
+          output.append(Short.toString(value));
+        }
+      });
+      register(Byte.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.byteValue());
+        } else {
+          output.append(Byte.toString(value));
+        }
+      });
+      register(Double.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.doubleValue());
+        } else {
+          output.append(Double.toString(value));
+        }
+      });
+      register(Float.class, (value, output) -> {
+        if (output instanceof StringBuilder builder) {
+          builder.append(value.floatValue());
+        } else {
+          output.append(Float.toString(value));
+        }
+      });
+      register(Boolean.class, (value, output) -> output.append(value ? "true" : "false"));
+      register(Character.class, (value, output) -> output.append(value));
+    }
+
+    /**
+     * Register a renderer for the given type and its subtypes, replacing the renderer previously registered for this exact type
+     *
+     * @param type     the type of the values to render
+     * @param renderer the renderer of these values
+     * @param <T>      the type of the values to render
+     * @return this builder
+     */
+    public <T> Builder register(Class<T> type, ValueRenderer<? super T> renderer) {
+      if (type == null || renderer == null) {
+        throw new IllegalArgumentException("The type and the renderer of a value renderer can not be null");
+      }
+
+      renderers.put(type, renderer);
+      return this;
+    }
+
+    /**
+     * Render {@link java.time} values, and any other {@link TemporalAccessor}, with the given formatter.
+     * The text is formatted directly into the output, see {@link DateTimeFormatter#formatTo(TemporalAccessor, Appendable)}.
+     *
+     * @param formatter the formatter of temporal values
+     * @return this builder
+     */
+    public Builder temporals(DateTimeFormatter formatter) {
+      return register(TemporalAccessor.class, formatter::formatTo);
+    }
+
+    /**
+     * Render {@link BigDecimal} values without exponent, see {@link BigDecimal#toPlainString()}
+     *
+     * @return this builder
+     */
+    public Builder plainBigDecimals() {
+      return register(BigDecimal.class, (value, output) -> output.append(value.toPlainString()));
+    }
+
+    /**
+     * Render enum constants with their {@link Enum#name()} instead of their {@link Enum#toString()}
+     *
+     * @return this builder
+     */
+    public Builder enumNames() {
+      return register(Enum.class, (value, output) -> output.append(value.name()));
+    }
+
+    /**
+     * Render the content of Vavr {@link Option} and {@link Optional} values with the renderer of its type instead of the optional itself,
+     * and empty optionals with the given text
+     *
+     * @param emptyValue the text replacing the placeholders whose parameter is an empty optional
+     * @return this builder
+     */
+    public Builder optionalValues(String emptyValue) {
+      if (emptyValue == null) {
+        throw new IllegalArgumentException("The text of empty optionals can not be null");
+      }
+
+      this.emptyOptionalValue = emptyValue;
+      return this;
+    }
+
+    /**
+     * @return new immutable ValueRenderers made of the renderers registered in this builder
+     */
+    public ValueRenderers build() {
+      final var registered = new LinkedHashMap<>(renderers);
+      final var emptyValue = emptyOptionalValue;
+      if (emptyValue == null) {
+        return new ValueRenderers(registered);
+      }
+
+      final var holder = new ValueRenderers[1];
+      registered.put(Option.class, (ValueRenderer<Option<?>>) (value, output) -> {
+        if (value.isDefined()) {
+          holder[0].render(value.get(), output);
+        } else {
+          output.append(emptyValue);
+        }
+      });
+      registered.put(Optional.class, (ValueRenderer<Optional<?>>) (value, output) -> {
+        if (value.isPresent()) {
+          holder[0].render(value.get(), output);
+        } else {
+          output.append(emptyValue);
+        }
+      });
+      holder[0] = new ValueRenderers(registered);
+      return holder[0];
+    }
+  }
+}
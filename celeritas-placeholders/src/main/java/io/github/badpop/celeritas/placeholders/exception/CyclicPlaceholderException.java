@@ -0,0 +1,8 @@
+package io.github.badpop.celeritas.placeholders.exception;
+
+public class CyclicPlaceholderException extends RuntimeException {
+
+  public CyclicPlaceholderException(String message) {
+    super(message);
+  }
+}
@@ -2,7 +2,17 @@ package io.github.badpop.celeritas.placeholders.exception;
 
 public class NoPlaceholderFoundException extends RuntimeException {
 
+  private static final String MESSAGE = "No placeholder was found into the given string format";
+
   public NoPlaceholderFoundException() {
-    super("No placeholder was found into the given string format");
+    super(MESSAGE);
+  }
+
+  /**
+   * @param writableStackTrace whether the stack trace should be captured, not capturing it makes the exception much cheaper to create.
+   *                           Suppressed exceptions are only recorded along with the stack trace
+   */
+  public NoPlaceholderFoundException(boolean writableStackTrace) {
+    super(MESSAGE, null, writableStackTrace, writableStackTrace);
   }
 }
@@ -2,7 +2,17 @@ package io.github.badpop.celeritas.placeholders.exception;
 
 public class NullParametersException extends RuntimeException {
 
+  private static final String MESSAGE = "Unable to format a string if parameters null";
+
   public NullParametersException() {
-    super("Unable to format a string if parameters null");
+    super(MESSAGE);
+  }
+
+  /**
+   * @param writableStackTrace whether the stack trace should be captured, not capturing it makes the exception much cheaper to create.
+   *                           Suppressed exceptions are only recorded along with the stack trace
+   */
+  public NullParametersException(boolean writableStackTrace) {
+    super(MESSAGE, null, writableStackTrace, writableStackTrace);
   }
 }
@@ -9,4 +9,14 @@ public class PlaceholderFormatException extends RuntimeException {
   public PlaceholderFormatException(String message, Throwable cause) {
     super(message, cause);
   }
+
+  /**
+   * @param message            the detail message
+   * @param cause              the cause of the failure
+   * @param writableStackTrace whether the stack trace should be captured, not capturing it makes the exception much cheaper to create.
+   *                           Suppressed exceptions are only recorded along with the stack trace
+   */
+  public PlaceholderFormatException(String message, Throwable cause, boolean writableStackTrace) {
+    super(message, cause, writableStackTrace, writableStackTrace);
+  }
 }
@@ -2,7 +2,32 @@ package io.github.badpop.celeritas.placeholders.exception;
 
 public class PlaceholderParameterNotFound extends RuntimeException {
 
+  private final String placeholder;
+
   public PlaceholderParameterNotFound(String message) {
+    this(message, null);
+  }
+
+  public PlaceholderParameterNotFound(String message, String placeholder) {
     super(message);
+    this.placeholder = placeholder;
+  }
+
+  /**
+   * @param message            the detail message
+   * @param placeholder        the placeholder without parameter
+   * @param writableStackTrace whether the stack trace should be captured, not capturing it makes the exception much cheaper to create.
+   *                           Suppressed exceptions are only recorded along with the stack trace
+   */
+  public PlaceholderParameterNotFound(String message, String placeholder, boolean writableStackTrace) {
+    super(message, null, writableStackTrace, writableStackTrace);
+    this.placeholder = placeholder;
+  }
+
+  /**
+   * @return the placeholder without parameter, as it appears in the string format, or null if unknown
+   */
+  public String getPlaceholder() {
+    return placeholder;
   }
 }
@@ -0,0 +1,8 @@
+package io.github.badpop.celeritas.placeholders.exception;
+
+public class TemplateNotFoundException extends RuntimeException {
+
+  public TemplateNotFoundException(String id) {
+    super("No template registered with the id " + id);
+  }
+}
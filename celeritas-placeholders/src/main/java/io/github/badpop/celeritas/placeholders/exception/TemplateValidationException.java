@@ -0,0 +1,20 @@
+package io.github.badpop.celeritas.placeholders.exception;
+
+import java.util.List;
+
+public class TemplateValidationException extends RuntimeException {
+
+  private final List<String> errors;
+
+  public TemplateValidationException(List<String> errors) {
+    super("Invalid templates: " + String.join("; ", errors));
+    this.errors = List.copyOf(errors);
+  }
+
+  /**
+   * @return the description of each invalid template
+   */
+  public List<String> getErrors() {
+    return errors;
+  }
+}
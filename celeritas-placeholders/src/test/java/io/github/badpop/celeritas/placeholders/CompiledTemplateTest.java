@@ -0,0 +1,430 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.PatternSyntaxException;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class CompiledTemplateTest {
+
+  private static final PlaceholderConfiguration PLACEHOLDER_CONFIGURATION = PlaceholderConfiguration.newDefault();
+
+  @Test
+  void should_expose_placeholders_metadata() {
+    final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "An exemple String with two ${place}, [${holder_more_complicated06}] ${place}");
+
+    assertThat(template.getTemplate()).isEqualTo("An exemple String with two ${place}, [${holder_more_complicated06}] ${place}");
+    assertThat(template.getPlaceholders()).containsExactly("place", "holder_more_complicated06", "place");
+    assertThat(template.hasPlaceholders()).isTrue();
+    assertThat(template.countPlaceholders()).isEqualTo(3);
+    assertThat(template.getPlaceholderNames()).containsExactly("place", "holder_more_complicated06");
+    assertThat(template.getPlaceholderPositions()).containsExactly(27, 38, 68);
+  }
+
+  @Test
+  void should_expose_empty_metadata_if_no_placeholder() {
+    final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "An exemple string without placeholder");
+
+    assertThat(template.getPlaceholders()).isEmpty();
+    assertThat(template.hasPlaceholders()).isFalse();
+    assertThat(template.countPlaceholders()).isZero();
+    assertThat(template.getPlaceholderNames()).isEmpty();
+    assertThat(template.getPlaceholderPositions()).isEmpty();
+  }
+
+  @Test
+  void should_expose_immutable_metadata() {
+    final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "${a} ${b}");
+
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> template.getPlaceholders().add("c"));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> template.getPlaceholderNames().add("c"));
+    assertThatExceptionOfType(UnsupportedOperationException.class).isThrownBy(() -> template.getPlaceholderPositions().add(0));
+  }
+
+  @Test
+  void should_not_compile_on_invalid_regex() {
+    final var invalidRegex = "[$]{([\\\\w\\d_-]+)}";
+    final var placeholderConfiguration = new PlaceholderConfiguration(invalidRegex, null, null);
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> CompiledTemplate.compile(placeholderConfiguration, "a string"))
+      .withMessage("Unable to compile the requested String")
+      .withCauseInstanceOf(PatternSyntaxException.class);
+  }
+
+  @Test
+  void should_not_compile_on_null_format() {
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, null))
+      .withMessage("Unable to compile the requested String")
+      .withCauseInstanceOf(NullPointerException.class);
+  }
+
+  @Nested
+  class FormatTest {
+
+    @ParameterizedTest
+    @MethodSource("should_format_arguments")
+    void should_format(String strFormat, Map<String, Object> parameters, String expected) {
+      assertThat(CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, strFormat).format(parameters)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_render_the_same_template_many_times() {
+      final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "Hello ${name} !");
+
+      assertThat(template.format(Map.of("name", "John"))).isEqualTo("Hello John !");
+      assertThat(template.format(Map.of("name", "Jane"))).isEqualTo("Hello Jane !");
+    }
+
+    @Test
+    void should_not_format_if_no_placeholder() {
+      final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "An exemple string without placeholder");
+      assertThatExceptionOfType(NoPlaceholderFoundException.class)
+        .isThrownBy(() -> template.format(Map.of()))
+        .withMessage("No placeholder was found into the given string format");
+    }
+
+    @Test
+    void should_not_format_on_null_parameters() {
+      final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "${a_placeholder}");
+      assertThatExceptionOfType(NullParametersException.class)
+        .isThrownBy(() -> template.format(null))
+        .withMessage("Unable to format a string if parameters null");
+    }
+
+    @Test
+    void should_not_format_on_unknown_placeholder() {
+      final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "A string with an ${unknownPlaceholder}");
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> template.format(Map.of()))
+        .withMessage("Unable to format the requested String")
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+    }
+
+    private static Stream<Arguments> should_format_arguments() {
+      final var nullValue = new HashMap<String, Object>();
+      nullValue.put("value", null);
+
+      return Stream.of(
+        Arguments.of(
+          "An exemple String with two ${place}, [${holder_more_complicated06}]",
+          Map.of("place", "PLACE", "holder_more_complicated06", 22),
+          "An exemple String with two PLACE, [22]"),
+        Arguments.of(
+          "${place}${place} and ${place}",
+          Map.of("place", "PLACE"),
+          "PLACEPLACE and PLACE"),
+        Arguments.of(
+          "A 100% literal ${value} with %s and %d",
+          Map.of("value", List.of(1, 2)),
+          "A 100% literal [1, 2] with %s and %d"),
+        Arguments.of(
+          "A ${value} value",
+          nullValue,
+          "A null value"));
+    }
+  }
+
+  @Test
+  void should_format_to_appendable() {
+    final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "Hello ${name} ${unknown}");
+    final var output = new StringBuilder("> ");
+
+    template.formatIgnoringUnknownPlaceholdersTo(output, Map.of("name", "John"));
+
+    assertThat(output).hasToString("> Hello John ${unknown}");
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> template.formatTo(new StringBuilder(), Map.of("name", "John")))
+      .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+  }
+
+  @Nested
+  class FormatWithParametersTest {
+
+    private final CompiledTemplate template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "${name}{status=${status}, ratio=${ratio}, ok=${ok}} ${status}");
+
+    @Test
+    void should_format_with_primitive_parameters() {
+      final var parameters = template.newParameters()
+        .set("name", "http_requests")
+        .set("status", 200)
+        .set("ratio", 0.25)
+        .set("ok", true);
+
+      assertThat(template.formatWith(parameters)).isEqualTo("http_requests{status=200, ratio=0.25, ok=true} 200");
+
+      parameters.set("status", 'X').set("ratio", 0.1f).set("ok", (Object) null);
+      assertThat(template.formatWith(parameters)).isEqualTo("http_requests{status=X, ratio=0.1, ok=null} X");
+    }
+
+    @Test
+    void should_format_to_appendable_with_parameters() {
+      final var parameters = template.newParameters().set("name", "n").set("status", 404L).set("ratio", 1.5).set("ok", false).set("unknown", 1);
+      final var output = new java.io.StringWriter();
+
+      template.formatToWith(output, parameters);
+
+      assertThat(output).hasToString("n{status=404, ratio=1.5, ok=false} 404");
+    }
+
+    @Test
+    void should_handle_unset_parameters() {
+      final var parameters = template.newParameters().set("name", "n").set("status", 1).set("ratio", 1).set("ok", true).unset("ok");
+
+      assertThat(template.formatIgnoringUnknownPlaceholdersWith(parameters)).isEqualTo("n{status=1, ratio=1, ok=${ok}} 1");
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> template.formatWith(parameters))
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+      assertThat(template.formatIgnoringUnknownPlaceholdersWith(parameters.clear())).isEqualTo(template.getTemplate());
+    }
+
+    @Test
+    void should_not_format_with_parameters_of_another_template() {
+      final var otherParameters = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "${name}").newParameters().set("name", "n");
+
+      assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> template.formatWith(otherParameters));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> template.formatWith(null));
+    }
+
+    @Test
+    void should_render_values_with_configured_renderers() {
+      final var configuration = PLACEHOLDER_CONFIGURATION.withValueRenderers(ValueRenderers.builder().optionalValues("none").build());
+      final var optionalTemplate = CompiledTemplate.compile(configuration, "value: ${value}");
+
+      assertThat(optionalTemplate.format(Map.of("value", io.vavr.control.Option.of(3)))).isEqualTo("value: 3");
+      assertThat(optionalTemplate.formatWith(optionalTemplate.newParameters().set("value", io.vavr.control.Option.none()))).isEqualTo("value: none");
+    }
+  }
+
+  @Nested
+  class FormatToUtf8Test {
+
+    private final CompiledTemplate template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "Schöne ${greeting} ${name} \uD83D\uDE00 ${count}");
+
+    @ParameterizedTest
+    @MethodSource("should_format_to_utf8_arguments")
+    void should_format_to_heap_and_direct_buffers(ByteBuffer buffer) {
+      final Map<String, Object> parameters = Map.of("greeting", "Grüße", "name", "\u20AC\uD835\uDD6B", "count", -42);
+      final var expected = template.format(parameters).getBytes(StandardCharsets.UTF_8);
+
+      buffer.position(3);
+      final var written = template.formatToUtf8(buffer, parameters);
+
+      assertThat(written).isEqualTo(expected.length);
+      assertThat(buffer.position()).isEqualTo(3 + expected.length);
+      final var actual = new byte[written];
+      buffer.get(3, actual);
+      assertThat(actual).isEqualTo(expected);
+    }
+
+    @Test
+    void should_format_to_stream() {
+      final var output = new ByteArrayOutputStream();
+      final var longName = "é".repeat(10_000);
+
+      template.formatToUtf8(output, Map.of("greeting", "Hello", "name", longName, "count", 1));
+
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("Schöne Hello " + longName + " \uD83D\uDE00 1");
+    }
+
+    @Test
+    void should_encode_unpaired_surrogates_like_strings() {
+      final var renderers = ValueRenderers.builder()
+        .register(Character.class, (value, output) -> output.append(value))
+        .build();
+      final var renderingTemplate = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION.withValueRenderers(renderers), "${high}${low} ${lonely} ${reversed}");
+      final Map<String, Object> parameters = Map.of("high", '\uD83D', "low", '\uDE00', "lonely", '\uD83D', "reversed", "\uDE00\uD83D");
+      final var buffer = ByteBuffer.allocate(64);
+
+      renderingTemplate.formatToUtf8(buffer, parameters);
+
+      assertThat(Arrays.copyOf(buffer.array(), buffer.position())).isEqualTo(renderingTemplate.format(parameters).getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void should_format_parameters_to_buffer() {
+      final var parameters = template.newParameters().set("greeting", "Hi").set("name", 'ß').set("count", Long.MIN_VALUE);
+      final var buffer = ByteBuffer.allocateDirect(128);
+
+      template.formatToUtf8With(buffer, parameters);
+
+      assertThat(StandardCharsets.UTF_8.decode(buffer.flip()).toString()).isEqualTo("Schöne Hi ß \uD83D\uDE00 " + Long.MIN_VALUE);
+    }
+
+    @Test
+    void should_format_ignoring_unknown_placeholders() {
+      final var buffer = ByteBuffer.allocate(64);
+      final var output = new ByteArrayOutputStream();
+
+      template.formatIgnoringUnknownPlaceholdersToUtf8(buffer, Map.of("name", "Jane"));
+      template.formatIgnoringUnknownPlaceholdersToUtf8(output, Map.of("name", "Jane"));
+
+      assertThat(StandardCharsets.UTF_8.decode(buffer.flip()).toString()).isEqualTo("Schöne ${greeting} Jane \uD83D\uDE00 ${count}");
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("Schöne ${greeting} Jane \uD83D\uDE00 ${count}");
+    }
+
+    @Test
+    void should_restore_the_buffer_position_on_failure() {
+      final var buffer = ByteBuffer.allocate(16);
+      buffer.position(2);
+
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> template.formatToUtf8(buffer, Map.of("greeting", "Hello", "name", "Jane", "count", 1)))
+        .withCauseInstanceOf(BufferOverflowException.class);
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> template.formatToUtf8(buffer, Map.of("greeting", "Hello")))
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+      assertThat(buffer.position()).isEqualTo(2);
+    }
+
+    @Test
+    void should_not_format_without_placeholders_or_parameters() {
+      final var noPlaceholders = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "No placeholders");
+
+      assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> noPlaceholders.formatToUtf8(ByteBuffer.allocate(32), Map.of()));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> template.formatToUtf8(ByteBuffer.allocate(32), null));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> template.formatToUtf8(new ByteArrayOutputStream(), null));
+    }
+
+    private static Stream<Arguments> should_format_to_utf8_arguments() {
+      return Stream.of(Arguments.of(ByteBuffer.allocate(128)), Arguments.of(ByteBuffer.allocateDirect(128)));
+    }
+  }
+
+  @Nested
+  class FormatAllTest {
+
+    private final CompiledTemplate template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "Dear ${name}, you are number ${rank}");
+
+    @Test
+    void should_format_all_lazily_in_order() {
+      final var parameters = IntStream.range(0, 100).mapToObj(i -> Map.<String, Object>of("name", "user" + i, "rank", i)).toList();
+
+      assertThat(template.formatAll(parameters))
+        .containsExactlyElementsOf(IntStream.range(0, 100).mapToObj(i -> "Dear user" + i + ", you are number " + i).toList());
+    }
+
+    @Test
+    void should_format_all_in_parallel_preserving_order() {
+      final var parameters = IntStream.range(0, 10_000).mapToObj(i -> Map.<String, Object>of("name", "user" + i, "rank", i)).toList();
+      final var pool = new ForkJoinPool(4);
+
+      try {
+        assertThat(template.formatAll(parameters, pool))
+          .containsExactlyElementsOf(IntStream.range(0, 10_000).mapToObj(i -> "Dear user" + i + ", you are number " + i).toList());
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    void should_format_all_on_given_pool() {
+      final var pool = new ForkJoinPool(2);
+      final var pools = ConcurrentHashMap.<ForkJoinPool>newKeySet();
+      final var parameters = IntStream.range(0, 1000).<Map<String, Object>>mapToObj(i -> new HashMap<>(Map.of("name", "user" + i, "rank", i)) {
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+          pools.add(ForkJoinTask.getPool());
+          return super.getOrDefault(key, defaultValue);
+        }
+      }).toList();
+
+      try {
+        final var rendered = ForkJoinPool.commonPool().submit(() -> template.formatAll(parameters, pool)).join();
+
+        assertThat(rendered).hasSize(1000);
+        assertThat(pools).containsExactly(pool);
+      } finally {
+        pool.shutdown();
+      }
+    }
+
+    @Test
+    void should_format_all_ignoring_unknown_placeholders() {
+      final List<Map<String, Object>> parameters = List.of(Map.of("name", "John"), Map.of("rank", 2));
+
+      assertThat(template.formatAllIgnoringUnknownPlaceholders(parameters))
+        .containsExactly("Dear John, you are number ${rank}", "Dear ${name}, you are number 2");
+      assertThat(template.formatAllIgnoringUnknownPlaceholders(parameters, ForkJoinPool.commonPool()))
+        .containsExactly("Dear John, you are number ${rank}", "Dear ${name}, you are number 2");
+    }
+
+    @Test
+    void should_fail_lazily_on_unknown_placeholder() {
+      final List<Map<String, Object>> parameters = List.of(Map.of("name", "John", "rank", 1), Map.of("name", "Jane"));
+      final var iterator = template.formatAll(parameters).iterator();
+
+      assertThat(iterator.next()).isEqualTo("Dear John, you are number 1");
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(iterator::next)
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+    }
+
+    @Test
+    void should_not_format_all_on_null_parameters() {
+      final var parameters = new ArrayList<Map<String, Object>>();
+      parameters.add(null);
+
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> template.formatAll(null));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> template.formatAll(parameters).toList());
+    }
+  }
+
+  @Nested
+  class FormatIgnoringUnknownPlaceholdersTest {
+
+    @ParameterizedTest
+    @MethodSource("should_format_arguments")
+    void should_format_even_if_a_placeholder_is_unknown(String strFormat, Map<String, Object> parameters, String expected) {
+      assertThat(CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, strFormat).formatIgnoringUnknownPlaceholders(parameters)).isEqualTo(expected);
+    }
+
+    @Test
+    void should_not_format_on_null_parameters() {
+      final var template = CompiledTemplate.compile(PLACEHOLDER_CONFIGURATION, "${a_placeholder}");
+      assertThatExceptionOfType(NullParametersException.class)
+        .isThrownBy(() -> template.formatIgnoringUnknownPlaceholders(null))
+        .withMessage("Unable to format a string if parameters null");
+    }
+
+    private static Stream<Arguments> should_format_arguments() {
+      return Stream.of(
+        Arguments.of(
+          "An exemple String with two ${place}, [${holder_more_complicated06}]",
+          Map.of("place", "PLACE", "holder_more_complicated06", 22),
+          "An exemple String with two PLACE, [22]"),
+        Arguments.of(
+          "An exemple String without placeholders",
+          Map.of(),
+          "An exemple String without placeholders"),
+        Arguments.of(
+          "An exemple String with an ${unknownPlaceholders} and a ${place}",
+          Map.of("place", "PLACE"),
+          "An exemple String with an ${unknownPlaceholders} and a PLACE"));
+    }
+  }
+}
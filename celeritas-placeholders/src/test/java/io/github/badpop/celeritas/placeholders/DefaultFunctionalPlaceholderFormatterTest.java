@@ -31,6 +31,34 @@ class DefaultFunctionalPlaceholderFormatterTest {
     assertThat(formatter.getPlaceholdersAsSeq(strFormat)).containsExactlyElementsOf(expected);
   }
 
+  @Test
+  void should_share_its_template_cache_between_vavr_and_java_maps() {
+    final var cache = TemplateCache.newCache(10);
+    final var cachingFormatter = new DefaultFunctionalPlaceholderFormatter(cache);
+
+    assertThat(cachingFormatter.format("Hello ${name}", Map("name", "John"))).isEqualTo("Hello John");
+    assertThat(cachingFormatter.format("Hello ${name}", java.util.Map.of("name", "Jane"))).isEqualTo("Hello Jane");
+    assertThat(cachingFormatter.getTemplateCache()).isSameAs(cache);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_fail_with_stackless_exceptions() {
+    final var stacklessFormatter = DefaultPlaceholderFormatter.builder().stacklessExceptions(true).buildFunctional();
+
+    assertThat(stacklessFormatter.hasStacklessExceptions()).isTrue();
+    assertThat(stacklessFormatter.tryToFormat("A ${unknownPlaceholder}", Map()).getCause())
+      .isInstanceOf(PlaceholderFormatException.class)
+      .hasCauseInstanceOf(PlaceholderParameterNotFound.class)
+      .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+      .satisfies(e -> assertThat(e.getCause().getStackTrace()).isEmpty());
+    assertThat(stacklessFormatter.tryToFormat("A string without placeholder", Map()).getCause())
+      .isInstanceOf(NoPlaceholderFoundException.class)
+      .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+    VavrAssertions.assertThat(stacklessFormatter.tryToFormat("A ${placeholder}", Map("placeholder", "value"))).contains("A value");
+  }
+
   @Nested
   class DefaultFormatterTest {
     @ParameterizedTest
@@ -220,6 +248,40 @@ class DefaultFunctionalPlaceholderFormatterTest {
     }
   }
 
+  @Nested
+  class TryToFormatTo {
+
+    @Test
+    void should_format_to_appendable() {
+      final var parameters = new HashMap<String, Object>();
+      parameters.put("String", "replaced");
+
+      VavrAssertions.assertThat(formatter.tryToFormatTo(new StringBuilder(), "A ${String}", parameters).map(StringBuilder::toString))
+        .contains("A replaced");
+    }
+
+    @Test
+    void should_format_to_appendable_with_vavr_map() {
+      VavrAssertions.assertThat(formatter.tryToFormatTo(new StringBuilder(), "A ${String}", Map("String", "replaced")).map(StringBuilder::toString))
+        .contains("A replaced");
+    }
+
+    @Test
+    void should_not_format_to_appendable_on_unknown_placeholder() {
+      VavrAssertions.assertThat(formatter.tryToFormatTo(new StringBuilder(), "A ${unknownPlaceholder}", Map()))
+        .failBecauseOf(PlaceholderFormatException.class)
+        .failReasonHasMessage("Unable to format the requested String");
+    }
+
+    @Test
+    void should_format_ignoring_unknown_placeholders_to_appendable_with_vavr_map() {
+      final var output = new StringBuilder();
+      formatter.formatIgnoringUnknownPlaceholdersTo(output, "A ${String} ${unknownPlaceholder}", Map("String", "replaced"));
+
+      assertThat(output).hasToString("A replaced ${unknownPlaceholder}");
+    }
+  }
+
   @Nested
   class TryToFormat {
     @Test
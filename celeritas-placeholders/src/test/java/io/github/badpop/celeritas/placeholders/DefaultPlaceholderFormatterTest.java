@@ -1,5 +1,6 @@
 package io.github.badpop.celeritas.placeholders;
 
+import io.github.badpop.celeritas.placeholders.exception.CyclicPlaceholderException;
 import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
 import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
 import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
@@ -13,7 +14,18 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -41,6 +53,60 @@ class DefaultPlaceholderFormatterTest {
     assertThat(formatter.countPlaceholders(strFormat)).isEqualTo(expected);
   }
 
+  @Test
+  void should_compile_a_reusable_template() {
+    final var template = formatter.compile("An incredibly complex ${String} with many ${Many-PlaceH0lderS}");
+    final var parameters = new HashMap<String, Object>();
+    parameters.put("String", "replaced");
+    parameters.put("Many-PlaceH0lderS", 22);
+
+    assertThat(template.getPlaceholders()).containsExactly("String", "Many-PlaceH0lderS");
+    assertThat(template.format(parameters)).isEqualTo("An incredibly complex replaced with many 22");
+  }
+
+  @Test
+  void should_reuse_templates_compiled_in_its_cache() {
+    final var cache = TemplateCache.newCache(10);
+    final var cachingFormatter = new DefaultPlaceholderFormatter(cache);
+
+    assertThat(cachingFormatter.format("Hello ${name}", java.util.Map.of("name", "John"))).isEqualTo("Hello John");
+    assertThat(cachingFormatter.formatIgnoringUnknownPlaceholders("Hello ${name}", java.util.Map.of())).isEqualTo("Hello ${name}");
+    assertThat(cachingFormatter.getTemplateCache()).isSameAs(cache);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(new DefaultPlaceholderFormatter().getTemplateCache()).isSameAs(TemplateCache.getDefault());
+  }
+
+  @Test
+  void should_render_values_with_its_renderers() {
+    final var renderingFormatter = new DefaultPlaceholderFormatter(TemplateCache.newCache(10), ValueRenderers.builder().plainBigDecimals().build());
+    final var parameters = java.util.Map.<String, Object>of("amount", new java.math.BigDecimal("1E+3"));
+
+    assertThat(renderingFormatter.format("${amount} EUR", parameters)).isEqualTo("1000 EUR");
+    assertThat(renderingFormatter.formatAll("${amount} EUR", List.of(parameters))).containsExactly("1000 EUR");
+    assertThat(formatter.format("${amount} EUR", parameters)).isEqualTo("1E+3 EUR");
+  }
+
+  @Test
+  void should_answer_metadata_from_its_cache() {
+    final var cache = TemplateCache.newCache(10);
+    final var cachingFormatter = new DefaultPlaceholderFormatter(cache);
+
+    assertThat(cachingFormatter.hasPlaceholders("${a} and ${b}")).isTrue();
+    assertThat(cachingFormatter.countPlaceholders("${a} and ${b}")).isEqualTo(2);
+    assertThat(cache.size()).isZero();
+
+    assertThat(cachingFormatter.getPlaceholders("${a} and ${b}")).containsExactly("a", "b");
+    assertThat(cache.size()).isZero();
+
+    cachingFormatter.format("${a} and ${b}", java.util.Map.of("a", 1, "b", 2));
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cachingFormatter.getPlaceholders("${a} and ${b}")).containsExactly("a", "b");
+    assertThat(cachingFormatter.hasPlaceholders("${a} and ${b}")).isTrue();
+    assertThat(cachingFormatter.countPlaceholders("${a} and ${b}")).isEqualTo(2);
+    assertThat(cachingFormatter.getPlaceholders(null)).isEmpty();
+  }
+
   @Nested
   class FormatTest {
 
@@ -123,6 +189,316 @@ class DefaultPlaceholderFormatterTest {
     }
   }
 
+  @Nested
+  class FormatLazilyTest {
+
+    @Test
+    void should_only_compute_present_parameters_once() {
+      final var calls = new HashMap<String, Integer>();
+      final java.util.Map<String, Supplier<?>> parameters = java.util.Map.of(
+        "used", () -> {
+          calls.merge("used", 1, Integer::sum);
+          return "USED";
+        },
+        "unused", () -> {
+          calls.merge("unused", 1, Integer::sum);
+          return "UNUSED";
+        });
+
+      assertThat(formatter.formatLazily("${used} and ${used} again", parameters)).isEqualTo("USED and USED again");
+      assertThat(calls).containsExactly(java.util.Map.entry("used", 1));
+    }
+
+    @Test
+    void should_resolve_parameters_with_a_function() {
+      final var calls = new AtomicInteger();
+      final Function<String, Object> resolver = key -> {
+        calls.incrementAndGet();
+        return key.toUpperCase();
+      };
+
+      assertThat(formatter.formatLazily("${a} ${a} ${b}", resolver, false)).isEqualTo("A A B");
+      assertThat(calls).hasValue(3);
+
+      calls.set(0);
+      assertThat(formatter.formatLazily("${a} ${a} ${b}", resolver, true)).isEqualTo("A A B");
+      assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void should_not_format_lazily_on_unresolved_placeholder() {
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.formatLazily("A ${unknownPlaceholder}", key -> null, true))
+        .withMessage("Unable to format the requested String")
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+    }
+
+    @Test
+    void should_not_format_lazily_on_null_resolver() {
+      assertThatExceptionOfType(NullParametersException.class)
+        .isThrownBy(() -> formatter.formatLazily("${a_placeholder}", (Function<String, ?>) null, true));
+    }
+
+    @Test
+    void should_format_lazily_ignoring_unknown_placeholders() {
+      final java.util.Map<String, Supplier<?>> parameters = java.util.Map.of("known", () -> "KNOWN");
+
+      assertThat(formatter.formatIgnoringUnknownPlaceholdersLazily("${known} ${unknown}", parameters)).isEqualTo("KNOWN ${unknown}");
+      assertThat(formatter.formatIgnoringUnknownPlaceholdersLazily("${known} ${unknown}", key -> parameters.containsKey(key) ? "RESOLVED" : null, false))
+        .isEqualTo("RESOLVED ${unknown}");
+    }
+  }
+
+  @Test
+  void should_format_all() {
+    final List<java.util.Map<String, Object>> parameters = List.of(java.util.Map.of("name", "John"), java.util.Map.of("name", "Jane"));
+
+    assertThat(formatter.formatAll("Hello ${name}", parameters)).containsExactly("Hello John", "Hello Jane");
+    assertThat(formatter.formatAll("Hello ${name}", parameters, ForkJoinPool.commonPool())).containsExactly("Hello John", "Hello Jane");
+    assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> formatter.formatAll("Hello", parameters));
+  }
+
+  @Test
+  void should_scan_placeholders_in_parallel() {
+    final var strFormat = "Some text with a ${placeholder} and ${another_one}. ".repeat(10_000);
+
+    assertThat(formatter.getPlaceholders(strFormat, ForkJoinPool.commonPool())).hasSize(20_000).containsExactlyElementsOf(formatter.getPlaceholders(strFormat));
+    assertThat(formatter.countPlaceholders(strFormat, ForkJoinPool.commonPool())).isEqualTo(20_000);
+    assertThat(formatter.getPlaceholders(null, ForkJoinPool.commonPool())).isEmpty();
+    assertThat(formatter.countPlaceholders(null, ForkJoinPool.commonPool())).isZero();
+  }
+
+  @Nested
+  class FormatRecursivelyTest {
+
+    @Test
+    void should_expand_nested_placeholders() {
+      final java.util.Map<String, Object> parameters = java.util.Map.of(
+        "url", "${scheme}://${host}:${port}/${path}",
+        "scheme", "https",
+        "host", "${name}.${domain}",
+        "name", "api",
+        "domain", "example.com",
+        "port", 8443,
+        "path", "v1");
+
+      assertThat(formatter.formatRecursively("Calling ${url} on ${host}", parameters)).isEqualTo("Calling https://api.example.com:8443/v1 on api.example.com");
+    }
+
+    @Test
+    void should_resolve_each_key_once() {
+      final var lookups = new AtomicInteger();
+      final var parameters = new HashMap<String, Object>() {
+        @Override
+        public Object getOrDefault(Object key, Object defaultValue) {
+          lookups.incrementAndGet();
+          return super.getOrDefault(key, defaultValue);
+        }
+      };
+      parameters.put("a", "${b}${b}");
+      parameters.put("b", "${c}-${c}");
+      parameters.put("c", "x");
+
+      assertThat(formatter.formatRecursively("${a}|${b}|${c}", parameters)).isEqualTo("x-xx-x|x-x|x");
+      assertThat(lookups).hasValue(3);
+    }
+
+    @Test
+    void should_expand_deep_chains() {
+      final var parameters = new HashMap<String, Object>();
+      IntStream.range(0, 500).forEach(i -> parameters.put("key" + i, "${key" + (i + 1) + "}"));
+      parameters.put("key500", "end");
+
+      assertThat(formatter.formatRecursively("${key0}", parameters)).isEqualTo("end");
+    }
+
+    @Test
+    void should_not_expand_cyclic_placeholders() {
+      final java.util.Map<String, Object> parameters = java.util.Map.of("a", "${b}", "b", "x ${c}", "c", "${a}");
+
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.formatRecursively("Start ${a}", parameters))
+        .withMessage("Unable to format the requested String")
+        .withCauseInstanceOf(CyclicPlaceholderException.class)
+        .satisfies(e -> assertThat(e.getCause()).hasMessage("Cyclic placeholder references: a -> b -> c -> a"));
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.formatIgnoringUnknownPlaceholdersRecursively("${self}", java.util.Map.of("self", "${self}")))
+        .withCauseInstanceOf(CyclicPlaceholderException.class);
+    }
+
+    @Test
+    void should_not_format_recursively_on_unknown_nested_placeholder() {
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.formatRecursively("${a}", java.util.Map.of("a", "${unknown}")))
+        .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+    }
+
+    @Test
+    void should_format_recursively_ignoring_unknown_placeholders() {
+      final java.util.Map<String, Object> parameters = java.util.Map.of("a", "${unknown} ${b}", "b", "B");
+
+      assertThat(formatter.formatIgnoringUnknownPlaceholdersRecursively("${a} ${other}", parameters)).isEqualTo("${unknown} B ${other}");
+      assertThat(formatter.formatIgnoringUnknownPlaceholdersRecursively("No placeholders", parameters)).isEqualTo("No placeholders");
+    }
+
+    @Test
+    void should_not_format_recursively_without_placeholders_or_parameters() {
+      assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> formatter.formatRecursively("Hello", java.util.Map.of()));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> formatter.formatRecursively("${a}", null));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> formatter.formatIgnoringUnknownPlaceholdersRecursively("${a}", null));
+    }
+  }
+
+  @Nested
+  class FormatToTest {
+
+    @Test
+    void should_format_to_appendable() {
+      final var output = new StringWriter();
+      formatter.formatTo(output, "An incredibly complex ${String} with many ${Many-PlaceH0lderS}", java.util.Map.of("String", "replaced", "Many-PlaceH0lderS", 22));
+
+      assertThat(output).hasToString("An incredibly complex replaced with many 22");
+    }
+
+    @Test
+    void should_format_to_output_stream_with_charset() {
+      final var output = new ByteArrayOutputStream();
+      formatter.formatTo(output, StandardCharsets.ISO_8859_1, "Voilà ${value}", java.util.Map.of("value", "déjà"));
+
+      assertThat(output.toByteArray()).isEqualTo("Voilà déjà".getBytes(StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    void should_format_ignoring_unknown_placeholders_to_output_stream_with_charset() {
+      final var output = new ByteArrayOutputStream();
+      formatter.formatIgnoringUnknownPlaceholdersTo(output, StandardCharsets.UTF_8, "Voilà ${value} ${unknown}", java.util.Map.of("value", "déjà"));
+
+      assertThat(output.toString(StandardCharsets.UTF_8)).isEqualTo("Voilà déjà ${unknown}");
+    }
+
+    @Test
+    void should_not_format_to_appendable_if_no_placeholder() {
+      assertThatExceptionOfType(NoPlaceholderFoundException.class)
+        .isThrownBy(() -> formatter.formatTo(new StringBuilder(), "A string without placeholder", java.util.Map.of()))
+        .withMessage("No placeholder was found into the given string format");
+    }
+
+    @Test
+    void should_not_format_to_failing_appendable() {
+      final var output = new Writer() {
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+          throw new IOException("closed");
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+      };
+
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.formatIgnoringUnknownPlaceholdersTo(output, "A ${placeholder}", java.util.Map.of()))
+        .withMessage("Unable to format the requested String")
+        .withCauseInstanceOf(IOException.class);
+    }
+  }
+
+  @Nested
+  class FailureTest {
+
+    private final DefaultPlaceholderFormatter stacklessFormatter = DefaultPlaceholderFormatter.builder().stacklessExceptions(true).build();
+
+    @Test
+    void should_fall_back_when_a_parameter_is_missing() {
+      final var missing = new java.util.ArrayList<String>();
+      final var instrumented = DefaultPlaceholderFormatter.builder()
+        .instrumentation(new FormatterInstrumentation() {
+          @Override
+          public void onMissingParameter(String strFormat, String placeholder) {
+            missing.add(placeholder);
+          }
+        })
+        .build();
+
+      assertThat(instrumented.formatOrElse("Hello ${name} ${unknown}", java.util.Map.of("name", "John"), () -> "fallback")).isEqualTo("fallback");
+      assertThat(instrumented.formatOrElse("Hello ${name}", java.util.Map.of("name", "John"), () -> "fallback")).isEqualTo("Hello John");
+      assertThat(missing).containsExactly("${unknown}");
+    }
+
+    @Test
+    void should_fall_back_when_a_value_can_not_be_rendered() {
+      final var failing = DefaultPlaceholderFormatter.builder()
+        .valueRenderers(ValueRenderers.builder().register(Integer.class, (value, output) -> {
+          throw new IllegalStateException("unsupported");
+        }).build())
+        .templateCache(TemplateCache.newCache(16))
+        .build();
+
+      assertThat(failing.formatOrElse("Hello ${value}", java.util.Map.of("value", 1), () -> "fallback")).isEqualTo("fallback");
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> failing.format("Hello ${value}", java.util.Map.of("value", 1)))
+        .withCauseInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void should_throw_exceptions_with_stack_trace_by_default() {
+      assertThat(((DefaultPlaceholderFormatter) formatter).hasStacklessExceptions()).isFalse();
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.format("Hello ${name}", java.util.Map.of()))
+        .satisfies(e -> assertThat(e.getStackTrace()).isNotEmpty());
+    }
+
+    @Test
+    void should_keep_suppressed_exceptions_of_exceptions_with_stack_trace() {
+      final var suppressed = new IllegalStateException("suppressed");
+
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> formatter.format("Hello ${name}", java.util.Map.of()))
+        .satisfies(e -> e.addSuppressed(suppressed))
+        .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(suppressed));
+      assertThatExceptionOfType(NoPlaceholderFoundException.class)
+        .isThrownBy(() -> formatter.format("Hello", java.util.Map.of()))
+        .satisfies(e -> e.addSuppressed(suppressed))
+        .satisfies(e -> assertThat(e.getSuppressed()).containsExactly(suppressed));
+    }
+
+    @Test
+    void should_throw_stackless_exceptions() {
+      assertThat(stacklessFormatter.hasStacklessExceptions()).isTrue();
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> stacklessFormatter.format("Hello ${name}", java.util.Map.of()))
+        .withMessage("Unable to format the requested String")
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+        .havingCause()
+        .isInstanceOf(PlaceholderParameterNotFound.class)
+        .withMessage("No parameter found for the placeholder ${name}")
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+        .satisfies(e -> assertThat(((PlaceholderParameterNotFound) e).getPlaceholder()).isEqualTo("${name}"));
+      assertThatExceptionOfType(NoPlaceholderFoundException.class)
+        .isThrownBy(() -> stacklessFormatter.format("Hello", java.util.Map.of()))
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+      assertThatExceptionOfType(NullParametersException.class)
+        .isThrownBy(() -> stacklessFormatter.formatIgnoringUnknownPlaceholders("Hello ${name}", null))
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty());
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(() -> stacklessFormatter.formatIgnoringUnknownPlaceholders(null, java.util.Map.of()))
+        .satisfies(e -> assertThat(e.getStackTrace()).isEmpty())
+        .withCauseInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void should_keep_the_check_order_of_the_throwing_methods() {
+      assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> stacklessFormatter.format(null, null));
+      assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> stacklessFormatter.formatLazily("Hello", null, true));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> stacklessFormatter.formatLazily("Hello ${name}", (Function<String, ?>) null, true));
+      assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> stacklessFormatter.formatIgnoringUnknownPlaceholders(null, null));
+    }
+  }
+
   @Test
   void should_format_or_else() {
     final var orElse = "something";
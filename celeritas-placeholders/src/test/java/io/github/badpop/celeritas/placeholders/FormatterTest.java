@@ -120,7 +120,17 @@ class FormatterTest {
           PLACEHOLDER_CONFIGURATION,
           "An exemple String without placeholders",
           Map(),
-          "An exemple String without placeholders"));
+          "An exemple String without placeholders"),
+        Arguments.of(
+          PLACEHOLDER_CONFIGURATION,
+          "A 100% literal ${place} with %s, %d and ${place} again",
+          Map("place", "PLACE"),
+          "A 100% literal PLACE with %s, %d and PLACE again"),
+        Arguments.of(
+          new PlaceholderConfiguration("[#][{]([a-z]+)}", "#{", "}"),
+          "A #{custom} placeholder and an ignored ${place}",
+          Map("custom", "CUSTOM", "place", "PLACE"),
+          "A CUSTOM placeholder and an ignored ${place}"));
     }
   }
 
@@ -180,7 +190,12 @@ class FormatterTest {
           PLACEHOLDER_CONFIGURATION,
           "An exemple String with an ${unknownPlaceholders}",
           Map(),
-          "An exemple String with an ${unknownPlaceholders}"));
+          "An exemple String with an ${unknownPlaceholders}"),
+        Arguments.of(
+          PLACEHOLDER_CONFIGURATION,
+          "${unknownPlaceholders} 100% ${place} ${unknownPlaceholders}",
+          Map("place", "PLACE"),
+          "${unknownPlaceholders} 100% PLACE ${unknownPlaceholders}"));
     }
   }
 
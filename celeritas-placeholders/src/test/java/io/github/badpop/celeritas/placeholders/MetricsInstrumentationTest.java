@@ -0,0 +1,132 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.DoubleConsumer;
+import java.util.function.DoubleSupplier;
+import java.util.function.LongConsumer;
+import java.util.function.ToDoubleFunction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class MetricsInstrumentationTest {
+
+  private final InMemoryRegistry registry = new InMemoryRegistry();
+
+  @Test
+  void should_publish_renderings() {
+    final var cache = TemplateCache.newCache(8);
+    final var formatter = new DefaultPlaceholderFormatter(cache, ValueRenderers.defaults(), MetricsInstrumentation.of(registry));
+
+    formatter.format("Hello ${name}", Map.of("name", "John"));
+    formatter.format("Hello ${name}", Map.of("name", "Jane Doe"));
+    formatter.formatTo(new StringWriter(), "Bye ${name}", Map.of("name", "John"));
+    assertThatExceptionOfType(PlaceholderFormatException.class).isThrownBy(() -> formatter.format("Hello ${name}", Map.of()));
+
+    assertThat(registry.recorded.get(MetricsInstrumentation.RENDER_DURATION + "[]")).hasSize(3).allMatch(duration -> duration > 0);
+    assertThat(registry.recorded.get(MetricsInstrumentation.RENDER_LENGTH + "[]")).containsExactly(10.0, 14.0);
+    assertThat(registry.counts).containsOnlyKeys(MetricsInstrumentation.MISSING_PARAMETERS + "[]").containsEntry(MetricsInstrumentation.MISSING_PARAMETERS + "[]", 1);
+    assertThat(registry.gauge(MetricsInstrumentation.CACHE_HITS + "[cache, custom-1]")).isEqualTo(2);
+    assertThat(registry.gauge(MetricsInstrumentation.CACHE_MISSES + "[cache, custom-1]")).isEqualTo(2);
+    assertThat(registry.gauge(MetricsInstrumentation.CACHE_EVICTIONS + "[cache, custom-1]")).isZero();
+    assertThat(registry.gauge(MetricsInstrumentation.CACHE_SIZE + "[cache, custom-1]")).isEqualTo(2);
+  }
+
+  @Test
+  void should_publish_renderings_per_template() {
+    final var instrumentation = MetricsInstrumentation.of(registry, strFormat -> strFormat.startsWith("Hello") ? "greeting" : "other");
+    final var formatter = new DefaultFunctionalPlaceholderFormatter(TemplateCache.getDefault(), ValueRenderers.defaults(), instrumentation);
+
+    formatter.format("Hello ${name}", Map.of("name", "John"));
+    formatter.format("Hello ${name}, welcome", Map.of("name", "John"));
+    formatter.format("Bye ${name}", io.vavr.collection.HashMap.of("name", "John"));
+    formatter.formatIgnoringUnknownPlaceholders("Hello ${name}", Map.of());
+    assertThatExceptionOfType(PlaceholderFormatException.class).isThrownBy(() -> formatter.format("Bye ${name}", Map.of()));
+
+    assertThat(registry.recorded.get(MetricsInstrumentation.RENDER_LENGTH + "[template, greeting]")).containsExactly(10.0, 19.0, 13.0);
+    assertThat(registry.recorded.get(MetricsInstrumentation.RENDER_LENGTH + "[template, other]")).containsExactly(8.0);
+    assertThat(registry.counts).containsEntry(MetricsInstrumentation.MISSING_PARAMETERS + "[template, other]", 1);
+    assertThat(registry.gauges).containsKey(MetricsInstrumentation.CACHE_HITS + "[cache, default]");
+  }
+
+  @Test
+  void should_tag_a_bounded_number_of_missing_placeholders() {
+    final var instrumentation = MetricsInstrumentation.of(registry).withPlaceholderTag(2);
+    final var formatter = new DefaultPlaceholderFormatter(TemplateCache.newCache(8), ValueRenderers.defaults(), instrumentation);
+
+    for (final var key : List.of("a", "b", "a", "c", "d")) {
+      assertThatExceptionOfType(PlaceholderFormatException.class).isThrownBy(() -> formatter.format("${" + key + "}", Map.of()));
+    }
+
+    assertThat(registry.counts).containsOnly(
+      Map.entry(MetricsInstrumentation.MISSING_PARAMETERS + "[placeholder, ${a}]", 2),
+      Map.entry(MetricsInstrumentation.MISSING_PARAMETERS + "[placeholder, ${b}]", 1),
+      Map.entry(MetricsInstrumentation.MISSING_PARAMETERS + "[placeholder, other]", 2));
+    assertThatExceptionOfType(IllegalArgumentException.class).isThrownBy(() -> MetricsInstrumentation.of(registry).withPlaceholderTag(0));
+  }
+
+  @Test
+  void should_bind_a_cache_once() {
+    final var cache = TemplateCache.newCache(8);
+    final var instrumentation = MetricsInstrumentation.of(registry);
+
+    new DefaultPlaceholderFormatter(cache, ValueRenderers.defaults(), instrumentation);
+    new DefaultPlaceholderFormatter(cache, ValueRenderers.defaults(), instrumentation);
+
+    assertThat(registry.registrations).isEqualTo(4);
+  }
+
+  @Test
+  void should_not_instrument_by_default() {
+    final var formatter = new DefaultPlaceholderFormatter();
+
+    assertThat(formatter.getInstrumentation()).isSameAs(FormatterInstrumentation.noop());
+  }
+
+  private static final class InMemoryRegistry implements MetricsRegistry {
+
+    private final Map<String, List<Double>> recorded = new HashMap<>();
+    private final Map<String, Integer> counts = new HashMap<>();
+    private final Map<String, DoubleSupplier> gauges = new HashMap<>();
+    private int registrations;
+
+    @Override
+    public LongConsumer timer(String name, String... tags) {
+      final var values = recorded.computeIfAbsent(name + List.of(tags), key -> new ArrayList<>());
+      return nanos -> values.add((double) nanos);
+    }
+
+    @Override
+    public DoubleConsumer summary(String name, String... tags) {
+      final var values = recorded.computeIfAbsent(name + List.of(tags), key -> new ArrayList<>());
+      return values::add;
+    }
+
+    @Override
+    public Runnable counter(String name, String... tags) {
+      return () -> counts.merge(name + List.of(tags), 1, Integer::sum);
+    }
+
+    @Override
+    public <T> void functionCounter(String name, T obj, ToDoubleFunction<T> count, String... tags) {
+      gauge(name, obj, count, tags);
+    }
+
+    @Override
+    public <T> void gauge(String name, T obj, ToDoubleFunction<T> value, String... tags) {
+      registrations++;
+      gauges.put(name + List.of(tags), () -> value.applyAsDouble(obj));
+    }
+
+    private double gauge(String key) {
+      return gauges.get(key).getAsDouble();
+    }
+  }
+}
@@ -0,0 +1,70 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParallelPlaceholderScannerTest {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(4);
+
+  @ParameterizedTest
+  @MethodSource("should_scan_like_a_sequential_scan_arguments")
+  void should_scan_like_a_sequential_scan(PlaceholderConfiguration placeholderConfiguration, String alphabet) {
+    final var random = new Random(42);
+
+    for (int i = 0; i < 200; i++) {
+      final var strFormat = randomString(random, alphabet, random.nextInt(300));
+      final var expected = sequentialScan(placeholderConfiguration, strFormat);
+
+      for (int chunkSize = 1; chunkSize < 40; chunkSize++) {
+        final var placeholders = ParallelPlaceholderScanner.scan(placeholderConfiguration, strFormat, POOL, chunkSize, true);
+        final var counted = ParallelPlaceholderScanner.scan(placeholderConfiguration, strFormat, POOL, chunkSize, false);
+
+        assertThat(placeholders.getKeys()).as("%s in chunks of %d", strFormat, chunkSize).isEqualTo(expected);
+        assertThat(counted.getCount()).as("%s in chunks of %d", strFormat, chunkSize).isEqualTo(expected.size());
+      }
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource("should_scan_like_a_sequential_scan_arguments")
+  void should_scan_large_strings(PlaceholderConfiguration placeholderConfiguration, String alphabet) {
+    final var strFormat = randomString(new Random(7), alphabet, ParallelPlaceholderScanner.MINIMUM_CHUNK_SIZE * 5 + 17);
+    final var expected = sequentialScan(placeholderConfiguration, strFormat);
+
+    assertThat(ParallelPlaceholderScanner.getPlaceholders(placeholderConfiguration, strFormat, POOL)).isNotEmpty().isEqualTo(expected);
+    assertThat(ParallelPlaceholderScanner.countPlaceholders(placeholderConfiguration, strFormat, POOL)).isEqualTo(expected.size());
+  }
+
+  private static Stream<Arguments> should_scan_like_a_sequential_scan_arguments() {
+    return Stream.of(
+      Arguments.of(PlaceholderConfiguration.newDefault(), "${}ab_ "),
+      Arguments.of(PlaceholderConfiguration.fromPrefixAndSuffix("{{", "}}"), "{}ab "),
+      Arguments.of(new PlaceholderConfiguration("%\\{([a-z%{]+)}", "%{", "}"), "%{}ab "));
+  }
+
+  private static String randomString(Random random, String alphabet, int length) {
+    final var builder = new StringBuilder(length);
+    IntStream.range(0, length).forEach(i -> builder.append(alphabet.charAt(random.nextInt(alphabet.length()))));
+    return builder.toString();
+  }
+
+  private static List<String> sequentialScan(PlaceholderConfiguration placeholderConfiguration, String strFormat) {
+    final var keys = new ArrayList<String>();
+    final var matcher = placeholderConfiguration.matcher(strFormat);
+    while (matcher.find()) {
+      keys.add(matcher.key());
+    }
+    return keys;
+  }
+}
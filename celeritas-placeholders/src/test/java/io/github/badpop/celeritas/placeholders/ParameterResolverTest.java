@@ -0,0 +1,64 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+
+import static io.vavr.API.Map;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParameterResolverTest {
+
+  @Test
+  void should_resolve_java_map_parameters() {
+    final var parameters = new HashMap<String, Object>();
+    parameters.put("key", "value");
+    parameters.put("nullValue", null);
+    final var resolver = ParameterResolver.of(parameters);
+
+    assertThat(resolver.resolve("key")).isEqualTo("value");
+    assertThat(resolver.resolve("nullValue")).isNull();
+    assertThat(resolver.resolve("unknown")).isSameAs(ParameterResolver.MISSING);
+  }
+
+  @Test
+  void should_resolve_vavr_map_parameters() {
+    final var resolver = ParameterResolver.of(Map("key", "value", "nullValue", null));
+
+    assertThat(resolver.resolve("key")).isEqualTo("value");
+    assertThat(resolver.resolve("nullValue")).isNull();
+    assertThat(resolver.resolve("unknown")).isSameAs(ParameterResolver.MISSING);
+  }
+
+  @Test
+  void should_see_changes_of_the_underlying_map() {
+    final var parameters = new HashMap<String, Object>();
+    final var resolver = ParameterResolver.of(parameters);
+    parameters.put("key", "value");
+
+    assertThat(resolver.resolve("key")).isEqualTo("value");
+  }
+
+  @Test
+  void should_resolve_each_key_once_when_memoized() {
+    final var calls = new HashMap<String, Integer>();
+    final ParameterResolver resolver = key -> {
+      calls.merge(key, 1, Integer::sum);
+      return key.equals("nullValue") ? null : key;
+    };
+    final var memoized = resolver.memoized();
+
+    memoized.resolve("key");
+    memoized.resolve("key");
+    memoized.resolve("nullValue");
+    memoized.resolve("nullValue");
+
+    assertThat(calls).containsEntry("key", 1).containsEntry("nullValue", 1);
+  }
+
+  @Test
+  void should_resolve_missing_keys_of_lazy_resolvers() {
+    assertThat(ParameterResolver.ofFunction(key -> null).resolve("key")).isSameAs(ParameterResolver.MISSING);
+    assertThat(ParameterResolver.ofSuppliers(java.util.Map.of()).resolve("key")).isSameAs(ParameterResolver.MISSING);
+  }
+}
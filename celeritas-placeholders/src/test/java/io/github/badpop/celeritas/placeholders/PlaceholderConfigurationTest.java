@@ -0,0 +1,59 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.regex.PatternSyntaxException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class PlaceholderConfigurationTest {
+
+  @Test
+  void should_compile_pattern_once() {
+    final var configuration = PlaceholderConfiguration.newDefault();
+
+    assertThat(configuration.getCompiledPattern().pattern()).isEqualTo(configuration.getPattern());
+    assertThat(configuration.getCompiledPattern()).isSameAs(configuration.getCompiledPattern());
+  }
+
+  @Test
+  void should_share_compiled_pattern_between_configurations_with_the_same_pattern() {
+    final var first = new PlaceholderConfiguration("[#][{]([a-z]+)}", "#{", "}");
+    final var second = new PlaceholderConfiguration("[#][{]([a-z]+)}", "#{", "}");
+
+    assertThat(first.getCompiledPattern()).isSameAs(second.getCompiledPattern());
+  }
+
+  @Test
+  void should_not_compile_invalid_pattern() {
+    final var configuration = new PlaceholderConfiguration("[$]{([\\\\w\\d_-]+)}", null, null);
+
+    assertThatExceptionOfType(PatternSyntaxException.class).isThrownBy(configuration::getCompiledPattern);
+  }
+
+  @Test
+  void should_bound_the_pattern_cache() {
+    for (int i = 0; i < PatternCache.MAXIMUM_SIZE * 2; i++) {
+      new PlaceholderConfiguration("[@][{]([a-z]+)}" + i, "@{", "}").getCompiledPattern();
+    }
+
+    assertThat(PatternCache.size()).isLessThanOrEqualTo(PatternCache.MAXIMUM_SIZE);
+  }
+
+  @Test
+  void should_use_a_dedicated_scanner_for_plain_configurations() {
+    assertThat(PlaceholderConfiguration.newDefault().isPlain()).isTrue();
+    assertThat(PlaceholderConfiguration.newDefault().matcher("${key}")).isInstanceOf(PrefixSuffixPlaceholderMatcher.class);
+    assertThat(PlaceholderConfiguration.fromPrefixAndSuffix("#{", "}").isPlain()).isTrue();
+    assertThat(PlaceholderConfiguration.fromPrefixAndSuffix("#{", "}").getPattern()).isEqualTo("\\Q#{\\E([\\w\\d_-]+)\\Q}\\E");
+  }
+
+  @Test
+  void should_fallback_to_regex_for_custom_configurations() {
+    assertThat(new PlaceholderConfiguration("[#][{]([a-z]+)}", "#{", "}").isPlain()).isFalse();
+    assertThat(new PlaceholderConfiguration("[#][{]([a-z]+)}", "#{", "}").matcher("#{key}")).isInstanceOf(RegexPlaceholderMatcher.class);
+    assertThat(PlaceholderConfiguration.fromPrefixAndSuffix("{", "_}").isPlain()).isFalse();
+    assertThat(new PlaceholderConfiguration("[$]{([\\w\\d_-]+)}", null, null).isPlain()).isFalse();
+  }
+}
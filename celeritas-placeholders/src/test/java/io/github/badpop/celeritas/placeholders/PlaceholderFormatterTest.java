@@ -0,0 +1,313 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.CyclicPlaceholderException;
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.NullParametersException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+import io.vavr.collection.HashMap;
+import io.vavr.collection.Seq;
+import io.vavr.control.Try;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Checks the default methods of {@link PlaceholderFormatter} on a formatter implementing only the original methods of the interface
+ */
+class PlaceholderFormatterTest {
+
+  private final PlaceholderFormatter formatter = new MinimalFormatter();
+
+  @Test
+  void should_compile_with_default_placeholder_format() {
+    final var template = formatter.compile("Hello ${name}");
+
+    assertThat(template.getPlaceholders()).containsExactly("name");
+    assertThat(template.format(Map.of("name", "World"))).isEqualTo("Hello World");
+  }
+
+  @Test
+  void should_format_to_appendable_and_output_stream() {
+    final var output = new StringBuilder();
+    final var bytes = new ByteArrayOutputStream();
+
+    formatter.formatTo(output, "Hello ${name}", Map.of("name", "World"));
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, " ${unknown}", Map.of());
+    formatter.formatTo(bytes, StandardCharsets.UTF_8, "Hello ${name}", Map.of("name", "Wörld"));
+    formatter.formatIgnoringUnknownPlaceholdersTo(bytes, StandardCharsets.UTF_8, " ${unknown}", Map.of());
+
+    assertThat(output).hasToString("Hello World ${unknown}");
+    assertThat(bytes.toString(StandardCharsets.UTF_8)).isEqualTo("Hello Wörld ${unknown}");
+  }
+
+  @Test
+  void should_fail_to_format_to_appendable_when_format_fails() {
+    final var output = new StringBuilder();
+
+    assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> formatter.formatTo(output, "Hello", Map.of()));
+    assertThat(output).isEmpty();
+  }
+
+  @Test
+  void should_wrap_output_failures() {
+    final Appendable output = new Writer() {
+      @Override
+      public void write(char[] buffer, int offset, int length) throws IOException {
+        throw new IOException("closed");
+      }
+
+      @Override
+      public void flush() {
+      }
+
+      @Override
+      public void close() {
+      }
+    };
+
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatTo(output, "Hello ${name}", Map.of("name", "World")))
+      .withCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void should_format_reader_and_file_content(@TempDir Path directory) throws IOException {
+    final var file = Files.writeString(directory.resolve("template.txt"), "Hello ${name} ${unknown}", StandardCharsets.UTF_8);
+    final var output = new StringBuilder();
+
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, new StringReader("Hello ${name} ${unknown}"), Map.of("name", "World"));
+    output.append('|');
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, file, StandardCharsets.UTF_8, Map.of("name", "File"));
+    output.append('|');
+    formatter.formatTo(output, new StringReader("Hello ${name}"), Map.of("name", "Reader"));
+
+    assertThat(output).hasToString("Hello World ${unknown}|Hello File ${unknown}|Hello Reader");
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatTo(output, directory.resolve("missing.txt"), StandardCharsets.UTF_8, Map.of("name", "World")))
+      .withCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  void should_compute_lazy_parameters_once_and_only_if_used() {
+    final var calls = new AtomicInteger();
+    final Map<String, Supplier<?>> parameters = Map.of(
+      "used", () -> "value-" + calls.incrementAndGet(),
+      "unused", () -> {
+        throw new IllegalStateException("should not be called");
+      });
+
+    assertThat(formatter.formatLazily("${used} ${used}", parameters)).isEqualTo("value-1 value-1");
+    assertThat(formatter.formatIgnoringUnknownPlaceholdersLazily("${used} ${unknown}", parameters)).isEqualTo("value-2 ${unknown}");
+    assertThat(formatter.formatLazily("${key}", key -> key.toUpperCase(), false)).isEqualTo("KEY");
+    assertThat(formatter.formatIgnoringUnknownPlaceholdersLazily("${key} ${none}", key -> key.equals("key") ? 1 : null, true)).isEqualTo("1 ${none}");
+  }
+
+  @Test
+  void should_fail_to_format_lazily() {
+    assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> formatter.formatLazily("${key}", (Map<String, Supplier<?>>) null));
+    assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> formatter.formatLazily("no placeholder", (Function<String, ?>) null, true));
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatLazily("${key}", key -> {
+        throw new IllegalStateException("failure");
+      }, true))
+      .withCauseInstanceOf(IllegalStateException.class);
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatLazily("${key} ${missing}", key -> key.equals("key") ? 1 : null, true))
+      .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+  }
+
+  @Test
+  void should_format_all_parameters() {
+    final List<Map<String, Object>> parameters = List.of(Map.of("name", "a"), Map.of("name", "b"));
+
+    assertThat(formatter.formatAll("Hello ${name}", parameters)).containsExactly("Hello a", "Hello b");
+    assertThat(formatter.formatAllIgnoringUnknownPlaceholders("${name} ${unknown}", parameters)).containsExactly("a ${unknown}", "b ${unknown}");
+    assertThatExceptionOfType(NoPlaceholderFoundException.class).isThrownBy(() -> formatter.formatAll("Hello", parameters));
+    assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> formatter.formatAllIgnoringUnknownPlaceholders("Hello", null));
+  }
+
+  @Test
+  void should_format_all_parameters_on_given_pool() {
+    final var pool = new ForkJoinPool(4);
+    final var threads = ConcurrentHashMap.<Thread>newKeySet();
+    final var parameters = IntStream.range(0, 1000).<Map<String, Object>>mapToObj(i -> Map.of("value", i)).toList();
+    final var recordingFormatter = new MinimalFormatter() {
+      @Override
+      public String format(String strFormat, Map<String, Object> parameters) {
+        threads.add(Thread.currentThread());
+        return super.format(strFormat, parameters);
+      }
+    };
+
+    try {
+      final var rendered = recordingFormatter.formatAll("${value}", parameters, pool);
+
+      assertThat(rendered).containsExactlyElementsOf(IntStream.range(0, 1000).mapToObj(String::valueOf).toList());
+      assertThat(threads).allSatisfy(thread -> assertThat(thread).isInstanceOf(ForkJoinWorkerThread.class)
+        .extracting(worker -> ((ForkJoinWorkerThread) worker).getPool()).isSameAs(pool));
+      assertThat(formatter.formatAllIgnoringUnknownPlaceholders("${value} ${unknown}", parameters.subList(0, 2), pool)).containsExactly("0 ${unknown}", "1 ${unknown}");
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void should_format_recursively() {
+    final Map<String, Object> parameters = Map.of("url", "${scheme}://${host}/${path}", "scheme", "https", "host", "${name}.io", "name", "celeritas",
+      "path", "docs", "rank", 1);
+
+    assertThat(formatter.formatRecursively("${url} ${rank}", parameters)).isEqualTo("https://celeritas.io/docs 1");
+    assertThat(formatter.formatIgnoringUnknownPlaceholdersRecursively("${url} ${unknown}", Map.of("url", "${host}/${other}", "host", "celeritas.io")))
+      .isEqualTo("celeritas.io/${other} ${unknown}");
+  }
+
+  @Test
+  void should_fail_to_format_recursively() {
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatRecursively("${a}", Map.of("a", "${b}", "b", "${a}")))
+      .withCauseInstanceOf(CyclicPlaceholderException.class);
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatRecursively("${a}", Map.of("a", "${missing}")))
+      .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+    assertThatExceptionOfType(NullParametersException.class).isThrownBy(() -> formatter.formatIgnoringUnknownPlaceholdersRecursively("${a}", null));
+  }
+
+  @Test
+  void should_scan_placeholders_with_pool() {
+    assertThat(formatter.getPlaceholders("${a} ${b} ${a}", ForkJoinPool.commonPool())).containsExactly("a", "b", "a");
+    assertThat(formatter.countPlaceholders("${a} ${b} ${a}", ForkJoinPool.commonPool())).isEqualTo(3);
+  }
+
+  @Test
+  void should_try_to_format_to_appendable_with_functional_formatter() {
+    final var functionalFormatter = new MinimalFunctionalFormatter();
+
+    assertThat(functionalFormatter.tryToFormatTo(new StringBuilder(), "Hello ${name}", HashMap.of("name", (Object) "World")).get())
+      .hasToString("Hello World");
+    assertThat(functionalFormatter.tryToFormatTo(new StringBuilder(), "Hello ${name}", Map.of("name", "World")).get())
+      .hasToString("Hello World");
+    assertThat(functionalFormatter.tryToFormatTo(new StringBuilder(), "Hello ${name}", HashMap.empty()).getCause())
+      .isInstanceOf(PlaceholderFormatException.class);
+
+    final var output = new StringBuilder();
+    functionalFormatter.formatIgnoringUnknownPlaceholdersTo(output, "${unknown}", HashMap.empty());
+    assertThat(output).hasToString("${unknown}");
+  }
+
+  /**
+   * A formatter written against the original interface, delegating to a default formatter
+   */
+  private static class MinimalFormatter implements PlaceholderFormatter {
+
+    private final PlaceholderFormatter delegate = new DefaultPlaceholderFormatter();
+
+    @Override
+    public List<String> getPlaceholders(String strFormat) {
+      return delegate.getPlaceholders(strFormat);
+    }
+
+    @Override
+    public boolean hasPlaceholders(String strFormat) {
+      return delegate.hasPlaceholders(strFormat);
+    }
+
+    @Override
+    public int countPlaceholders(String strFormat) {
+      return delegate.countPlaceholders(strFormat);
+    }
+
+    @Override
+    public String format(String strFormat, Map<String, Object> parameters) {
+      return delegate.format(strFormat, parameters);
+    }
+
+    @Override
+    public String formatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
+      return delegate.formatIgnoringUnknownPlaceholders(strFormat, parameters);
+    }
+
+    @Override
+    public String formatOrElse(String strFormat, Map<String, Object> parameters, Supplier<String> supplier) {
+      return delegate.formatOrElse(strFormat, parameters, supplier);
+    }
+
+    @Override
+    public String formatIgnoringUnknownPlaceholdersOrElse(String strFormat, Map<String, Object> parameters, Supplier<String> supplier) {
+      return delegate.formatIgnoringUnknownPlaceholdersOrElse(strFormat, parameters, supplier);
+    }
+
+    @Override
+    public String formatOrElseThrow(String strFormat, Map<String, Object> parameters, Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
+      return delegate.formatOrElseThrow(strFormat, parameters, exceptionSupplier);
+    }
+
+    @Override
+    public String formatIgnoringUnknownPlaceholdersOrElseThrow(String strFormat, Map<String, Object> parameters,
+                                                               Supplier<? extends Throwable> exceptionSupplier) throws Throwable {
+      return delegate.formatIgnoringUnknownPlaceholdersOrElseThrow(strFormat, parameters, exceptionSupplier);
+    }
+  }
+
+  /**
+   * A functional formatter written against the original interface, delegating to a default functional formatter
+   */
+  private static class MinimalFunctionalFormatter extends MinimalFormatter implements FunctionalPlaceholderFormatter {
+
+    private final FunctionalPlaceholderFormatter functionalDelegate = new DefaultFunctionalPlaceholderFormatter();
+
+    @Override
+    public Seq<String> getPlaceholdersAsSeq(String strFormat) {
+      return functionalDelegate.getPlaceholdersAsSeq(strFormat);
+    }
+
+    @Override
+    public String format(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+      return functionalDelegate.format(strFormat, parameters);
+    }
+
+    @Override
+    public Try<String> tryToFormat(String strFormat, Map<String, Object> parameters) {
+      return functionalDelegate.tryToFormat(strFormat, parameters);
+    }
+
+    @Override
+    public Try<String> tryToFormat(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+      return functionalDelegate.tryToFormat(strFormat, parameters);
+    }
+
+    @Override
+    public String formatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+      return functionalDelegate.formatIgnoringUnknownPlaceholders(strFormat, parameters);
+    }
+
+    @Override
+    public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, Map<String, Object> parameters) {
+      return functionalDelegate.tryToFormatIgnoringUnknownPlaceholders(strFormat, parameters);
+    }
+
+    @Override
+    public Try<String> tryToFormatIgnoringUnknownPlaceholders(String strFormat, io.vavr.collection.Map<String, Object> parameters) {
+      return functionalDelegate.tryToFormatIgnoringUnknownPlaceholders(strFormat, parameters);
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PrefixSuffixPlaceholderMatcherTest {
+
+  private static final PlaceholderConfiguration PLACEHOLDER_CONFIGURATION = PlaceholderConfiguration.newDefault();
+
+  @ParameterizedTest
+  @ValueSource(strings = {
+    "",
+    "An exemple string without placeholder",
+    "An exemple String with two ${place}, [${holder_more_complicated06}]",
+    "${place}${place}",
+    "${${nested}}",
+    "$${double_dollar}}",
+    "${} ${ } ${with space} ${valid}",
+    "${unterminated",
+    "trailing ${",
+    "${a-more-ComplEx_Pl4ceHolder} ${é} ${x}",
+    "{$not} $ {not} ${not]"})
+  void should_find_the_same_placeholders_as_the_default_regex(String strFormat) {
+    final var regexMatcher = new RegexPlaceholderMatcher(PLACEHOLDER_CONFIGURATION.getCompiledPattern().matcher(strFormat));
+
+    assertThat(matches(new PrefixSuffixPlaceholderMatcher("${", "}", strFormat))).isEqualTo(matches(regexMatcher));
+    assertThat(matches(new PrefixSuffixPlaceholderMatcher("${", "}", new StringBuilder(strFormat)))).isEqualTo(matches(regexMatcher(strFormat)));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"A <%first%> and a <%second_one%> <% not %> <%<%third%>%>", "<%unterminated", ""})
+  void should_find_the_same_placeholders_as_the_plain_regex_for_custom_prefix_and_suffix(String strFormat) {
+    final var configuration = PlaceholderConfiguration.fromPrefixAndSuffix("<%", "%>");
+    final var regexMatcher = new RegexPlaceholderMatcher(configuration.getCompiledPattern().matcher(strFormat));
+
+    assertThat(matches(configuration.matcher(strFormat))).isEqualTo(matches(regexMatcher));
+  }
+
+  private static RegexPlaceholderMatcher regexMatcher(String strFormat) {
+    return new RegexPlaceholderMatcher(PLACEHOLDER_CONFIGURATION.getCompiledPattern().matcher(strFormat));
+  }
+
+  private static List<String> matches(PlaceholderMatcher matcher) {
+    final var matches = new ArrayList<String>();
+    while (matcher.find()) {
+      matches.add(matcher.start() + ":" + matcher.end() + ":" + matcher.key() + ":" + matcher.placeholder());
+    }
+    return matches;
+  }
+}
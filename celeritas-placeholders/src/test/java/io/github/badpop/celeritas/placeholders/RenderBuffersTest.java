@@ -0,0 +1,57 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderBuffersTest {
+
+  @Test
+  void should_reuse_the_buffer_of_the_thread() {
+    final var first = RenderBuffers.acquire(10);
+    first.append("first");
+    RenderBuffers.release(first);
+
+    final var second = RenderBuffers.acquire(1000);
+    assertThat(second).isSameAs(first).isEmpty();
+    assertThat(second.capacity()).isGreaterThanOrEqualTo(1000);
+    RenderBuffers.release(second);
+  }
+
+  @Test
+  void should_lend_a_new_buffer_while_the_thread_buffer_is_lent() {
+    final var first = RenderBuffers.acquire(10);
+    final var nested = RenderBuffers.acquire(10);
+
+    assertThat(nested).isNotSameAs(first);
+
+    RenderBuffers.release(nested);
+    RenderBuffers.release(first);
+    final var next = RenderBuffers.acquire(10);
+    assertThat(next).isSameAs(first);
+    RenderBuffers.release(next);
+  }
+
+  @Test
+  void should_not_retain_huge_buffers() {
+    final var huge = RenderBuffers.acquire(RenderBuffers.MAXIMUM_RETAINED_CAPACITY + 1);
+    RenderBuffers.release(huge);
+
+    final var next = RenderBuffers.acquire(10);
+    assertThat(next).isNotSameAs(huge);
+    assertThat(next.capacity()).isLessThanOrEqualTo(RenderBuffers.MAXIMUM_RETAINED_CAPACITY);
+    RenderBuffers.release(next);
+  }
+
+  @Test
+  void should_render_nested_formatting_with_separate_buffers() {
+    final var formatter = PlaceholderFormatter.newFormatter();
+    final Map<String, Supplier<?>> parameters = Map.of("inner", () -> formatter.format("<${value}>", Map.of("value", "nested")));
+
+    assertThat(formatter.formatLazily("outer ${inner} end", parameters)).isEqualTo("outer <nested> end");
+    assertThat(formatter.format("again ${value}", Map.of("value", 1))).isEqualTo("again 1");
+  }
+}
@@ -0,0 +1,133 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.NoPlaceholderFoundException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderParameterNotFound;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import static io.github.badpop.celeritas.placeholders.StreamingRenderer.CHUNK_SIZE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class StreamingRendererTest {
+
+  private static final PlaceholderConfiguration PLACEHOLDER_CONFIGURATION = PlaceholderConfiguration.newDefault();
+  private static final PlaceholderConfiguration REGEX_CONFIGURATION = new PlaceholderConfiguration("[#][{]([a-z0-9]+)}", "#{", "}");
+
+  private final PlaceholderFormatter formatter = PlaceholderFormatter.newFormatter();
+
+  @ParameterizedTest
+  @MethodSource("should_render_like_in_memory_arguments")
+  void should_render_like_in_memory(PlaceholderConfiguration placeholderConfiguration, String strFormat, boolean oneCharacterAtATime) throws IOException {
+    final var parameters = parameters();
+    final var expected = Formatter.formatIgnoringUnknownPlaceholdersWith(placeholderConfiguration, strFormat, ParameterResolver.of(parameters));
+    final Reader input = oneCharacterAtATime ? new OneCharacterReader(strFormat) : new StringReader(strFormat);
+    final var output = new StringBuilder();
+
+    StreamingRenderer.render(placeholderConfiguration, input, output, ParameterResolver.of(parameters), true);
+
+    assertThat(output.toString()).isEqualTo(expected);
+  }
+
+  @Test
+  void should_format_a_memory_mapped_file(@TempDir Path directory) throws IOException {
+    final var strFormat = straddlingTemplate("${", "}") + " déjà vu ${key1} 日本語";
+    final var path = Files.writeString(directory.resolve("template.txt"), strFormat, StandardCharsets.UTF_8);
+    final var output = new StringBuilder();
+
+    formatter.formatTo(output, path, StandardCharsets.UTF_8, parameters());
+
+    assertThat(output.toString()).isEqualTo(formatter.format(strFormat, parameters()));
+  }
+
+  @Test
+  void should_format_an_empty_memory_mapped_file_ignoring_unknown_placeholders(@TempDir Path directory) throws IOException {
+    final var path = Files.createFile(directory.resolve("empty.txt"));
+    final var output = new StringBuilder();
+
+    formatter.formatIgnoringUnknownPlaceholdersTo(output, path, StandardCharsets.UTF_8, parameters());
+
+    assertThat(output).isEmpty();
+  }
+
+  @Test
+  void should_not_format_a_reader_without_placeholder() {
+    final var output = new StringBuilder();
+    assertThatExceptionOfType(NoPlaceholderFoundException.class)
+      .isThrownBy(() -> formatter.formatTo(output, new StringReader("A string without placeholder"), parameters()));
+    assertThat(output).hasToString("A string without placeholder");
+  }
+
+  @Test
+  void should_not_format_a_reader_with_unknown_placeholder() {
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatTo(new StringBuilder(), new StringReader("A ${unknownPlaceholder}"), parameters()))
+      .withMessage("Unable to format the requested String")
+      .withCauseInstanceOf(PlaceholderParameterNotFound.class);
+  }
+
+  @Test
+  void should_not_format_a_missing_file(@TempDir Path directory) {
+    assertThatExceptionOfType(PlaceholderFormatException.class)
+      .isThrownBy(() -> formatter.formatTo(new StringBuilder(), directory.resolve("missing.txt"), StandardCharsets.UTF_8, parameters()))
+      .withMessage("Unable to format the requested String")
+      .withCauseInstanceOf(IOException.class);
+  }
+
+  private static Stream<Arguments> should_render_like_in_memory_arguments() {
+    return Stream.of(
+      Arguments.of(PLACEHOLDER_CONFIGURATION, "", false),
+      Arguments.of(PLACEHOLDER_CONFIGURATION, "A ${key0} and a ${key1} with an ${unknown} and $ { } ${ $${key2}}", true),
+      Arguments.of(PLACEHOLDER_CONFIGURATION, straddlingTemplate("${", "}"), false),
+      Arguments.of(PLACEHOLDER_CONFIGURATION, straddlingTemplate("${", "}"), true),
+      Arguments.of(PLACEHOLDER_CONFIGURATION, "trailing ${key1", true),
+      Arguments.of(REGEX_CONFIGURATION, straddlingTemplate("#{", "}"), false),
+      Arguments.of(REGEX_CONFIGURATION, straddlingTemplate("#{", "}"), true));
+  }
+
+  /**
+   * Builds a template with placeholders crossing the boundaries of the chunks read by the renderer
+   */
+  private static String straddlingTemplate(String prefix, String suffix) {
+    final var builder = new StringBuilder();
+    for (int chunk = 1; chunk <= 4; chunk++) {
+      builder.append("x".repeat(chunk * CHUNK_SIZE - builder.length() - chunk)).append(prefix).append("key").append(chunk).append(suffix);
+    }
+    return builder.append(" end").toString();
+  }
+
+  private static Map<String, Object> parameters() {
+    final var parameters = new HashMap<String, Object>();
+    for (int i = 0; i < 5; i++) {
+      parameters.put("key" + i, "value" + i);
+    }
+    return parameters;
+  }
+
+  private static class OneCharacterReader extends FilterReader {
+
+    OneCharacterReader(String content) {
+      super(new StringReader(content));
+    }
+
+    @Override
+    public int read(char[] chars, int offset, int length) throws IOException {
+      return super.read(chars, offset, Math.min(1, length));
+    }
+  }
+}
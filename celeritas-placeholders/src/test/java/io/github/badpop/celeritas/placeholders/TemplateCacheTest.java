@@ -0,0 +1,135 @@
+package io.github.badpop.celeritas.placeholders;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class TemplateCacheTest {
+
+  @Test
+  void should_compile_once_and_count_hits_and_misses() {
+    final var cache = TemplateCache.newCache(10);
+
+    final var first = cache.get("Hello ${name}");
+    final var second = cache.get("Hello ${name}");
+
+    assertThat(second).isSameAs(first);
+    assertThat(first.getPlaceholders()).containsExactly("name");
+    assertThat(cache.getHitCount()).isEqualTo(1);
+    assertThat(cache.getMissCount()).isEqualTo(1);
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getWeight()).isEqualTo("Hello ${name}".length());
+  }
+
+  @Test
+  void should_evict_least_recently_used_template_when_full() {
+    final var cache = TemplateCache.newCache(2);
+
+    final var a = cache.get("${a}");
+    cache.get("${b}");
+    cache.get("${a}");
+    cache.get("${c}");
+
+    assertThat(cache.size()).isEqualTo(2);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+    assertThat(cache.get("${a}")).isSameAs(a);
+    assertThat(cache.getHitCount()).isEqualTo(2);
+
+    cache.get("${b}");
+    assertThat(cache.getMissCount()).isEqualTo(4);
+  }
+
+  @Test
+  void should_only_compare_a_sample_of_templates_when_inserting_into_full_cache() {
+    final var cache = TemplateCache.newCache(10_000);
+    IntStream.range(0, 10_000).forEach(i -> cache.get("${a}" + i));
+    final var hot = cache.get("${a}0");
+
+    IntStream.range(10_000, 10_100).forEach(i -> cache.get("${a}" + i));
+
+    assertThat(cache.size()).isEqualTo(10_000);
+    assertThat(cache.getEvictionCount()).isEqualTo(100);
+    assertThat(cache.sampledEntries).isEqualTo(100L * TemplateCache.EVICTION_SAMPLE_SIZE);
+    assertThat(cache.getIfPresent("${a}0")).isSameAs(hot);
+    assertThat(cache.getWeight()).isEqualTo(IntStream.range(0, 10_100)
+      .mapToObj(i -> "${a}" + i)
+      .filter(strFormat -> cache.getIfPresent(strFormat) != null)
+      .mapToLong(String::length)
+      .sum());
+  }
+
+  @Test
+  void should_evict_templates_exceeding_maximum_weight() {
+    final var cache = TemplateCache.newCache(10, 10);
+
+    cache.get("${abc}");
+    cache.get("${def}");
+
+    assertThat(cache.size()).isEqualTo(1);
+    assertThat(cache.getWeight()).isEqualTo(6);
+    assertThat(cache.getEvictionCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_not_cache_template_heavier_than_maximum_weight() {
+    final var cache = TemplateCache.newCache(10, 4);
+
+    assertThat(cache.get("${abcdef}").format(Map.of("abcdef", 1))).isEqualTo("1");
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getWeight()).isZero();
+    assertThat(cache.getEvictionCount()).isZero();
+  }
+
+  @Test
+  void should_not_cache_anything_if_maximum_size_is_zero() {
+    final var cache = TemplateCache.newCache(0);
+
+    cache.get("${a}");
+    cache.get("${a}");
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getMissCount()).isEqualTo(2);
+  }
+
+  @Test
+  void should_clear_templates_but_keep_counters() {
+    final var cache = TemplateCache.newCache(10);
+    cache.get("${a}");
+    cache.get("${a}");
+
+    cache.clear();
+
+    assertThat(cache.size()).isZero();
+    assertThat(cache.getWeight()).isZero();
+    assertThat(cache.getHitCount()).isEqualTo(1);
+  }
+
+  @Test
+  void should_stay_bounded_and_consistent_under_concurrent_use() {
+    final var cache = TemplateCache.newCache(16);
+    final var pool = new ForkJoinPool(8);
+
+    try {
+      final var rendered = pool.submit(() -> IntStream.range(0, 10_000).parallel()
+        .mapToObj(i -> cache.get("Value ${v" + i % 32 + "}").format(Map.of("v" + i % 32, i)))
+        .toList()).join();
+
+      assertThat(rendered).containsExactlyElementsOf(IntStream.range(0, 10_000).mapToObj(i -> "Value " + i).toList());
+      assertThat(cache.size()).isLessThanOrEqualTo(16);
+      assertThat(cache.getHitCount() + cache.getMissCount()).isEqualTo(10_000);
+    } finally {
+      pool.shutdown();
+    }
+  }
+
+  @Test
+  void should_not_create_cache_with_negative_bounds() {
+    assertThatIllegalArgumentException().isThrownBy(() -> TemplateCache.newCache(-1));
+    assertThatIllegalArgumentException().isThrownBy(() -> TemplateCache.newCache(1, -1));
+  }
+}
@@ -0,0 +1,198 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.github.badpop.celeritas.placeholders.exception.PlaceholderFormatException;
+import io.github.badpop.celeritas.placeholders.exception.TemplateNotFoundException;
+import io.github.badpop.celeritas.placeholders.exception.TemplateValidationException;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+class TemplateRegistryTest {
+
+  @TempDir
+  Path directory;
+
+  @Nested
+  class LoadingTest {
+
+    @Test
+    void should_load_templates_from_directory() throws IOException {
+      write("mail/welcome.txt", "Welcome ${firstName} ${lastName}");
+      write("mail/goodbye.txt", "Goodbye ${firstName}");
+      write("sms.txt", "Code ${code}");
+      write("notes.md", "Ignored ${note}");
+
+      final var registry = TemplateRegistry.builder().directory(directory, ".txt").build();
+
+      assertThat(registry.getIds()).containsExactlyInAnyOrder("mail/welcome", "mail/goodbye", "sms");
+      assertThat(registry.size()).isEqualTo(3);
+      assertThat(registry.contains("sms")).isTrue();
+      assertThat(registry.contains("notes")).isFalse();
+      assertThat(registry.format("mail/welcome", Map.of("firstName", "John", "lastName", "Doe"))).isEqualTo("Welcome John Doe");
+    }
+
+    @Test
+    void should_keep_extension_in_ids_when_loading_all_files() throws IOException {
+      write("sms.txt", "Code ${code}");
+
+      final var registry = TemplateRegistry.builder().directory(directory).build();
+
+      assertThat(registry.getIds()).containsExactly("sms.txt");
+    }
+
+    @Test
+    void should_load_templates_from_classpath_directory() throws IOException {
+      write("templates/mail/welcome.txt", "Welcome ${firstName}");
+
+      try (var classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+        final var registry = TemplateRegistry.builder().classpath(classLoader, "templates", ".txt").build();
+
+        assertThat(registry.format("mail/welcome", Map.of("firstName", "John"))).isEqualTo("Welcome John");
+      }
+    }
+
+    @Test
+    void should_load_templates_from_jar() throws IOException {
+      final var jar = directory.resolve("templates.jar");
+      try (var output = new JarOutputStream(Files.newOutputStream(jar))) {
+        output.putNextEntry(new JarEntry("templates/"));
+        output.putNextEntry(new JarEntry("templates/mail/"));
+        output.putNextEntry(new JarEntry("templates/mail/welcome.txt"));
+        output.write("Welcome ${firstName}".getBytes(StandardCharsets.UTF_8));
+      }
+
+      try (var classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+        final var registry = TemplateRegistry.builder().classpath(classLoader, "templates", ".txt").build();
+
+        assertThat(registry.format("mail/welcome", Map.of("firstName", "John"))).isEqualTo("Welcome John");
+      }
+    }
+
+    @Test
+    void should_read_large_templates_with_charset() throws IOException {
+      final var literal = "é".repeat((int) TemplateRegistry.MAPPING_THRESHOLD);
+      Files.writeString(directory.resolve("large.txt"), literal + "${value}", StandardCharsets.ISO_8859_1);
+
+      final var registry = TemplateRegistry.builder()
+        .directory(directory, ".txt")
+        .charset(StandardCharsets.ISO_8859_1)
+        .pool(new ForkJoinPool(2))
+        .build();
+
+      assertThat(registry.format("large", Map.of("value", "à"))).isEqualTo(literal + "à");
+    }
+
+    @Test
+    void should_compile_templates_with_configuration() {
+      final var registry = TemplateRegistry.builder()
+        .placeholderConfiguration(PlaceholderConfiguration.fromPrefixAndSuffix("#{", "}"))
+        .template("greeting", "Hello #{name} ${name}")
+        .build();
+
+      assertThat(registry.get("greeting").getPlaceholders()).containsExactly("name");
+      assertThat(registry.format("greeting", Map.of("name", "John"))).isEqualTo("Hello John ${name}");
+    }
+
+    @Test
+    void should_not_load_missing_classpath_directory() {
+      final var builder = TemplateRegistry.builder().classpath("missing-templates", ".txt");
+
+      assertThatExceptionOfType(PlaceholderFormatException.class)
+        .isThrownBy(builder::build)
+        .withMessage("Unable to find the classpath directory missing-templates");
+    }
+
+    @Test
+    void should_not_load_malformed_template() throws IOException {
+      Files.write(directory.resolve("malformed.txt"), new byte[]{(byte) 0xC3, (byte) 0x28});
+
+      final var builder = TemplateRegistry.builder().directory(directory, ".txt");
+
+      assertThatExceptionOfType(PlaceholderFormatException.class).isThrownBy(builder::build);
+    }
+  }
+
+  @Nested
+  class ValidationTest {
+
+    @Test
+    void should_accept_templates_using_declared_parameters() {
+      final var registry = TemplateRegistry.builder()
+        .template("welcome", "Welcome ${firstName} ${lastName}")
+        .declareParameters("welcome", "firstName", "lastName", "unused")
+        .build();
+
+      assertThat(registry.format("welcome", Map.of("firstName", "John", "lastName", "Doe"))).isEqualTo("Welcome John Doe");
+    }
+
+    @Test
+    void should_report_all_invalid_templates() throws IOException {
+      write("welcome.txt", "Welcome ${firstName} ${lastName} ${title}");
+      final var builder = TemplateRegistry.builder()
+        .directory(directory, ".txt")
+        .template("welcome", "Duplicated ${firstName}")
+        .template("goodbye", "Goodbye ${firstName}")
+        .declareParameters("welcome", List.of("firstName"))
+        .declareParameters("goodbye", "firstName")
+        .declareParameters("unknown", "firstName");
+
+      assertThatExceptionOfType(TemplateValidationException.class)
+        .isThrownBy(builder::build)
+        .satisfies(e -> assertThat(e.getErrors()).containsExactly(
+          "The template welcome is defined by both " + directory.resolve("welcome.txt").toUri() + " and a string format",
+          "The template welcome uses the undeclared parameters [lastName, title]",
+          "Parameters are declared for the unknown template unknown"));
+    }
+  }
+
+  @Nested
+  class RenderingTest {
+
+    private final TemplateRegistry registry = TemplateRegistry.builder()
+      .template("welcome", "Welcome ${firstName} ${lastName}")
+      .build();
+
+    @Test
+    void should_format_to_appendable() {
+      final var output = new StringBuilder();
+      registry.formatTo(output, "welcome", Map.of("firstName", "John", "lastName", "Doe"));
+      registry.formatIgnoringUnknownPlaceholdersTo(output.append(" / "), "welcome", Map.of("firstName", "Jane"));
+
+      assertThat(output).hasToString("Welcome John Doe / Welcome Jane ${lastName}");
+    }
+
+    @Test
+    void should_format_ignoring_unknown_placeholders() {
+      assertThat(registry.formatIgnoringUnknownPlaceholders("welcome", Map.of("firstName", "John"))).isEqualTo("Welcome John ${lastName}");
+    }
+
+    @Test
+    void should_not_format_unknown_template() {
+      assertThatExceptionOfType(TemplateNotFoundException.class)
+        .isThrownBy(() -> registry.format("unknown", Map.of()))
+        .withMessage("No template registered with the id unknown");
+      assertThatExceptionOfType(TemplateNotFoundException.class).isThrownBy(() -> registry.get(null));
+    }
+  }
+
+  private void write(String file, String content) throws IOException {
+    final var path = directory.resolve(file);
+    Files.createDirectories(path.getParent());
+    Files.writeString(path, content);
+  }
+}
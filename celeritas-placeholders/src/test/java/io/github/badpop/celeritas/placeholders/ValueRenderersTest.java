@@ -0,0 +1,104 @@
+package io.github.badpop.celeritas.placeholders;
+
+import io.vavr.control.Option;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class ValueRenderersTest {
+
+  @ParameterizedTest
+  @MethodSource("should_render_as_string_value_of_by_default_arguments")
+  void should_render_as_string_value_of_by_default(Object value) throws IOException {
+    final var builder = new StringBuilder();
+    final var writer = new StringWriter();
+
+    ValueRenderers.defaults().render(value, builder);
+    ValueRenderers.defaults().render(value, writer);
+
+    assertThat(builder).hasToString(String.valueOf(value));
+    assertThat(writer).hasToString(String.valueOf(value));
+  }
+
+  @Test
+  void should_use_renderer_of_nearest_type() throws IOException {
+    final var renderers = ValueRenderers.builder()
+      .register(Number.class, (value, output) -> output.append("number"))
+      .register(Iterable.class, (value, output) -> output.append("iterable"))
+      .build();
+
+    assertThat(render(renderers, new BigDecimal("1.5"))).isEqualTo("number");
+    assertThat(render(renderers, 12)).isEqualTo("12");
+    assertThat(render(renderers, List.of(1, 2))).isEqualTo("iterable");
+    assertThat(render(renderers, new StringBuilder("text"))).isEqualTo("text");
+  }
+
+  @Test
+  void should_render_provided_types() throws IOException {
+    final var renderers = ValueRenderers.builder()
+      .temporals(DateTimeFormatter.ofPattern("dd/MM/yyyy"))
+      .plainBigDecimals()
+      .enumNames()
+      .optionalValues("-")
+      .build();
+
+    assertThat(render(renderers, LocalDate.of(2023, 4, 5))).isEqualTo("05/04/2023");
+    assertThat(render(renderers, new BigDecimal("1E+3"))).isEqualTo("1000");
+    assertThat(render(renderers, Level.HIGH)).isEqualTo("HIGH");
+    assertThat(render(renderers, TimeUnit.SECONDS)).isEqualTo("SECONDS");
+    assertThat(render(renderers, Option.of(new BigDecimal("1E+3")))).isEqualTo("1000");
+    assertThat(render(renderers, Option.none())).isEqualTo("-");
+    assertThat(render(renderers, Optional.of(Option.of(Level.LOW)))).isEqualTo("LOW");
+    assertThat(render(renderers, Optional.empty())).isEqualTo("-");
+  }
+
+  @Test
+  void should_not_change_default_renderers() throws IOException {
+    ValueRenderers.builder().enumNames().optionalValues("-").build();
+
+    assertThat(render(ValueRenderers.defaults(), Level.HIGH)).isEqualTo("high");
+    assertThat(render(ValueRenderers.defaults(), Option.none())).isEqualTo("None");
+  }
+
+  @Test
+  void should_not_register_null_renderer() {
+    final var builder = ValueRenderers.builder();
+
+    assertThatIllegalArgumentException().isThrownBy(() -> builder.register(String.class, null));
+    assertThatIllegalArgumentException().isThrownBy(() -> builder.optionalValues(null));
+  }
+
+  private static String render(ValueRenderers renderers, Object value) throws IOException {
+    final var output = new StringBuilder();
+    renderers.render(value, output);
+    return output.toString();
+  }
+
+  private static Stream<Object> should_render_as_string_value_of_by_default_arguments() {
+    return Stream.of("text", new StringBuilder("builder"), 42, -7L, (short) 3, (byte) -1, 0.1, 0.1f, Double.NaN, true, 'c',
+      new BigDecimal("1E+3"), LocalDate.of(2023, 4, 5), Level.HIGH, Option.of(1), List.of("a", "b"));
+  }
+
+  private enum Level {
+    LOW,
+    HIGH {
+      @Override
+      public String toString() {
+        return "high";
+      }
+    }
+  }
+}